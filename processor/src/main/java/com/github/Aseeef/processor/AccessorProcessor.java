@@ -0,0 +1,264 @@
+package com.github.Aseeef.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Generates a {@code GeneratedAccessor} for every type annotated with {@code GenerateAccessor}. The generated class
+ * lives in the package of the annotated type, so it can call/access all of its public, protected and package private
+ * members directly. Private members can't be reached from outside of the type's own nest, so they are left to the
+ * usual reflective fallback.
+ */
+@SupportedAnnotationTypes(AccessorProcessor.ANNOTATION)
+public class AccessorProcessor extends AbstractProcessor {
+
+    static final String ANNOTATION = "com.github.Aseeef.generated.GenerateAccessor";
+    private static final String ACCESSOR_INTERFACE = "com.github.Aseeef.generated.GeneratedAccessor";
+    // unboxes and widens the values passed to primitive parameters/fields, like reflections do
+    private static final String CONVERSIONS = "com.github.Aseeef.generated.PrimitiveConversions";
+    // has to match GeneratedAccessors#CLASS_NAME_SUFFIX
+    private static final String CLASS_NAME_SUFFIX = "$JarAccessor";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() == ElementKind.ANNOTATION_TYPE || !(element instanceof TypeElement)) {
+                    continue;
+                }
+                TypeElement type = (TypeElement) element;
+                if (!isReachable(type)) {
+                    processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                            "No accessor can be generated for a private or local type", type);
+                    continue;
+                }
+                try {
+                    generate(type);
+                } catch (IOException ex) {
+                    processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                            "Failed to generate the accessor: " + ex.getMessage(), type);
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return whether code in the same package can refer to the type
+     */
+    private static boolean isReachable(TypeElement type) {
+        for (Element element = type; element instanceof TypeElement; element = element.getEnclosingElement()) {
+            TypeElement current = (TypeElement) element;
+            if (current.getModifiers().contains(Modifier.PRIVATE)
+                    || current.getNestingKind() == NestingKind.LOCAL || current.getNestingKind() == NestingKind.ANONYMOUS) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void generate(TypeElement type) throws IOException {
+        PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(type);
+        String packageName = packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+        String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+        String accessorName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1)) + CLASS_NAME_SUFFIX;
+        String typeName = type.getQualifiedName().toString();
+
+        List<ExecutableElement> executables = new ArrayList<>();
+        // constructors of abstract classes, enums and (non-static) inner classes can't simply be called
+        boolean instantiable = type.getKind() == ElementKind.CLASS && !type.getModifiers().contains(Modifier.ABSTRACT)
+                && (type.getNestingKind() == NestingKind.TOP_LEVEL || type.getModifiers().contains(Modifier.STATIC));
+        if (instantiable) {
+            for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+                if (!constructor.getModifiers().contains(Modifier.PRIVATE)) {
+                    executables.add(constructor);
+                }
+            }
+        }
+        for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+            if (!method.getModifiers().contains(Modifier.PRIVATE)) {
+                executables.add(method);
+            }
+        }
+        List<VariableElement> fields = new ArrayList<>();
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            if (!field.getModifiers().contains(Modifier.PRIVATE)) {
+                fields.add(field);
+            }
+        }
+
+        try (PrintWriter out = new PrintWriter(processingEnv.getFiler().createSourceFile(
+                packageName.isEmpty() ? accessorName : packageName + "." + accessorName, type).openWriter())) {
+            if (!packageName.isEmpty()) {
+                out.println("package " + packageName + ";");
+                out.println();
+            }
+            out.println("@javax.annotation.processing.Generated(\"" + AccessorProcessor.class.getName() + "\")");
+            out.println("@SuppressWarnings({\"unchecked\", \"rawtypes\", \"deprecation\"})");
+            out.println("public final class " + accessorName + " implements " + ACCESSOR_INTERFACE + " {");
+            out.println();
+
+            out.println("    @Override");
+            out.println("    public int indexOf(String memberKey) {");
+            out.println("        switch (memberKey) {");
+            for (int i = 0; i < executables.size(); i++) {
+                out.println("            case \"" + keyOf(executables.get(i)) + "\": return " + i + ";");
+            }
+            for (int i = 0; i < fields.size(); i++) {
+                out.println("            case \"" + fields.get(i).getSimpleName() + "\": return " + i + ";");
+            }
+            out.println("            default: return -1;");
+            out.println("        }");
+            out.println("    }");
+            out.println();
+
+            out.println("    @Override");
+            out.println("    public Object invoke(int index, Object target, Object[] arguments) throws java.lang.reflect.InvocationTargetException {");
+            out.println("        switch (index) {");
+            for (int i = 0; i < executables.size(); i++) {
+                ExecutableElement executable = executables.get(i);
+                out.println("            case " + i + ": {");
+                List<? extends VariableElement> parameters = executable.getParameters();
+                // convert the target and arguments before the call, so conversion errors are never mistaken for errors of the target
+                StringBuilder arguments = new StringBuilder();
+                for (int p = 0; p < parameters.size(); p++) {
+                    TypeMirror parameterType = parameters.get(p).asType();
+                    out.println("                " + sourceName(parameterType) + " a" + p + " = " + conversion(parameterType, "arguments[" + p + "]") + ";");
+                    arguments.append(p == 0 ? "" : ", ").append('a').append(p);
+                }
+                String call;
+                if (executable.getKind() == ElementKind.CONSTRUCTOR) {
+                    call = "new " + typeName + "(" + arguments + ")";
+                } else if (executable.getModifiers().contains(Modifier.STATIC)) {
+                    call = typeName + "." + executable.getSimpleName() + "(" + arguments + ")";
+                } else {
+                    out.println("                " + typeName + " instance = (" + typeName + ") target;");
+                    call = "instance." + executable.getSimpleName() + "(" + arguments + ")";
+                }
+                out.println("                try {");
+                if (executable.getKind() == ElementKind.METHOD && executable.getReturnType().getKind() == TypeKind.VOID) {
+                    out.println("                    " + call + ";");
+                    out.println("                    return null;");
+                } else {
+                    out.println("                    return " + call + ";");
+                }
+                out.println("                } catch (Throwable ex) {");
+                out.println("                    throw new java.lang.reflect.InvocationTargetException(ex);");
+                out.println("                }");
+                out.println("            }");
+            }
+            out.println("            default: throw new IllegalArgumentException(\"No code was generated for the executable \" + index);");
+            out.println("        }");
+            out.println("    }");
+            out.println();
+
+            out.println("    @Override");
+            out.println("    public Object get(int index, Object target) {");
+            out.println("        switch (index) {");
+            for (int i = 0; i < fields.size(); i++) {
+                out.println("            case " + i + ": return " + fieldReference(typeName, fields.get(i)) + ";");
+            }
+            out.println("            default: throw new IllegalArgumentException(\"No code was generated for the field \" + index);");
+            out.println("        }");
+            out.println("    }");
+            out.println();
+
+            out.println("    @Override");
+            out.println("    public void set(int index, Object target, Object value) {");
+            out.println("        switch (index) {");
+            for (int i = 0; i < fields.size(); i++) {
+                VariableElement field = fields.get(i);
+                if (field.getModifiers().contains(Modifier.FINAL)) continue;
+                out.println("            case " + i + ": " + fieldReference(typeName, field) + " = " + conversion(field.asType(), "value") + "; return;");
+            }
+            out.println("            default: throw new IllegalArgumentException(\"No code was generated for setting the field \" + index);");
+            out.println("        }");
+            out.println("    }");
+            out.println();
+            out.println("}");
+        }
+    }
+
+    private static String fieldReference(String typeName, VariableElement field) {
+        return field.getModifiers().contains(Modifier.STATIC)
+                ? typeName + "." + field.getSimpleName()
+                : "((" + typeName + ") target)." + field.getSimpleName();
+    }
+
+    /**
+     * The key of the executable, which has to match GeneratedAccessors#keyOf: its name (or {@code <init>}) followed by
+     * the binary names of its (erased) parameter types.
+     */
+    private String keyOf(ExecutableElement executable) {
+        StringBuilder key = new StringBuilder(executable.getKind() == ElementKind.CONSTRUCTOR ? "<init>" : executable.getSimpleName().toString()).append('(');
+        List<? extends VariableElement> parameters = executable.getParameters();
+        for (int i = 0; i < parameters.size(); i++) {
+            if (i > 0) key.append(',');
+            key.append(binaryName(parameters.get(i).asType()));
+        }
+        return key.append(')').toString();
+    }
+
+    private String binaryName(TypeMirror type) {
+        TypeMirror erased = processingEnv.getTypeUtils().erasure(type);
+        if (erased.getKind() == TypeKind.ARRAY) {
+            return binaryName(((ArrayType) erased).getComponentType()) + "[]";
+        } else if (erased.getKind() == TypeKind.DECLARED) {
+            return processingEnv.getElementUtils().getBinaryName((TypeElement) ((DeclaredType) erased).asElement()).toString();
+        }
+        return erased.getKind().name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * @return the expression converting the value to the type: a cast for reference types, and an unboxing (and
+     * widening) conversion for primitive types since a cast wouldn't widen
+     */
+    private String conversion(TypeMirror type, String value) {
+        if (type.getKind().isPrimitive()) {
+            String name = type.getKind().name().toLowerCase(Locale.ROOT);
+            return CONVERSIONS + ".to" + Character.toUpperCase(name.charAt(0)) + name.substring(1) + "(" + value + ")";
+        }
+        return "(" + sourceName(type) + ") " + value;
+    }
+
+    /**
+     * @return the erased type as it is written in source code (without any type annotations)
+     */
+    private String sourceName(TypeMirror type) {
+        TypeMirror erased = processingEnv.getTypeUtils().erasure(type);
+        if (erased.getKind() == TypeKind.ARRAY) {
+            return sourceName(((ArrayType) erased).getComponentType()) + "[]";
+        } else if (erased.getKind() == TypeKind.DECLARED) {
+            return ((TypeElement) ((DeclaredType) erased).asElement()).getQualifiedName().toString();
+        }
+        return erased.getKind().name().toLowerCase(Locale.ROOT);
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.github.Aseeef.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Runs the benchmarks with 1, 4 and (the number of available processors) threads, with the GC profiler enabled so the
+ * allocation rate per operation is reported as well.
+ * <p>
+ * Usage: {@code ./gradlew jmh [-PjmhInclude=<regex>]}
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws RunnerException {
+        String include = args.length > 0 ? args[0] : BenchmarkRunner.class.getPackage().getName() + ".*";
+        Set<Integer> threadCounts = new LinkedHashSet<>();
+        threadCounts.add(1);
+        threadCounts.add(4);
+        threadCounts.add(Runtime.getRuntime().availableProcessors());
+        for (int threads : threadCounts) {
+            Options options = new OptionsBuilder()
+                    .include(include)
+                    .threads(threads)
+                    .addProfiler(GCProfiler.class)
+                    .build();
+            new Runner(options).run();
+        }
+    }
+
+}
@@ -0,0 +1,40 @@
+package com.github.Aseeef.benchmark;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The class the benchmarks reflect on.
+ */
+public class BenchmarkTarget {
+
+    private int counter;
+    private String name = "target";
+    private List<String> names;
+    private Map<String, Integer> ids;
+
+    public BenchmarkTarget() {
+    }
+
+    public BenchmarkTarget(String name, Integer counter) {
+        this.name = name;
+        this.counter = counter;
+    }
+
+    public String echo(String s) {
+        return s;
+    }
+
+    public int add(Integer a, Integer b) {
+        return a + b;
+    }
+
+    public int multiply(int a, int b) {
+        return a * b;
+    }
+
+    public static String staticEcho(String s) {
+        return s;
+    }
+
+}
@@ -0,0 +1,69 @@
+package com.github.Aseeef.benchmark;
+
+import com.github.Aseeef.cache.AseefianCache;
+import com.github.Aseeef.cache.CaffeinatedCache;
+import com.github.Aseeef.cache.ConcurrentCache;
+import com.github.Aseeef.cache.VanillaCache;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the cache implementations under a read heavy load (about 1 in 16 operations is a write), which is what
+ * the library's caches see once they are warm.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheBenchmark {
+
+    private static final int CACHE_SIZE = 10_000;
+    // larger than the cache so that some reads miss and some writes evict
+    private static final int KEY_SPACE = CACHE_SIZE * 2;
+
+    @Param({"vanilla", "caffeine", "concurrent"})
+    public String cacheType;
+
+    private AseefianCache<Integer, Integer> cache;
+    private Integer[] keys;
+
+    @Setup
+    public void setup() {
+        switch (cacheType) {
+            case "vanilla":
+                cache = new VanillaCache<>(CACHE_SIZE);
+                break;
+            case "caffeine":
+                cache = new CaffeinatedCache<>(CACHE_SIZE);
+                break;
+            case "concurrent":
+                cache = new ConcurrentCache<>(CACHE_SIZE);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown cache type " + cacheType);
+        }
+        keys = new Integer[KEY_SPACE];
+        for (int i = 0; i < KEY_SPACE; i++) {
+            keys[i] = i;
+            if (i < CACHE_SIZE) {
+                cache.put(keys[i], i);
+            }
+        }
+    }
+
+    @Benchmark
+    public Integer readMostly() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Integer key = keys[random.nextInt(KEY_SPACE)];
+        if ((random.nextInt() & 15) == 0) {
+            cache.put(key, key);
+            return key;
+        }
+        return cache.getIfPresent(key);
+    }
+
+}
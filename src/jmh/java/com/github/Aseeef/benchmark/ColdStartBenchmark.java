@@ -0,0 +1,37 @@
+package com.github.Aseeef.benchmark;
+
+import com.github.Aseeef.JARConfig;
+import com.github.Aseeef.JavaAseefianReflections;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The cost of the very first call of a method through the library, in a fresh JVM: besides filling the caches, this
+ * indexes the members of the class and looks for its generated accessor. Every fork measures a single call, as any
+ * further call would find all of that already done.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class ColdStartBenchmark {
+
+    private JavaAseefianReflections jar;
+    private BenchmarkTarget target;
+
+    @Setup
+    public void setup() {
+        // nothing is looked up here, so the benchmark makes the first lookups of the JVM
+        jar = JavaAseefianReflections.init(new JARConfig());
+        target = new BenchmarkTarget();
+    }
+
+    @Benchmark
+    public String invokeMethod() {
+        return jar.invokeMethod(target, "echo", "benchmark");
+    }
+
+}
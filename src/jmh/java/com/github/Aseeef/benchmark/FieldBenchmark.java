@@ -0,0 +1,54 @@
+package com.github.Aseeef.benchmark;
+
+import com.github.Aseeef.JARConfig;
+import com.github.Aseeef.JavaAseefianReflections;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The cost of reading, writing and searching fields through plain reflections and through the library.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FieldBenchmark {
+
+    private JavaAseefianReflections jar;
+    private BenchmarkTarget target;
+    private Field nameField;
+
+    @Setup
+    public void setup() throws NoSuchFieldException {
+        jar = JavaAseefianReflections.init(new JARConfig());
+        target = new BenchmarkTarget();
+        nameField = BenchmarkTarget.class.getDeclaredField("name");
+        nameField.setAccessible(true);
+    }
+
+    @Benchmark
+    public Object fieldGet() throws IllegalAccessException {
+        return nameField.get(target);
+    }
+
+    @Benchmark
+    public String getFieldValue() {
+        return jar.getFieldValue(target, "name");
+    }
+
+    @Benchmark
+    public BenchmarkTarget setFieldValue() {
+        return jar.setFieldValue(target, "name", "benchmark");
+    }
+
+    @Benchmark
+    public Field[] getFieldsByType() {
+        return jar.getFieldsByType(BenchmarkTarget.class, List.class, false);
+    }
+
+}
@@ -0,0 +1,101 @@
+package com.github.Aseeef.benchmark;
+
+import com.github.Aseeef.JARConfig;
+import com.github.Aseeef.JavaAseefianReflections;
+import com.github.Aseeef.invoker.BoundMethod;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The cost of calling a method (and constructor) directly, through plain reflections and through the library.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InvocationBenchmark {
+
+    private JavaAseefianReflections jar;
+    private BenchmarkTarget target;
+    private Method echoMethod;
+    private Object[] echoParameters;
+    private BoundMethod multiply;
+    private int factor = 6;
+
+    @Setup
+    public void setup() throws NoSuchMethodException {
+        jar = JavaAseefianReflections.init(new JARConfig());
+        target = new BenchmarkTarget();
+        echoMethod = BenchmarkTarget.class.getDeclaredMethod("echo", String.class);
+        echoParameters = new Object[]{"benchmark"};
+        // warm up the caches for the warm benchmarks
+        jar.invokeMethod(target, "echo", echoParameters);
+        multiply = jar.bindMethod(BenchmarkTarget.class, "multiply", int.class, int.class);
+    }
+
+    /**
+     * Holds a separate instance for the cache miss benchmarks, so clearing its caches doesn't affect the warm benchmarks.
+     * Only the caches of the instance are cleared: the member indexes and generated accessors of the classes stay
+     * warm, so this is not a cold start (see {@link ColdStartBenchmark} for that).
+     */
+    @State(Scope.Thread)
+    public static class CacheMissState {
+        private JavaAseefianReflections jar;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            jar = JavaAseefianReflections.init(new JARConfig());
+        }
+
+        @Setup(Level.Invocation)
+        public void invalidate() {
+            jar.invalidateCaches();
+        }
+    }
+
+    @Benchmark
+    public String directCall() {
+        return target.echo("benchmark");
+    }
+
+    @Benchmark
+    public Object methodInvoke() throws InvocationTargetException, IllegalAccessException {
+        return echoMethod.invoke(target, echoParameters);
+    }
+
+    @Benchmark
+    public String invokeMethodWarm() {
+        return jar.invokeMethod(target, "echo", echoParameters);
+    }
+
+    @Benchmark
+    public String invokeMethodCacheMiss(CacheMissState cacheMiss) {
+        return cacheMiss.jar.invokeMethod(target, "echo", echoParameters);
+    }
+
+    @Benchmark
+    public String invokeStaticMethod() {
+        return jar.invokeStaticMethod(BenchmarkTarget.class, "staticEcho", echoParameters);
+    }
+
+    @Benchmark
+    public int boundBoxed() {
+        return multiply.<Integer>invoke2(target, factor, factor);
+    }
+
+    @Benchmark
+    public int boundPrimitive() {
+        return multiply.invokeInt(target, factor, factor);
+    }
+
+    @Benchmark
+    public BenchmarkTarget newInstance() {
+        return jar.newInstance(BenchmarkTarget.class, "benchmark", 42);
+    }
+
+}
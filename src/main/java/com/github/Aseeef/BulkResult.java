@@ -0,0 +1,93 @@
+package com.github.Aseeef;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The outcome of a bulk call or field access (see {@link JavaAseefianReflections#invokeOnAll(java.util.Collection, String, Object...)}),
+ * holding the result or the failure of every target in the iteration order of the targets. A failure of one target
+ * never stops the others from being processed.
+ */
+public class BulkResult<T> {
+
+    private final Object[] results;
+    // null for the targets which succeeded
+    private final @Nullable RuntimeException[] failures;
+    private final int failureCount;
+
+    BulkResult(Object[] results, @Nullable RuntimeException[] failures) {
+        this.results = results;
+        this.failures = failures;
+        int failureCount = 0;
+        for (RuntimeException failure : failures) {
+            if (failure != null) failureCount++;
+        }
+        this.failureCount = failureCount;
+    }
+
+    /**
+     * @return the number of targets
+     */
+    public int size() {
+        return results.length;
+    }
+
+    public boolean isSuccess(int index) {
+        return failures[index] == null;
+    }
+
+    /**
+     * @param index the index of the target
+     * @return the result of the target
+     * @throws RuntimeException the failure of the target, if it failed
+     */
+    @SuppressWarnings("unchecked")
+    public @Nullable T getResult(int index) {
+        RuntimeException failure = failures[index];
+        if (failure != null) {
+            throw failure;
+        }
+        return (T) results[index];
+    }
+
+    /**
+     * @param index the index of the target
+     * @return the failure of the target, or null if it succeeded
+     */
+    public @Nullable RuntimeException getFailure(int index) {
+        return failures[index];
+    }
+
+    /**
+     * @return the results of all the targets, where the failed targets have a null result
+     */
+    @SuppressWarnings("unchecked")
+    public List<T> getResults() {
+        return Collections.unmodifiableList((List<T>) Arrays.asList(results.clone()));
+    }
+
+    /**
+     * @return the failures by the index of their target, in ascending order of the index
+     */
+    public Map<Integer, RuntimeException> getFailures() {
+        Map<Integer, RuntimeException> failuresByIndex = new LinkedHashMap<>();
+        for (int i = 0; i < failures.length; i++) {
+            if (failures[i] != null) failuresByIndex.put(i, failures[i]);
+        }
+        return Collections.unmodifiableMap(failuresByIndex);
+    }
+
+    public int getFailureCount() {
+        return failureCount;
+    }
+
+    public boolean hasFailures() {
+        return failureCount > 0;
+    }
+
+}
@@ -0,0 +1,14 @@
+package com.github.Aseeef;
+
+/**
+ * How {@link JavaAseefianReflections#deepCopy(Object)} copies the instances of a type.
+ * The strategy of a type can be changed with {@link JARConfig#setCopyStrategy(Class, CopyStrategy)}.
+ */
+public enum CopyStrategy {
+    // copy the object and (recursively) everything it references
+    DEEP,
+    // share the object itself between the original and the copy
+    SHALLOW,
+    // leave the references to the object out of the copy (they are null in the copy)
+    SKIP,
+}
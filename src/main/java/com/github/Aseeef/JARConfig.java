@@ -2,6 +2,11 @@ package com.github.Aseeef;
 
 import lombok.Setter;
 import lombok.experimental.Accessors;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 
 @Setter @Accessors(chain = true)
 public class JARConfig {
@@ -9,6 +14,20 @@ public class JARConfig {
     protected int executableCacheSize = 10000;
     protected int fieldCacheSize = 2000;
     protected boolean useCaffeineCache = false;
+    // remember lookups of methods/constructors/fields which don't exist, so repeating them fails fast instead of rescanning the class hierarchy
+    protected boolean cacheFailedLookups = true;
+    protected int failedLookupCacheSize = 1000;
+    // how long a failed lookup is remembered for; a negative value means until the caches are invalidated
+    protected long failedLookupTtlMillis = -1;
+    // emit Java Flight Recorder events for lookups/invocations which take at least this long (0 to emit all of them)
+    // a negative value turns the events off entirely, which is then (almost) free
+    protected long jfrLookupThresholdMillis = -1;
+    protected long jfrInvocationThresholdMillis = -1;
+    // use the dependency free ConcurrentCache (lock free reads) rather than a synchronized LRU map when caffeine isn't used
+    protected boolean useConcurrentCache = false;
+    // keep the cached lookups of every class loader apart, so they are released along with the class loader once it's unloaded
+    // (each class loader then gets caches of the configured sizes); useful when class loaders are discarded, like plugins being reloaded
+    protected boolean partitionCachesByClassLoader = false;
     protected boolean allowAccessingInheritedFields = false;
     protected boolean allowAccessingInheritedMethods = false;
     // specifically involving super classes with different implementation for the same method
@@ -24,5 +43,24 @@ public class JARConfig {
     // 2. The JVM may optimize final static fields, so changes might not always be reflected as expected.
     // 3. This approach relies on internal details of the Field class and might not be compatible with future versions of Java or certain JVM implementations.
     protected boolean allowModifyFinalStaticFields = false;
+    // invoke methods and constructors through a MethodHandle instead of Method#invoke/Constructor#newInstance
+    // the handle is only created once per method/constructor, so the first call is slower but every call afterwards is faster
+    protected boolean useMethodHandleInvokers = false;
+    // call/access the members of classes annotated with @GenerateAccessor through the code generated for them at compile time
+    // (only takes effect when the processor module was on the annotation processor path)
+    protected boolean useGeneratedAccessors = true;
+    // bulk calls/accesses (invokeOnAll, getFieldValueOfAll) on at least this many targets are split up over the bulk pool,
+    // in ranges of fewer than this many targets; smaller ones just run on the calling thread
+    protected int bulkParallelismThreshold = 1024;
+    // the pool bulk calls/accesses are split up over; the common ForkJoinPool if not set
+    protected @Nullable ForkJoinPool bulkPool = null;
+    // how deepCopy copies the instances of specific types (and their subtypes); all other types are copied deeply,
+    // except for the well known immutable types (strings, boxed primitives, enums, ...) which are always shared
+    protected Map<Class<?>, CopyStrategy> copyStrategies = new HashMap<>();
+
+    public JARConfig setCopyStrategy(Class<?> type, CopyStrategy strategy) {
+        copyStrategies.put(type, strategy);
+        return this;
+    }
 
 }
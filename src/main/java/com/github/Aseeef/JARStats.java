@@ -0,0 +1,42 @@
+package com.github.Aseeef;
+
+import com.github.Aseeef.cache.CacheStats;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * A snapshot of the statistics of each of the caches used by {@link JavaAseefianReflections}.
+ */
+@Getter
+@ToString
+public class JARStats {
+
+    // resolved methods and constructors (sized by executableCacheSize)
+    private final CacheStats executableCacheStats;
+    // resolved fields (sized by fieldCacheSize)
+    private final CacheStats fieldCacheStats;
+    // invokers of the resolved methods and constructors (sized by executableCacheSize)
+    private final CacheStats invokerCacheStats;
+    // accessors of the resolved fields (sized by fieldCacheSize)
+    private final CacheStats fieldAccessorCacheStats;
+    // plans of the bulk field accesses (sized by fieldCacheSize)
+    private final CacheStats fieldPlanCacheStats;
+    // schemas of the classes mapped to and from maps (sized by fieldCacheSize)
+    private final CacheStats mapperSchemaCacheStats;
+    // plans of how deepCopy copies each class (sized by fieldCacheSize)
+    private final CacheStats copyPlanCacheStats;
+    // remembered failed lookups (sized by failedLookupCacheSize)
+    private final CacheStats failedLookupCacheStats;
+
+    JARStats(CacheStats executableCacheStats, CacheStats fieldCacheStats, CacheStats invokerCacheStats, CacheStats fieldAccessorCacheStats, CacheStats fieldPlanCacheStats, CacheStats mapperSchemaCacheStats, CacheStats copyPlanCacheStats, CacheStats failedLookupCacheStats) {
+        this.executableCacheStats = executableCacheStats;
+        this.fieldCacheStats = fieldCacheStats;
+        this.invokerCacheStats = invokerCacheStats;
+        this.fieldAccessorCacheStats = fieldAccessorCacheStats;
+        this.fieldPlanCacheStats = fieldPlanCacheStats;
+        this.mapperSchemaCacheStats = mapperSchemaCacheStats;
+        this.copyPlanCacheStats = copyPlanCacheStats;
+        this.failedLookupCacheStats = failedLookupCacheStats;
+    }
+
+}
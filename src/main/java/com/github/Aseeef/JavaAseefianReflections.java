@@ -1,11 +1,22 @@
 package com.github.Aseeef;
 
+import com.github.Aseeef.dispatch.MemberDispatcher;
+import com.github.Aseeef.field.FieldAccessor;
+import com.github.Aseeef.invoker.BoundConstructor;
+import com.github.Aseeef.invoker.BoundMethod;
+import com.github.Aseeef.invoker.BoundStaticMethod;
 import lombok.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.io.IOException;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 public interface JavaAseefianReflections {
 
@@ -22,11 +33,41 @@ public interface JavaAseefianReflections {
      * Get an enum object from the class of the enum and the string value of the enum
      *
      * @param clazz    the class this enum belongs to
-     * @param enumName the case-insensitive string id of the enum
+     * @param enumName the (case-sensitive) name of the enum constant
      * @return the enum
      */
     public @NonNull Enum<?> getEnum(Class<?> clazz, String enumName);
 
+    /**
+     * Find an enum constant by its name. Unlike {@link JavaAseefianReflections#getEnum(Class, String)} a missing
+     * constant isn't an error, which makes this suitable for parsing untrusted input.
+     *
+     * @param clazz      the class of the enum
+     * @param enumName   the name of the enum constant
+     * @param ignoreCase whether the case of the name doesn't matter
+     * @return the enum constant, or an empty optional if there is no such constant
+     */
+    public <E extends Enum<E>> Optional<E> findEnum(@NonNull Class<E> clazz, @NonNull String enumName, boolean ignoreCase);
+
+    /**
+     * Find an enum constant by its ordinal.
+     *
+     * @param clazz   the class of the enum
+     * @param ordinal the ordinal of the enum constant
+     * @return the enum constant, or an empty optional if the ordinal is out of range
+     */
+    public <E extends Enum<E>> Optional<E> findEnum(@NonNull Class<E> clazz, int ordinal);
+
+    /**
+     * Get several enum constants by their (case-sensitive) names at once.
+     *
+     * @param clazz     the class of the enum
+     * @param enumNames the names of the enum constants
+     * @return the enum constants, in the same order as the names
+     * @throws ReflectiveAseefianException (ENUM_NOT_FOUND) if any of the names isn't a constant of the enum
+     */
+    public <E extends Enum<E>> List<E> getEnums(@NonNull Class<E> clazz, @NonNull Collection<String> enumNames);
+
     /**
      * Invoke a method on the specific object.
      * {@apiNote Though this method is convenient, it may be substantially slower than
@@ -58,6 +99,64 @@ public interface JavaAseefianReflections {
 
     public <T> T invokeStaticMethod(Class<?> objectType, String methodName, Object... parameters);
 
+    /**
+     * Invoke the same method on every one of the targets, like {@link JavaAseefianReflections#invokeMethod(Object, String, Object...)}
+     * would. The method is only resolved once for each distinct class of the targets. When there are at least
+     * {@code bulkParallelismThreshold} targets, the calls are split up over the configured {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param targets    the objects on which to call the method
+     * @param methodName the name of the method which to call
+     * @param parameters the parameters which to pass into every call (which must be safe to share between threads)
+     * @return the result or the failure of every call, in the iteration order of the targets
+     */
+    public <T> BulkResult<T> invokeOnAll(@NonNull Collection<?> targets, @NonNull String methodName, Object... parameters);
+
+    /**
+     * Get the dispatcher of the specified class. The first call for a class generates a class at runtime that
+     * directly calls/accesses all the members of the specified class. Members are then resolved to an index once, and
+     * every call through that index skips reflections entirely. Intended for classes whose members are used very heavily.
+     * {@apiNote Private members are only called directly on Java 15 or higher. On older versions of Java they
+     * fall back to the regular (cached) invokers.}
+     *
+     * @param clazz the class whose members to dispatch to
+     * @return the dispatcher for this class
+     */
+    public MemberDispatcher getDispatcher(@NonNull Class<?> clazz);
+
+    /**
+     * Look up an instance method once and bind it to a handle which can then be invoked any number of times.
+     * Unlike {@link JavaAseefianReflections#invokeMethod(Object, String, Object...)}, calls through the handle skip
+     * the lookup entirely, and its fixed arity entry points ({@code invoke0} to {@code invoke6}) don't allocate an
+     * argument array. Hence, this is preferable for methods that are called very frequently.
+     *
+     * @param clazz          the class of the objects on which the method will be invoked (super classes are searched too)
+     * @param methodName     the name of the method
+     * @param parameterTypes the parameter types of the method
+     * @return the bound method
+     */
+    public BoundMethod bindMethod(@NonNull Class<?> clazz, @NonNull String methodName, Class<?>... parameterTypes);
+
+    /**
+     * Look up a static method once and bind it to a handle which can then be invoked any number of times.
+     *
+     * @param clazz          the class where the method lives
+     * @param methodName     the name of the method
+     * @param parameterTypes the parameter types of the method
+     * @return the bound method
+     * @see JavaAseefianReflections#bindMethod(Class, String, Class[])
+     */
+    public BoundStaticMethod bindStatic(@NonNull Class<?> clazz, @NonNull String methodName, Class<?>... parameterTypes);
+
+    /**
+     * Look up a constructor once and bind it to a handle which can then be invoked any number of times.
+     *
+     * @param clazz          the class which to instantiate
+     * @param parameterTypes the parameter types of the constructor
+     * @return the bound constructor
+     * @see JavaAseefianReflections#bindMethod(Class, String, Class[])
+     */
+    public <T> BoundConstructor<T> bindConstructor(@NonNull Class<T> clazz, Class<?>... parameterTypes);
+
     public @NonNull Method getMethodByNameAndParams(@NonNull Class<?> exactObjectType, @NonNull String methodName, Class<?>... parameterTypes);
 
     /**
@@ -72,7 +171,7 @@ public interface JavaAseefianReflections {
     public @NonNull Method getMethodByReturnTypeAndParams(@NonNull Class<?> exactObjectType, @NonNull Class<?> methodReturnType, Class<?>... parameterTypes);
 
     /**
-     * Get a list of methods in the order they occur in the source code using the class, return type, and parameter types of the method.
+     * Get a list of methods using the class, return type, and parameter types of the method, ordered from the most to the least specific.
      * @param exactObjectType - the class where the method lives
      * @param methodReturnType - the method's return type
      * @param parameterTypes the parameters with method accepts
@@ -99,6 +198,17 @@ public interface JavaAseefianReflections {
      */
     public Field[] getFieldsByType(Class<?> clazz, Class<?> fieldType, boolean exactType);
 
+    /**
+     * Get all fields (including static fields) that are of the specified type, optionally including the fields of the
+     * super classes (which then come after the fields of the class itself, closest super class first)
+     * @param clazz - the class where the field lives
+     * @param fieldType - the type of the field
+     * @param exactType - whether the fields must have exactly the type, rather than a type assignable to it (a subclass or an implementation)
+     * @param includeInherited - whether the fields of the super classes are included
+     * @return An ordered array of fields that match the specified field type
+     */
+    public Field[] getFieldsByType(@NonNull Class<?> clazz, @NonNull Class<?> fieldType, boolean exactType, boolean includeInherited);
+
     /**
      * Get the fields (possibly a static fields) with the specified type.
      * Unlike {@link JavaAseefianReflections#getFieldsByType(Class, Class, boolean)} if no match is found, an error will be thrown.
@@ -110,6 +220,17 @@ public interface JavaAseefianReflections {
      */
     public Field getFieldByType(Class<?> clazz, Class<?> fieldType, boolean exactType);
 
+    /**
+     * Same as {@link JavaAseefianReflections#getFieldByType(Class, Class, boolean)}, but optionally including the
+     * fields of the super classes.
+     * @param clazz - the class where the field lives
+     * @param fieldType - the type of the field
+     * @param exactType - whether the field must have exactly the type, rather than a type assignable to it
+     * @param includeInherited - whether the fields of the super classes are included
+     * @return the matching field
+     */
+    public Field getFieldByType(@NonNull Class<?> clazz, @NonNull Class<?> fieldType, boolean exactType, boolean includeInherited);
+
     /**
      * Gets a field in a class from the field name.
      * @param clazz the class which this field is in
@@ -150,6 +271,101 @@ public interface JavaAseefianReflections {
      */
     public <K, V> K setFieldValue(K obj, @NonNull Class<?> clazz, @NonNull String field, @Nullable V value);
 
+    /**
+     * Gets a cached accessor for the specified field. Unlike {@link JavaAseefianReflections#getFieldValue(Object, Class, String)}
+     * and {@link JavaAseefianReflections#setFieldValue(Object, Class, String, Object)}, the field is only looked up once,
+     * and the accessor's primitive getters and setters do not box the value. Hence, this is preferable for fields that are
+     * read or written very frequently.
+     *
+     * @param clazz the class that has the field
+     * @param field the name of the field
+     * @return the accessor for the field
+     */
+    public FieldAccessor getFieldAccessor(@NonNull Class<?> clazz, @NonNull String field);
+
+    /**
+     * Gets a cached accessor for the specified field.
+     *
+     * @param field the field
+     * @return the accessor for the field
+     * @see JavaAseefianReflections#getFieldAccessor(Class, String)
+     */
+    public FieldAccessor getFieldAccessor(@NonNull Field field);
+
+    /**
+     * Get the values of several fields of the same object at once. The fields are looked up once for each distinct
+     * combination of class and field names, so repeatedly reading the same fields costs a single cache lookup
+     * instead of one per field.
+     *
+     * @param obj    the object that has the fields
+     * @param fields the names of the fields
+     * @return the values of the fields, in the order of the field names
+     */
+    public Object[] getFieldValues(@NonNull Object obj, @NonNull String... fields);
+
+    /**
+     * Get the value of the same field of every one of the targets. The field is only looked up once for each distinct
+     * class of the targets, and the reads are split up like the calls of {@link JavaAseefianReflections#invokeOnAll(Collection, String, Object...)}.
+     *
+     * @param targets the objects that have the field
+     * @param field   the name of the field
+     * @return the value or the failure of every read, in the iteration order of the targets
+     */
+    public <T> BulkResult<T> getFieldValueOfAll(@NonNull Collection<?> targets, @NonNull String field);
+
+    /**
+     * Set the values of several fields of the same object at once.
+     *
+     * @param obj    the object whose fields to set
+     * @param fields the names of the fields
+     * @param values the values which to set the fields to, in the order of the field names
+     * @return simply returns the obj back
+     * @see JavaAseefianReflections#getFieldValues(Object, String...)
+     */
+    public <K> K setFieldValues(@NonNull K obj, @NonNull String[] fields, @NonNull Object[] values);
+
+    /**
+     * Copy all the instance fields (including those of the super classes, if they are searched) of one object into another.
+     * Primitive values are copied without boxing them.
+     *
+     * @param source      the object whose fields to copy
+     * @param destination the object into which to copy the fields, which must be an instance of the source's class
+     * @return simply returns the destination back
+     */
+    public <K> K copyFields(@NonNull Object source, @NonNull K destination);
+
+    /**
+     * Map the instance fields (including those of the super classes, if they are searched) of an object to a map
+     * from the field names to their values. The fields of each class are only looked up the first time the class is mapped.
+     *
+     * @param obj the object to map
+     * @return the map, ordered like the fields of the class (the class' own fields first)
+     */
+    public Map<String, Object> toMap(@NonNull Object obj);
+
+    /**
+     * Create a new instance of a class using its no argument constructor, and set its fields to the values in the map.
+     * Fields that are missing from the map keep their initial value, and entries that don't match any field are ignored.
+     *
+     * @param clazz  the class which to instantiate
+     * @param values the values of the fields by their name
+     * @return the new instance
+     * @see JavaAseefianReflections#toMap(Object)
+     */
+    public <T> T fromMap(@NonNull Class<T> clazz, @NonNull Map<String, ?> values);
+
+    /**
+     * Create a deep copy of an object: the object, and everything it (indirectly) references, is copied field by field.
+     * Objects referenced more than once are only copied once, so the copy has the same shape (including any cycles)
+     * as the original. Strings, boxed primitives, enums and other immutable types are shared rather than copied, and
+     * the handling of any other type can be changed with {@link JARConfig#setCopyStrategy(Class, CopyStrategy)}.
+     * {@apiNote No constructors are run for the copies.}
+     *
+     * @param obj the object to copy
+     * @return the copy
+     */
+    public <T> T deepCopy(@Nullable T obj);
+
     /**
      * Gets the specified static field from the specified class. If the supplied class doesn't have the field, then
      * we will check if a super class of the object has the field. Thus, for performance reasons, it
@@ -185,5 +401,65 @@ public interface JavaAseefianReflections {
      */
     public <T, E> E getFieldValue(T obj, @NonNull String field);
 
+    /**
+     * Get a snapshot of the statistics (hits, misses, evictions and the time spent computing missing entries) of
+     * each of the caches, which helps with tuning the cache sizes in the {@link JARConfig}.
+     *
+     * @return the statistics of the caches
+     */
+    public JARStats stats();
+
+    /**
+     * Export all the currently cached method, constructor and field lookups to a file. Importing the file (see
+     * {@link JavaAseefianReflections#importSignatures(Path)}) on the next start means those lookups don't have to be
+     * resolved again.
+     *
+     * @param file the file to (over)write
+     * @throws IOException if the file can't be written
+     */
+    public void exportSignatures(@NonNull Path file) throws IOException;
+
+    /**
+     * Import the lookups exported by {@link JavaAseefianReflections#exportSignatures(Path)}. The file is memory mapped,
+     * and the lookups made on a class are only read (and checked to still exist) the first time the class is looked up.
+     * Lookups whose members no longer exist are dropped, and so are resolved like usual.
+     *
+     * @param file the exported file
+     * @throws IOException if the file can't be read, or isn't an exported file
+     */
+    public void importSignatures(@NonNull Path file) throws IOException;
+
+    /**
+     * Resolve (and cache) all the declared and inherited constructors, methods and fields of the classes ahead of time,
+     * so the first lookups made on them later on don't have to. The classes are warmed up in parallel.
+     *
+     * @param classes the classes which will be used reflectively
+     * @param options where to run the warm-up and what to include
+     * @return the time spent and the cache entries created
+     */
+    public WarmUpReport warmUp(@NonNull Collection<Class<?>> classes, @NonNull WarmUpOptions options);
+
+    /**
+     * Clear all the cached lookups, including the remembered failed lookups (which otherwise are only forgotten
+     * once their configured time to live expires, or once they are evicted) and the imported lookups which weren't used yet.
+     */
+    public void invalidateCaches();
+
+    /**
+     * Clear all the cached lookups which belong to the class loader (or to one of its descendants), or which refer to
+     * any of their classes, leaving the lookups of other class loaders alone. Call this when discarding a class loader,
+     * for example when a plugin is reloaded.
+     *
+     * @param classLoader the discarded class loader
+     */
+    public void invalidate(@NonNull ClassLoader classLoader);
+
+    /**
+     * Clear all the cached lookups which refer to the class or to any of its subclasses.
+     *
+     * @param clazz the class which changed or is discarded
+     */
+    public void invalidate(@NonNull Class<?> clazz);
+
 
 }
@@ -1,13 +1,53 @@
 package com.github.Aseeef;
 
 import com.github.Aseeef.cache.AseefianCache;
+import com.github.Aseeef.cache.CacheScopes;
+import com.github.Aseeef.cache.CacheStats;
 import com.github.Aseeef.cache.CaffeinatedCache;
+import com.github.Aseeef.cache.ClassScoped;
+import com.github.Aseeef.cache.ConcurrentCache;
+import com.github.Aseeef.cache.LoaderPartitionedCache;
 import com.github.Aseeef.cache.VanillaCache;
+import com.github.Aseeef.dispatch.MemberDispatcher;
+import com.github.Aseeef.dispatch.MemberResolver;
+import com.github.Aseeef.field.FieldAccessor;
+import com.github.Aseeef.field.ReflectiveFieldAccessor;
+import com.github.Aseeef.field.VarHandleFieldAccessor;
+import com.github.Aseeef.generated.GeneratedAccessors;
+import com.github.Aseeef.index.EnumIndex;
+import com.github.Aseeef.index.MemberIndex;
+import com.github.Aseeef.index.OverloadTable;
+import com.github.Aseeef.invoker.BoundConstructor;
+import com.github.Aseeef.invoker.BoundMethod;
+import com.github.Aseeef.invoker.BoundStaticMethod;
+import com.github.Aseeef.invoker.ExecutableInvoker;
+import com.github.Aseeef.jfr.InvocationEvent;
+import com.github.Aseeef.jfr.LookupEvent;
+import com.github.Aseeef.invoker.MethodHandleInvoker;
+import com.github.Aseeef.invoker.ReflectiveInvoker;
 import lombok.*;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.*;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -50,37 +90,333 @@ public class JavaAseefianReflectionsImpl implements JavaAseefianReflections {
     private final AseefianCache<MethodSignature, Executable[]> executableCache;
     // cache fields
     private final AseefianCache<FieldSignature, Field[]> fieldCache;
+    // remember the lookups which failed to find anything (null if disabled)
+    private final @Nullable AseefianCache<Object, FailedLookup> failedLookupCache;
+    // cache the invoker created for each resolved method/constructor
+    private final AseefianCache<Executable, ExecutableInvoker> invokerCache;
+    // cache the accessor created for each resolved field
+    private final AseefianCache<Field, FieldAccessor> fieldAccessorCache;
+    // cache the plan of each bulk field access, so the fields are only looked up once for each set of field names
+    private final AseefianCache<FieldPlanKey, FieldPlan> fieldPlanCache;
+    // cache the schema of each class mapped to and from a map
+    private final AseefianCache<Class<?>, MapperSchema> mapperSchemaCache;
+    // cache the plan of how deepCopy copies each class
+    private final AseefianCache<Class<?>, CopyPlan> copyPlanCache;
+    // the generated dispatcher of each class; these are only evicted once the class itself is unloaded
+    private final ClassValue<MemberDispatcher> dispatchers = new ClassValue<MemberDispatcher>() {
+        @Override
+        protected MemberDispatcher computeValue(Class<?> type) {
+            return MemberDispatcher.create(type, memberResolver);
+        }
+    };
+    // exported lookups which are imported into the caches class by class (null if nothing was imported)
+    private volatile @Nullable SignatureIndex importedSignatures;
+    // reusable lookup key of each thread so a cache hit on the invoke paths doesn't allocate a new signature
+    private static final ThreadLocal<SignatureProbe> signatureProbes = ThreadLocal.withInitial(SignatureProbe::new);
+    private final MemberResolver memberResolver = new MemberResolver() {
+        @Override
+        public Method resolveMethod(Class<?> clazz, String methodName, Class<?>[] parameterTypes) {
+            validateMethodName(methodName);
+            return findMethodBySignature(new MethodSignature(clazz, methodName, null, parameterTypes));
+        }
+
+        @Override
+        public Constructor<?> resolveConstructor(Class<?> clazz, Class<?>[] parameterTypes) {
+            return getConstructor(clazz, parameterTypes);
+        }
+
+        @Override
+        public Field resolveField(Class<?> clazz, String fieldName) {
+            return getFieldByName(clazz, fieldName);
+        }
+
+        @Override
+        public ExecutableInvoker getInvoker(Executable executable) {
+            return JavaAseefianReflectionsImpl.this.getInvoker(executable);
+        }
+
+        @Override
+        public FieldAccessor getFieldAccessor(Field field) {
+            return JavaAseefianReflectionsImpl.this.getFieldAccessor(field);
+        }
+    };
 
     public JavaAseefianReflectionsImpl(JARConfig config) {
         this.config = config;
+        this.executableCache = createCache(config.executableCacheSize);
+        this.fieldCache = createCache(config.fieldCacheSize);
+        this.invokerCache = createCache(config.executableCacheSize);
+        this.fieldAccessorCache = createCache(config.fieldCacheSize);
+        this.fieldPlanCache = createCache(config.fieldCacheSize);
+        this.mapperSchemaCache = createCache(config.fieldCacheSize);
+        this.copyPlanCache = createCache(config.fieldCacheSize);
+        this.failedLookupCache = config.cacheFailedLookups ? createCache(config.failedLookupCacheSize) : null;
+    }
+
+    private <K, V> AseefianCache<K, V> createCache(int size) {
+        if (config.partitionCachesByClassLoader) {
+            return new LoaderPartitionedCache<>(() -> createPartition(size));
+        }
+        return createPartition(size);
+    }
+
+    private <K, V> AseefianCache<K, V> createPartition(int size) {
         if (config.useCaffeineCache) {
-            this.executableCache = new CaffeinatedCache<>(config.executableCacheSize);
-            this.fieldCache = new CaffeinatedCache<>(config.fieldCacheSize);
+            return new CaffeinatedCache<>(size);
+        } else if (config.useConcurrentCache) {
+            return new ConcurrentCache<>(size);
         } else {
-            this.executableCache = new VanillaCache<>(config.executableCacheSize);
-            this.fieldCache = new VanillaCache<>(config.fieldCacheSize);
+            return new VanillaCache<>(size);
         }
     }
 
-    public @NonNull Enum<?> getEnum(Class<?> clazz, String enumName) {
-        if (!clazz.isEnum()) {
-            throw new ReflectiveAseefianException("The class " + clazz.getName() + " is not an enum class!", ReflectiveAseefianException.ExceptionType.ILLEGAL_ARGUMENT);
+    @Override
+    public JARStats stats() {
+        return new JARStats(executableCache.stats(), fieldCache.stats(), invokerCache.stats(), fieldAccessorCache.stats(),
+                fieldPlanCache.stats(), mapperSchemaCache.stats(), copyPlanCache.stats(), failedLookupCache == null ? CacheStats.EMPTY : failedLookupCache.stats());
+    }
+
+    @Override
+    public void invalidateCaches() {
+        executableCache.invalidateAll();
+        fieldCache.invalidateAll();
+        invokerCache.invalidateAll();
+        fieldAccessorCache.invalidateAll();
+        fieldPlanCache.invalidateAll();
+        mapperSchemaCache.invalidateAll();
+        copyPlanCache.invalidateAll();
+        importedSignatures = null;
+        if (failedLookupCache != null) {
+            failedLookupCache.invalidateAll();
+        }
+    }
+
+    @Override
+    public void invalidate(@NonNull ClassLoader classLoader) {
+        forEachCache(cache -> cache.invalidate(classLoader));
+    }
+
+    @Override
+    public void invalidate(@NonNull Class<?> clazz) {
+        forEachCache(cache -> cache.invalidate(clazz));
+    }
+
+    private void forEachCache(Consumer<AseefianCache<?, ?>> action) {
+        action.accept(executableCache);
+        action.accept(fieldCache);
+        action.accept(invokerCache);
+        action.accept(fieldAccessorCache);
+        action.accept(fieldPlanCache);
+        action.accept(mapperSchemaCache);
+        action.accept(copyPlanCache);
+        if (failedLookupCache != null) {
+            action.accept(failedLookupCache);
         }
+    }
+
+    @Override
+    public void exportSignatures(@NonNull Path file) throws IOException {
+        Map<MethodSignature, Executable[]> methodLookups = new LinkedHashMap<>();
+        executableCache.forEach(methodLookups::put);
+        Map<FieldSignature, Field[]> fieldLookups = new LinkedHashMap<>();
+        fieldCache.forEach(fieldLookups::put);
+        SignatureIndex.write(file, methodLookups, fieldLookups);
+    }
+
+    @Override
+    public void importSignatures(@NonNull Path file) throws IOException {
+        importedSignatures = SignatureIndex.read(file);
+    }
+
+    /**
+     * Move the imported lookups made on the class (unless they were already moved) into the caches.
+     * @param clazz - the class that missed the caches
+     * @return whether any lookups were moved, meaning the caches should be checked again
+     */
+    private boolean importSignatures(Class<?> clazz) {
+        SignatureIndex index = importedSignatures;
+        if (index == null) {
+            return false;
+        } else if (!index.hasPendingClasses()) {
+            importedSignatures = null;
+            return false;
+        }
+        return index.importClass(clazz, executableCache::put, fieldCache::put);
+    }
+
+    @Override
+    public WarmUpReport warmUp(@NonNull Collection<Class<?>> classes, @NonNull WarmUpOptions options) {
+        long start = System.nanoTime();
+        long executableLoads = executableCache.stats().getLoadCount();
+        long fieldLoads = fieldCache.stats().getLoadCount();
+        long invokerLoads = invokerCache.stats().getLoadCount();
+        long fieldAccessorLoads = fieldAccessorCache.stats().getLoadCount();
+
+        Executor executor = options.executor != null ? options.executor : ForkJoinPool.commonPool();
+        Map<Member, RuntimeException> failures = new ConcurrentHashMap<>();
+        CompletableFuture<?>[] tasks = classes.stream()
+                .distinct()
+                .map(clazz -> CompletableFuture.runAsync(() -> warmUp(clazz, options, failures), executor))
+                .toArray(CompletableFuture<?>[]::new);
         try {
-            return invokeStaticMethod(clazz, "valueOf", enumName);
-        } catch (ReflectiveAseefianException ex) {
-            if (ex.getCause() instanceof InvocationTargetException) {
+            CompletableFuture.allOf(tasks).join();
+        } catch (CompletionException ex) {
+            // failures of single members are already collected, so this is something like an Error
+            if (ex.getCause() instanceof Error) throw (Error) ex.getCause();
+            throw new ReflectiveAseefianException(ex.getCause(), ReflectiveAseefianException.ExceptionType.ILLEGAL_STATE);
+        }
+
+        return new WarmUpReport(tasks.length, System.nanoTime() - start,
+                executableCache.stats().getLoadCount() - executableLoads,
+                fieldCache.stats().getLoadCount() - fieldLoads,
+                invokerCache.stats().getLoadCount() - invokerLoads,
+                fieldAccessorCache.stats().getLoadCount() - fieldAccessorLoads,
+                failures);
+    }
+
+    /**
+     * Make the same lookups that calling/accessing each member of the class (with its exact parameter types) would make.
+     */
+    private void warmUp(Class<?> clazz, WarmUpOptions options, Map<Member, RuntimeException> failures) {
+        MemberIndex index = MemberIndex.of(clazz);
+        for (Constructor<?> constructor : index.getConstructors()) {
+            try {
+                Constructor<?> resolved = getConstructor(clazz, constructor.getParameterTypes());
+                if (options.createInvokers) getInvoker(resolved);
+            } catch (RuntimeException ex) {
+                failures.put(constructor, ex);
+            }
+        }
+
+        Class<?>[] methodClasses = options.includeInheritedMembers ? index.getMethodResolutionOrder(config.searchSuperClasses) : new Class<?>[]{clazz};
+        for (Class<?> methodClass : methodClasses) {
+            if (methodClass == Object.class && clazz != Object.class) continue;
+            for (Method method : MemberIndex.of(methodClass).getMethods()) {
+                // static methods of interfaces aren't inherited, and bridges share their signature with a real method
+                if (method.isSynthetic() || (methodClass != clazz && methodClass.isInterface() && Modifier.isStatic(method.getModifiers()))) continue;
+                try {
+                    Method resolved = findMethodBySignature(new MethodSignature(clazz, method.getName(), null, method.getParameterTypes()));
+                    if (options.createInvokers) getInvoker(resolved);
+                } catch (RuntimeException ex) {
+                    failures.put(method, ex);
+                }
+            }
+        }
+
+        Class<?>[] fieldClasses = options.includeInheritedMembers && config.searchSuperClasses ? index.getSuperClassChain() : new Class<?>[]{clazz};
+        Set<String> fieldNames = new HashSet<>();
+        for (Class<?> fieldClass : fieldClasses) {
+            if (fieldClass == Object.class) continue;
+            for (Field field : MemberIndex.of(fieldClass).getFields()) {
+                // a shadowed field can't be looked up by its name
+                if (field.isSynthetic() || !fieldNames.add(field.getName())) continue;
+                try {
+                    Field resolved = getFieldByName(clazz, field.getName());
+                    if (options.createInvokers) getFieldAccessor(resolved);
+                } catch (RuntimeException ex) {
+                    failures.put(field, ex);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return a new (begun) lookup event, or null if lookup events are turned off
+     */
+    private @Nullable LookupEvent beginLookupEvent() {
+        return config.jfrLookupThresholdMillis < 0 ? null : new LookupEvent(TimeUnit.MILLISECONDS.toNanos(config.jfrLookupThresholdMillis));
+    }
+
+    private static void completeLookupEvent(@Nullable LookupEvent event, Class<?> clazz, @Nullable String member, boolean cacheHit) {
+        if (event != null) {
+            event.complete(clazz, member, cacheHit);
+        }
+    }
+
+    /**
+     * @return a new (begun) invocation event, or null if invocation events are turned off
+     */
+    private @Nullable InvocationEvent beginInvocationEvent() {
+        return config.jfrInvocationThresholdMillis < 0 ? null : new InvocationEvent(TimeUnit.MILLISECONDS.toNanos(config.jfrInvocationThresholdMillis));
+    }
+
+    private static void completeInvocationEvent(@Nullable InvocationEvent event, Executable executable) {
+        if (event != null) {
+            event.complete(executable);
+        }
+    }
+
+    /**
+     * Throw the failure of a previous lookup with the same key again, if that failure is still remembered.
+     * @param key - the key of the lookup
+     */
+    private void rethrowFailedLookup(Object key) {
+        if (failedLookupCache == null) {
+            return;
+        }
+        FailedLookup failedLookup = failedLookupCache.getIfPresent(key);
+        if (failedLookup != null && !failedLookup.isExpired()) {
+            throw new ReflectiveAseefianException(failedLookup.failure);
+        }
+    }
+
+    /**
+     * Remember that the lookup with the specified key failed.
+     * @param key - the key of the lookup
+     * @param failure - the exception the lookup failed with
+     * @return the failure, so it can be thrown directly
+     */
+    private ReflectiveAseefianException recordFailedLookup(Object key, ReflectiveAseefianException failure) {
+        if (failedLookupCache != null) {
+            long expiresAt = config.failedLookupTtlMillis < 0 ? FailedLookup.NEVER : System.nanoTime() + config.failedLookupTtlMillis * 1_000_000;
+            failedLookupCache.put(key, new FailedLookup(failure, expiresAt));
+        }
+        return failure;
+    }
+
+    public @NonNull Enum<?> getEnum(Class<?> clazz, String enumName) {
+        Enum<?> constant = getEnumIndex(clazz).get(enumName);
+        if (constant == null) {
+            throw new ReflectiveAseefianException("No enum constant " + enumName + " was discovered in the class " + clazz.getName() + "!", ReflectiveAseefianException.ExceptionType.ENUM_NOT_FOUND);
+        }
+        return constant;
+    }
+
+    @Override
+    public <E extends Enum<E>> Optional<E> findEnum(@NonNull Class<E> clazz, @NonNull String enumName, boolean ignoreCase) {
+        EnumIndex index = getEnumIndex(clazz);
+        return Optional.ofNullable(clazz.cast(ignoreCase ? index.getIgnoreCase(enumName) : index.get(enumName)));
+    }
+
+    @Override
+    public <E extends Enum<E>> Optional<E> findEnum(@NonNull Class<E> clazz, int ordinal) {
+        return Optional.ofNullable(clazz.cast(getEnumIndex(clazz).get(ordinal)));
+    }
+
+    @Override
+    public <E extends Enum<E>> List<E> getEnums(@NonNull Class<E> clazz, @NonNull Collection<String> enumNames) {
+        EnumIndex index = getEnumIndex(clazz);
+        List<E> constants = new ArrayList<>(enumNames.size());
+        for (String enumName : enumNames) {
+            Enum<?> constant = enumName == null ? null : index.get(enumName);
+            if (constant == null) {
                 throw new ReflectiveAseefianException("No enum constant " + enumName + " was discovered in the class " + clazz.getName() + "!", ReflectiveAseefianException.ExceptionType.ENUM_NOT_FOUND);
-            } else {
-                throw new ReflectiveAseefianException(ex.getCause(), ex.getExceptionType());
             }
+            constants.add(clazz.cast(constant));
         }
+        return constants;
+    }
+
+    private static EnumIndex getEnumIndex(Class<?> clazz) {
+        if (!clazz.isEnum()) {
+            throw new ReflectiveAseefianException("The class " + clazz.getName() + " is not an enum class!", ReflectiveAseefianException.ExceptionType.ILLEGAL_ARGUMENT);
+        }
+        return EnumIndex.of(clazz);
     }
 
     public <T> T invokeMethod(@NonNull Object objectInstance, @NonNull String methodName, Object... parameters) {
         Class<?> clazz = objectInstance.getClass();
-        MethodSignature methodSignature = new MethodSignature(clazz, methodName, null, fromParametersToParameterTypes(parameters));
-        Method method = findMethodBySignature(methodSignature);
+        Method method = findMethodBySignature(signatureProbes.get().of(clazz, methodName, parameters));
         return invokeMethod(objectInstance, method, parameters);
     }
 
@@ -92,25 +428,86 @@ public class JavaAseefianReflectionsImpl implements JavaAseefianReflections {
         return invokeMethod(objectInstance, method, parameters);
     }
 
-    @SuppressWarnings("unchecked")
     public <T> T invokeMethod(@NonNull Object objectInstance, @NonNull Method method, Object... parameters) {
-        method.setAccessible(true);
+        ExecutableInvoker invoker = getInvoker(method);
         if (method.isVarArgs()) {
             parameters = convertParametersFromVarLength(method, parameters);
         }
+        return invoke(invoker, method, objectInstance, parameters);
+    }
+
+    /**
+     * @param parameters the parameters, already converted for variable arity methods
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T invoke(ExecutableInvoker invoker, Method method, Object objectInstance, Object[] parameters) {
+        InvocationEvent event = beginInvocationEvent();
         try {
-            return (T) method.invoke(objectInstance, parameters);
+            return (T) invoker.invoke(objectInstance, parameters);
         } catch (InvocationTargetException ex) {
             throw new ReflectiveAseefianException(ex.getCause(), ReflectiveAseefianException.ExceptionType.INVOCATION_EXCEPTION);
         } catch (IllegalAccessException ex) {
             throw new ReflectiveAseefianException(ex, ReflectiveAseefianException.ExceptionType.ILLEGAL_ACCESS);
+        } catch (InstantiationException ex) {
+            throw new ReflectiveAseefianException(ex);
+        } finally {
+            completeInvocationEvent(event, method);
+        }
+    }
+
+    @Override
+    public <T> BulkResult<T> invokeOnAll(@NonNull Collection<?> targets, @NonNull String methodName, Object... parameters) {
+        validateMethodName(methodName);
+        return runBulk(targets, clazz -> {
+            Method method = findMethodBySignature(signatureProbes.get().of(clazz, methodName, parameters));
+            return new PreparedCall(method, getInvoker(method), method.isVarArgs() ? convertParametersFromVarLength(method, parameters) : parameters);
+        }, (call, target) -> invoke(call.invoker, call.method, target, call.parameters));
+    }
+
+    @Override
+    public <T> BulkResult<T> getFieldValueOfAll(@NonNull Collection<?> targets, @NonNull String field) {
+        return runBulk(targets, clazz -> getFieldAccessor(clazz, field), FieldAccessor::get);
+    }
+
+    /**
+     * Resolve the member used for every distinct class of the targets, then apply the operation to each target. Many
+     * enough targets are split up over the bulk pool.
+     *
+     * @param resolver resolves the member used for the targets of a class
+     * @param operation applies the resolved member to a single target
+     */
+    private <M, T> BulkResult<T> runBulk(Collection<?> targets, Function<Class<?>, M> resolver, BiFunction<M, Object, Object> operation) {
+        Object[] targetArray = targets.toArray();
+        Map<Class<?>, BulkTarget<M>> resolved = new HashMap<>();
+        for (Object target : targetArray) {
+            if (target != null) {
+                resolved.computeIfAbsent(target.getClass(), clazz -> {
+                    try {
+                        return new BulkTarget<>(resolver.apply(clazz), null);
+                    } catch (RuntimeException ex) {
+                        return new BulkTarget<>(null, ex);
+                    }
+                });
+            }
         }
+
+        Object[] results = new Object[targetArray.length];
+        RuntimeException[] failures = new RuntimeException[targetArray.length];
+        int threshold = Math.max(1, config.bulkParallelismThreshold);
+        BulkTask<M> task = new BulkTask<>(targetArray, resolved, operation, results, failures, 0, targetArray.length, threshold);
+        if (targetArray.length < threshold) {
+            task.compute();
+        } else {
+            (config.bulkPool != null ? config.bulkPool : ForkJoinPool.commonPool()).invoke(task);
+        }
+        return new BulkResult<>(results, failures);
     }
 
     @SuppressWarnings("unchecked")
     public <T> T invokeStaticMethod(Class<?> objectType, String methodName, Object... parameters) {
-        Method method = getMethodByNameAndParams(objectType, methodName, fromParametersToParameterTypes(parameters));
-        method.setAccessible(true);
+        validateMethodName(methodName);
+        Method method = (Method) getExecutables(signatureProbes.get().of(objectType, methodName, parameters), true)[0];
+        ExecutableInvoker invoker = getInvoker(method);
         if (method.isVarArgs()) {
             parameters = convertParametersFromVarLength(method, parameters);
         }
@@ -120,74 +517,161 @@ public class JavaAseefianReflectionsImpl implements JavaAseefianReflections {
             throw new ReflectiveAseefianException("The found method was not static!", ReflectiveAseefianException.ExceptionType.METHOD_NOT_FOUND);
         }
 
+        InvocationEvent event = beginInvocationEvent();
         try {
-            return (T) method.invoke(null, parameters);
+            return (T) invoker.invoke(null, parameters);
         } catch (IllegalAccessException ex) {
             throw new ReflectiveAseefianException(ex, ReflectiveAseefianException.ExceptionType.ILLEGAL_ACCESS);
         } catch (InvocationTargetException ex) {
             throw new ReflectiveAseefianException(ex, ReflectiveAseefianException.ExceptionType.INVOCATION_EXCEPTION);
+        } catch (InstantiationException ex) {
+            throw new ReflectiveAseefianException(ex);
+        } finally {
+            completeInvocationEvent(event, method);
         }
     }
 
-    private @NonNull Method findMethodBySignature(MethodSignature methodSignature) {
+    /**
+     * Get the (cached) invoker for the specified method or constructor. If code was generated for it at compile time,
+     * this calls the generated code. Otherwise, depending on the {@link JARConfig}, this is either backed by a
+     * {@link java.lang.invoke.MethodHandle} or by plain reflections.
+     * @param executable - the method or constructor that will be invoked
+     * @return the invoker
+     */
+    private ExecutableInvoker getInvoker(Executable executable) {
+        ExecutableInvoker invoker = invokerCache.getIfPresent(executable);
+        if (invoker != null) {
+            return invoker;
+        }
+        long loadStart = System.nanoTime();
+        // abstract classes can't be instantiated, but we let reflections throw the usual InstantiationException for that
+        boolean abstractConstructor = executable instanceof Constructor && Modifier.isAbstract(executable.getDeclaringClass().getModifiers());
+        GeneratedAccessors generated = getGeneratedAccessors(executable.getDeclaringClass());
+        ExecutableInvoker generatedInvoker = generated == null ? null : generated.getInvoker(executable);
+        if (generatedInvoker != null) {
+            invoker = generatedInvoker;
+        } else if (config.useMethodHandleInvokers && !abstractConstructor) {
+            try {
+                invoker = MethodHandleInvoker.create(executable);
+            } catch (IllegalAccessException ex) {
+                // no method handle could be created for this executable, so fall back to reflections
+                invoker = new ReflectiveInvoker(executable);
+            }
+        } else {
+            invoker = new ReflectiveInvoker(executable);
+        }
+        invokerCache.put(executable, invoker);
+        invokerCache.recordLoad(System.nanoTime() - loadStart);
+        return invoker;
+    }
+
+    private @Nullable GeneratedAccessors getGeneratedAccessors(Class<?> clazz) {
+        return config.useGeneratedAccessors ? GeneratedAccessors.of(clazz) : null;
+    }
 
+    @Override
+    public MemberDispatcher getDispatcher(@NonNull Class<?> clazz) {
+        return dispatchers.get(clazz);
+    }
+
+    @Override
+    public BoundMethod bindMethod(@NonNull Class<?> clazz, @NonNull String methodName, Class<?>... parameterTypes) {
+        validateMethodName(methodName);
+        Method method = findMethodBySignature(new MethodSignature(clazz, methodName, null, parameterTypes));
+        if (Modifier.isStatic(method.getModifiers())) {
+            throw new ReflectiveAseefianException("The found method was static!", ReflectiveAseefianException.ExceptionType.METHOD_NOT_FOUND);
+        }
+        try {
+            return BoundMethod.bind(method);
+        } catch (IllegalAccessException ex) {
+            throw new ReflectiveAseefianException(ex, ReflectiveAseefianException.ExceptionType.ILLEGAL_ACCESS);
+        }
+    }
+
+    @Override
+    public BoundStaticMethod bindStatic(@NonNull Class<?> clazz, @NonNull String methodName, Class<?>... parameterTypes) {
+        Method method = getMethodByNameAndParams(clazz, methodName, parameterTypes);
+        if (!Modifier.isStatic(method.getModifiers())) {
+            throw new ReflectiveAseefianException("The found method was not static!", ReflectiveAseefianException.ExceptionType.METHOD_NOT_FOUND);
+        }
+        try {
+            return BoundStaticMethod.bind(method);
+        } catch (IllegalAccessException ex) {
+            throw new ReflectiveAseefianException(ex, ReflectiveAseefianException.ExceptionType.ILLEGAL_ACCESS);
+        }
+    }
+
+    @Override
+    public <T> BoundConstructor<T> bindConstructor(@NonNull Class<T> clazz, Class<?>... parameterTypes) {
+        if (Modifier.isAbstract(clazz.getModifiers())) {
+            throw new ReflectiveAseefianException("The class " + clazz.getName() + " is abstract and can't be instantiated!", ReflectiveAseefianException.ExceptionType.ILLEGAL_ARGUMENT);
+        }
+        try {
+            return BoundConstructor.bind(getConstructor(clazz, parameterTypes));
+        } catch (IllegalAccessException ex) {
+            throw new ReflectiveAseefianException(ex, ReflectiveAseefianException.ExceptionType.ILLEGAL_ACCESS);
+        }
+    }
+
+    private @NonNull Method findMethodBySignature(MethodSignature methodSignature) {
+        LookupEvent event = beginLookupEvent();
         Executable[] methods = executableCache.getIfPresent(methodSignature);
-        if (methods != null) {
-            return (Method) methods[0];
-        } else {
-            ReflectiveAseefianException ex = null;
-
-            Queue<Class<?>> classesToCheck = new ArrayDeque<>();
-            classesToCheck.offer(methodSignature.clazz);
-            Method method = null;
-            do {
-                Class<?> currentClazz = classesToCheck.poll();
-                if (currentClazz == null) break;
-                try {
-                    if (methodSignature.methodName == null && methodSignature.methodReturnType != null && methodSignature.parameterTypes != null) {
-                        method = getMethodByReturnTypeAndParams(currentClazz, methodSignature.methodReturnType, methodSignature.parameterTypes);
-                    } else if (methodSignature.methodName != null && methodSignature.parameterTypes != null && methodSignature.methodReturnType == null) {
-                        method = getMethodByNameAndParams(currentClazz, methodSignature.methodName, methodSignature.parameterTypes);
-                    } else {
-                        // remaining case is to get method by parameters alone or with no filters
-                        // should never happen yet - not implemented
-                        throw new ReflectiveAseefianException("This error should never happen!", ReflectiveAseefianException.ExceptionType.ILLEGAL_STATE); //should never happen
-                    }
-                    executableCache.put(methodSignature, new Executable[]{method});
-                    break;
-                } catch (ReflectiveAseefianException err) {
-                    ex = err;
-                    // only catch exceptions about the method not being found.
-                    // only then we try to search the super classes
-                    if (err.getExceptionType() != ReflectiveAseefianException.ExceptionType.METHOD_NOT_FOUND) break;
-                    // if the current class doesn't have this
-                    // method, see if the super class does
-                    if (currentClazz.getSuperclass() != null && config.searchSuperClasses) {
-                        classesToCheck.offer(currentClazz.getSuperclass());
-                    }
-                    // or perhaps the method is a default method in an interface?
-                    // In this case we do a depth first search to find the method
-                    Deque<Class<?>> interfacesToSearch = new ArrayDeque<>(Arrays.asList(currentClazz.getInterfaces()));
-                    if (!interfacesToSearch.isEmpty()) {
-                        do {
-                            Class<?> interfaceClass = interfacesToSearch.poll();
-                            for (Method interfaceMethod : interfaceClass.getDeclaredMethods()) {
-                                if (interfaceMethod.isDefault()) {
-                                    classesToCheck.offer(interfaceClass);
-                                    break;
-                                }
-                            }
-                            interfacesToSearch.addAll(Arrays.asList(interfaceClass.getInterfaces()));
-                        } while (!interfacesToSearch.isEmpty());
-                    }
+        try {
+            return methods != null ? (Method) methods[0] : resolveMethodBySignature(methodSignature);
+        } finally {
+            completeLookupEvent(event, methodSignature.clazz, methodSignature.methodName, methods != null);
+        }
+    }
+
+    private @NonNull Method resolveMethodBySignature(MethodSignature methodSignature) {
+        if (importSignatures(methodSignature.clazz)) {
+            Executable[] imported = executableCache.getIfPresent(methodSignature);
+            if (imported != null) {
+                return (Method) imported[0];
+            }
+        }
+        long loadStart = System.nanoTime();
+        // the signature may be this thread's reused probe, so only a copy of it may be stored
+        methodSignature = methodSignature.copy();
+        // the signature itself is the key of the lookup in only the exact class, so the hierarchy wide lookup needs its own key
+        HierarchyLookup hierarchyLookup = new HierarchyLookup(methodSignature);
+        rethrowFailedLookup(hierarchyLookup);
+        ReflectiveAseefianException ex = null;
+
+        // the class itself, then its super classes and then the interfaces which may hold the method as a default method
+        Class<?>[] classesToCheck = MemberIndex.of(methodSignature.clazz).getMethodResolutionOrder(config.searchSuperClasses);
+        Method method = null;
+        for (Class<?> currentClazz : classesToCheck) {
+            try {
+                if (methodSignature.methodName == null && methodSignature.methodReturnType != null && methodSignature.parameterTypes != null) {
+                    method = getMethodByReturnTypeAndParams(currentClazz, methodSignature.methodReturnType, methodSignature.parameterTypes);
+                } else if (methodSignature.methodName != null && methodSignature.parameterTypes != null && methodSignature.methodReturnType == null) {
+                    method = getMethodByNameAndParams(currentClazz, methodSignature.methodName, methodSignature.parameterTypes);
+                } else {
+                    // remaining case is to get method by parameters alone or with no filters
+                    // should never happen yet - not implemented
+                    throw new ReflectiveAseefianException("This error should never happen!", ReflectiveAseefianException.ExceptionType.ILLEGAL_STATE); //should never happen
                 }
-            } while (!classesToCheck.isEmpty());
+                executableCache.put(methodSignature, new Executable[]{method});
+                executableCache.recordLoad(System.nanoTime() - loadStart);
+                break;
+            } catch (ReflectiveAseefianException err) {
+                ex = err;
+                // only catch exceptions about the method not being found.
+                // only then we try to search the super classes
+                if (err.getExceptionType() != ReflectiveAseefianException.ExceptionType.METHOD_NOT_FOUND) break;
+            }
+        }
 
-            if (method == null) throw (ex != null ? ex : new ReflectiveAseefianException("An unknown error occurred"));
-            else {
-                method.setAccessible(true);
-                return method;
+        if (method == null) {
+            if (ex != null && ex.getExceptionType() == ReflectiveAseefianException.ExceptionType.METHOD_NOT_FOUND) {
+                throw recordFailedLookup(hierarchyLookup, ex);
             }
+            throw (ex != null ? ex : new ReflectiveAseefianException("An unknown error occurred"));
+        }
+        else {
+            method.setAccessible(true);
+            return method;
         }
     }
 
@@ -213,11 +697,10 @@ public class JavaAseefianReflectionsImpl implements JavaAseefianReflections {
 
     private static void validateMethodName(String methodName) {
         boolean valid;
-        char[] chars = methodName.toCharArray();
-        valid = Character.isJavaIdentifierStart(chars[0]);
-        for (int i = 1 ; i < chars.length ; i++) {
+        valid = Character.isJavaIdentifierStart(methodName.charAt(0));
+        for (int i = 1 ; i < methodName.length() ; i++) {
             if (!valid) break;
-            if (!Character.isJavaIdentifierPart(chars[i])) {
+            if (!Character.isJavaIdentifierPart(methodName.charAt(i))) {
                 valid = false;
             }
         }
@@ -241,52 +724,84 @@ public class JavaAseefianReflectionsImpl implements JavaAseefianReflections {
      * @return The matched executables
      */
     private @NonNull Executable[] getExecutables(MethodSignature methodSignature, boolean expectingOne) {
-
+        LookupEvent event = beginLookupEvent();
         Executable[] method = executableCache.getIfPresent(methodSignature);
-        if (method != null) {
-            return method;
+        if (method != null && expectingOne && method.length == 0) {
+            // only a listing may come up empty, the same lookup for a single executable must still fail
+            method = null;
+        }
+        try {
+            return method != null ? method : resolveExecutables(methodSignature, expectingOne);
+        } finally {
+            completeLookupEvent(event, methodSignature.clazz, methodSignature.methodName, method != null);
+        }
+    }
+
+    private @NonNull Executable[] resolveExecutables(MethodSignature methodSignature, boolean expectingOne) {
+        if (importSignatures(methodSignature.clazz)) {
+            Executable[] imported = executableCache.getIfPresent(methodSignature);
+            if (imported != null && (!expectingOne || imported.length > 0)) {
+                return imported;
+            }
+        }
+        long loadStart = System.nanoTime();
+        // the signature may be this thread's reused probe, so only a copy of it may be stored
+        methodSignature = methodSignature.copy();
+        if (expectingOne) {
+            rethrowFailedLookup(methodSignature);
+        }
+        MemberIndex index = MemberIndex.of(methodSignature.clazz);
+        Executable[] matchedExecutables;
+        Executable mostSpecific = null;
+        if (methodSignature.parameterTypes == null) {
+            matchedExecutables = findMethodsByReturnType(index.getMethods(), methodSignature.methodReturnType);
         } else {
-            Executable[] matchedExecutables;
+            // the overloads which could possibly take this many arguments, ranked by how specific they are
+            OverloadTable<? extends Executable> table;
             if (methodSignature.methodName != null && methodSignature.methodName.equals("*cnstr*")) {
-                matchedExecutables = findMatchingExecutables(methodSignature.clazz.getDeclaredConstructors(), methodSignature.parameterTypes);
+                table = index.getConstructorTable(methodSignature.parameterTypes.length);
+            } else if (methodSignature.methodName != null) {
+                table = index.getMethodTable(methodSignature.methodName, methodSignature.parameterTypes.length);
             } else {
-                matchedExecutables = findMatchingExecutables(methodSignature.clazz.getDeclaredMethods(), methodSignature.methodReturnType, methodSignature.methodName, methodSignature.parameterTypes);
+                table = new OverloadTable<>(findMethodsByReturnType(index.getMethods(), methodSignature.methodReturnType), methodSignature.parameterTypes.length);
             }
+            checkSpreadArrayCall(table.getCandidates(), methodSignature.parameterTypes);
+            OverloadTable.Resolution<? extends Executable> resolution = table.resolve(methodSignature.parameterTypes);
+            matchedExecutables = resolution.getApplicable();
+            mostSpecific = resolution.getMostSpecific();
+        }
 
-            if (matchedExecutables.length == 1 || !expectingOne)  {
-                executableCache.put(methodSignature, matchedExecutables);
-                return matchedExecutables;
-            } else if (matchedExecutables.length == 0) {
-                List<String> list = Arrays.stream(methodSignature.parameterTypes).map(o -> o == null ? "null" : o.getSimpleName()).collect(Collectors.toList());
-                StringBuilder sb = new StringBuilder();
-                for (String l : list) {
-                    sb.append(l).append(", ");
-                }
-                if (sb.length() >= 2)
-                    sb.delete(sb.length() - 2, sb.length());
-
-                throw new ReflectiveAseefianException("An error happened while invoking the method/constructor. Does a suitable candidate exist for [" + methodSignature.methodReturnType + "] " + methodSignature.clazz.getSimpleName() + "#" + methodSignature.methodName + "(" + sb + ")?!", ReflectiveAseefianException.ExceptionType.METHOD_NOT_FOUND);
+        if (expectingOne && matchedExecutables.length == 0) {
+            List<String> list = Arrays.stream(methodSignature.parameterTypes).map(o -> o == null ? "null" : o.getSimpleName()).collect(Collectors.toList());
+            StringBuilder sb = new StringBuilder();
+            for (String l : list) {
+                sb.append(l).append(", ");
             }
-            // meaning size > 1
-            else {
-                // example of a valid call like this: List.of(...)
-                Executable[] nonVarArgsExecutables = Arrays.stream(matchedExecutables).filter(Executable::isVarArgs).toArray(Executable[]::new);
-                if (nonVarArgsExecutables.length == 1) {
-                    return matchedExecutables;
-                }
+            if (sb.length() >= 2)
+                sb.delete(sb.length() - 2, sb.length());
 
+            throw recordFailedLookup(methodSignature, new ReflectiveAseefianException("An error happened while invoking the method/constructor. Does a suitable candidate exist for [" + methodSignature.methodReturnType + "] " + methodSignature.clazz.getSimpleName() + "#" + methodSignature.methodName + "(" + sb + ")?!", ReflectiveAseefianException.ExceptionType.METHOD_NOT_FOUND));
+        }
+        if (expectingOne && matchedExecutables.length > 1) {
+            if (mostSpecific != null) {
+                // like the compiler would, e.g. List.of(a, b) calls of(E, E) rather than of(E...)
+                matchedExecutables = new Executable[]{mostSpecific};
+            } else if (config.allowAmbiguousCalls) {
                 // Example of an ambiguous call:
-                // public void doSomething(String s, int i1, int... is);
-                // public void doSomething(String s, int i1, int i2);
-                // And you call doSomething("string", 1, 2)
+                // public void doSomething(String s, Object o, Object... os);
+                // public void doSomething(String s, Object... os);
+                // And you call doSomething("string", null, "a")
                 // Now which do we call?
-                if (config.allowAmbiguousCalls) {
-                    return matchedExecutables;
-                }
-
+                return accessibleCopiesOf(matchedExecutables);
+            } else {
                 throw new ReflectiveAseefianException("Ambiguous call to method '" + matchedExecutables[0].getName() + "': " + Arrays.toString(matchedExecutables), ReflectiveAseefianException.ExceptionType.AMBIGUOUS_CALL);
             }
         }
+        // only the matched executables (rather than every candidate) are made accessible, in case they are private
+        matchedExecutables = accessibleCopiesOf(matchedExecutables);
+        executableCache.put(methodSignature, matchedExecutables);
+        executableCache.recordLoad(System.nanoTime() - loadStart);
+        return matchedExecutables;
     }
 
     @SuppressWarnings("unchecked")
@@ -294,145 +809,129 @@ public class JavaAseefianReflectionsImpl implements JavaAseefianReflections {
         return (Constructor<T>) getExecutables(new MethodSignature(objectType, "*cnstr*", null, parameterTypes), true)[0];
     }
 
+    @SuppressWarnings("unchecked")
     public <T> T newInstance(@NonNull Class<T> clazz, Object... parameters) {
-        Constructor<T> constructor = getConstructor(clazz, fromParametersToParameterTypes(parameters));
+        Constructor<T> constructor = (Constructor<T>) getExecutables(signatureProbes.get().of(clazz, "*cnstr*", parameters), true)[0];
+        ExecutableInvoker invoker = getInvoker(constructor);
         if (constructor.isVarArgs()) {
             parameters = convertParametersFromVarLength(constructor, parameters);
         }
+        InvocationEvent event = beginInvocationEvent();
         try {
-            return (T) constructor.newInstance(parameters);
+            return (T) invoker.invoke(null, parameters);
         } catch (InvocationTargetException | InstantiationException | IllegalAccessException ex) {
             throw new ReflectiveAseefianException(ex);
+        } finally {
+            completeInvocationEvent(event, constructor);
         }
     }
 
     private Class<?>[] fromParametersToParameterTypes(Object[] parameters) {
-        return Arrays.stream(parameters).map(p -> p == null ? null : p.getClass()).toArray(Class[]::new);
+        Class<?>[] parameterTypes = new Class<?>[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            parameterTypes[i] = parameters[i] == null ? null : parameters[i].getClass();
+        }
+        return parameterTypes;
     }
 
-    // specifically for searching methods, can't find constructors
-    private Executable[] findMatchingExecutables(Method[] executables, @Nullable Class<?> expectedReturnType, @Nullable String methodName, @Nullable Class<?>[] argClasses) {
-        if (expectedReturnType == null && methodName == null && argClasses != null) {
-            // find executable by only the parameter types
-            return findMatchingExecutables(executables, argClasses);
-        }
-        Stream<Method> stream = Arrays.stream(executables);
-        if (expectedReturnType != null) {
-            stream = stream.filter(method -> method.getReturnType() == expectedReturnType);
-        }
-        if (methodName != null) {
-            stream = stream.filter(method -> method.getName().equals(methodName));
-        }
-        if (argClasses != null) {
-            return findMatchingExecutables(stream.toArray(Method[]::new), argClasses);
+    /**
+     * @return accessible copies of the executables, as those of the {@link MemberIndex} are shared
+     */
+    private static Executable[] accessibleCopiesOf(Executable[] executables) {
+        Executable[] copies = new Executable[executables.length];
+        for (int i = 0; i < executables.length; i++) {
+            copies[i] = MemberIndex.copyOf(executables[i]);
+            copies[i].setAccessible(true);
         }
-        return stream.toArray(Method[]::new);
+        return copies;
     }
 
     /**
-     * Finds an {@link Executable} (which is generally a method or a constructor) that fits the type objects in args
-     *
-     * @param executables the method or constructor array
-     * @param suppliedParameterTypes        the type objects which to match to
-     * @return the possible empty executable that was found
+     * @return an accessible copy of the field, as those of the {@link MemberIndex} are shared
      */
-    private @NonNull Executable[] findMatchingExecutables(Executable[] executables, Class<?>[] suppliedParameterTypes) {
-
-        if (executables.length == 0)
-            return new Executable[0];
-
-        return Arrays.stream(executables).filter(executable -> {
-            executable.setAccessible(true); //in case private
-            // since JavaAseefianReflections#invokeMethod accept varargs parameters (Object...),
-            // if the first parameter of the method we are calling is then Object[], then the normal
-            // case wont find the match! Easy pitfall to fall in and this warning tells people the way out
-            if (executable.getParameterCount() == 1 && !executable.isVarArgs() && executable.getParameterTypes()[0].isArray() && suppliedParameterTypes.length != 1) {
-                Class<?> arrayType = executable.getParameterTypes()[0].getComponentType();
-                for (Class<?> c : suppliedParameterTypes) {
-                    if (!arrayType.isAssignableFrom(c)) {
-                        return false;
-                    }
-                }
-                StringBuilder sb = new StringBuilder();
-                for (Class<?> c : executable.getParameterTypes()) {
-                    sb.append(c.getSimpleName()).append(", ");
-                }
-                if (executable.getParameterTypes().length > 0) {
-                    sb.delete(sb.length() - 2, sb.length());
-                }
-                throw new ReflectiveAseefianException("It looks like you meant to call " + executable.getDeclaringClass() + "#" + executable.getName() + "(" + sb + ")" + ". However it was unclear if a varargs or non-varargs call was desired since the passed parameters can either be interpreted as a single array type parameter, or a sequence of (in your cast) " + suppliedParameterTypes.length + " parameters. To fix this, case your array argument to Object.", ReflectiveAseefianException.ExceptionType.AMBIGUOUS_CALL);
-            }
-            // if parameter count doesn't equal arg length then no match
-            // UNLESS the executable has variable length (ei myMethod(String... varLenStr))
-            else if (executable.getParameterCount() == suppliedParameterTypes.length || (executable.isVarArgs() && suppliedParameterTypes.length > executable.getParameterCount())) {
-                Class<?>[] executableParameterTypes = executable.getParameterTypes();
-                for (int i = 0; i < suppliedParameterTypes.length; i++) {
-                    int index = Math.min(i, executable.getParameterCount() - 1); // need to do this because of var args (ie a parameter in parameter like method(String... varargString))
-                    // Class type of the parameter's arg at index
-                    Class<?> suppliedParameterType = suppliedParameterTypes[i];
-                    Class<?> executableParameterType = executableParameterTypes[index];
-
-                    // if parameter of null type it's an automatic match
-                    if (suppliedParameterType == null) continue;
-                    // If we are matching a var arg parameter, adjustments to argClassType need to be made!
-                    if (executable.isVarArgs() && i >= executable.getParameterCount() - 1) {
-                        if (executable.getParameterCount() != suppliedParameterTypes.length || !suppliedParameterType.isArray())
-                            executableParameterType = executableParameterType.getComponentType();
-                    }
-                    // handles primitive -> boxed and boxed -> primitive convertions
-                    if (suppliedParameterType.isPrimitive() && !executableParameterType.isPrimitive() && BOXED_TO_PRIMITIVE.containsKey(executableParameterType)) {
-                        executableParameterType = BOXED_TO_PRIMITIVE.get(executableParameterType);
-                    } else if (!suppliedParameterType.isPrimitive() && executableParameterType.isPrimitive() && PRIMITIVE_TO_BOXED.containsKey(executableParameterType)) {
-                        executableParameterType = PRIMITIVE_TO_BOXED.get(executableParameterType);
-                    }
+    private static Field accessibleCopyOf(Field field) {
+        Field copy = MemberIndex.copyOf(field);
+        copy.setAccessible(true);
+        return copy;
+    }
 
-                    if (executableParameterType.isArray() != suppliedParameterType.isArray()) {
-                        return false;
-                    }
-                    if (!executableParameterType.isAssignableFrom(suppliedParameterType)) {
-                        return false; // only a single failed match is enough to conclude we got the wrong executable
-                    }
+    private static Method[] findMethodsByReturnType(Method[] methods, @Nullable Class<?> expectedReturnType) {
+        if (expectedReturnType == null) {
+            return methods;
+        }
+        return Arrays.stream(methods).filter(method -> method.getReturnType() == expectedReturnType).toArray(Method[]::new);
+    }
 
+    /**
+     * Since JavaAseefianReflections#invokeMethod accept varargs parameters (Object...), if the only parameter of the
+     * method we are calling is an array, then the normal case wont find the match! Easy pitfall to fall in and this
+     * error tells people the way out.
+     */
+    private static void checkSpreadArrayCall(Executable[] candidates, Class<?>[] suppliedParameterTypes) {
+        if (suppliedParameterTypes.length == 1) {
+            return;
+        }
+        for (Executable executable : candidates) {
+            if (executable.getParameterCount() != 1 || executable.isVarArgs() || !executable.getParameterTypes()[0].isArray()) {
+                continue;
+            }
+            Class<?> arrayType = executable.getParameterTypes()[0].getComponentType();
+            boolean spread = true;
+            for (Class<?> c : suppliedParameterTypes) {
+                if (c != null && !arrayType.isAssignableFrom(c)) {
+                    spread = false;
+                    break;
                 }
-                return true;
             }
-            return false;
-        }).toArray(Executable[]::new);
-
+            if (spread) {
+                throw new ReflectiveAseefianException("It looks like you meant to call " + executable.getDeclaringClass() + "#" + executable.getName() + "(" + executable.getParameterTypes()[0].getSimpleName() + ")" + ". However it was unclear if a varargs or non-varargs call was desired since the passed parameters can either be interpreted as a single array type parameter, or a sequence of (in your cast) " + suppliedParameterTypes.length + " parameters. To fix this, case your array argument to Object.", ReflectiveAseefianException.ExceptionType.AMBIGUOUS_CALL);
+            }
+        }
     }
 
     public Field[] getFieldsByType(Class<?> clazz, Class<?> fieldType, boolean exactType) {
-        FieldSignature fieldSig = new FieldSignature(clazz, fieldType);
+        return getFieldsByType(clazz, fieldType, exactType, false);
+    }
+
+    @Override
+    public Field[] getFieldsByType(@NonNull Class<?> clazz, @NonNull Class<?> fieldType, boolean exactType, boolean includeInherited) {
+        LookupEvent event = beginLookupEvent();
+        FieldSignature fieldSig = new FieldSignature(clazz, fieldType, exactType, includeInherited);
         Field[] fields = fieldCache.getIfPresent(fieldSig);
-        if (fields != null) {
-            return fields;
-        }
-        fields = Arrays.stream(clazz.getDeclaredFields()).parallel()
-                .filter(f -> {
-                    if (f.getType() == fieldType)
-                        return true;
-                    else if (!exactType) {
-                        Deque<Class<?>> interfacesToSearch = new ArrayDeque<>(Arrays.asList(f.getType().getInterfaces()));
-                        if (!interfacesToSearch.isEmpty()) {
-                            do {
-                                Class<?> interfaceClass = interfacesToSearch.poll();
-                                if (interfaceClass.equals(fieldType))
-                                    return true;
-                                interfacesToSearch.addAll(Arrays.asList(interfaceClass.getInterfaces()));
-                            } while (!interfacesToSearch.isEmpty());
-                        }
-                    }
-                    return false;
-                })
-                .toArray(Field[]::new);
-        Arrays.stream(fields).forEach(f -> f.setAccessible(true));
+        try {
+            return fields != null ? fields : resolveFieldsByType(fieldSig);
+        } finally {
+            completeLookupEvent(event, clazz, fieldType.getName(), fields != null);
+        }
+    }
+
+    private Field[] resolveFieldsByType(FieldSignature fieldSig) {
+        if (importSignatures(fieldSig.parentClass)) {
+            Field[] imported = fieldCache.getIfPresent(fieldSig);
+            if (imported != null) {
+                return imported;
+            }
+        }
+        long loadStart = System.nanoTime();
+        // the index groups the fields by their exact type, and by every type they're assignable to (copied since the index arrays are shared)
+        Field[] fields = MemberIndex.of(fieldSig.parentClass).getFieldsOfType(fieldSig.fieldType, fieldSig.exactType, fieldSig.includeInherited).clone();
+        for (int i = 0; i < fields.length; i++) {
+            fields[i] = MemberIndex.copyOf(fields[i]);
+            fields[i].setAccessible(true);
+        }
         fieldCache.put(fieldSig, fields);
+        fieldCache.recordLoad(System.nanoTime() - loadStart);
         return fields;
     }
 
     @Override
     public Field getFieldByType(Class<?> clazz, Class<?> fieldType, boolean exactType) {
-        Field[] fields = getFieldsByType(clazz, fieldType, exactType);
+        return getFieldByType(clazz, fieldType, exactType, false);
+    }
+
+    @Override
+    public Field getFieldByType(@NonNull Class<?> clazz, @NonNull Class<?> fieldType, boolean exactType, boolean includeInherited) {
+        Field[] fields = getFieldsByType(clazz, fieldType, exactType, includeInherited);
         if (fields.length == 0) {
             throw new ReflectiveAseefianException("No such field exists!", ReflectiveAseefianException.ExceptionType.FIELD_NOT_FOUND);
         } else if (fields.length > 1 && !config.allowAmbiguousCalls) {
@@ -452,60 +951,59 @@ public class JavaAseefianReflectionsImpl implements JavaAseefianReflections {
 
     @Override
     public Field getFieldByName(Class<?> clazz, String fieldName) {
-        Exception ex = null;
+        LookupEvent event = beginLookupEvent();
         FieldSignature fs = new FieldSignature(clazz, fieldName);
         Field[] matchingFieldsArr = fieldCache.getIfPresent(fs);
-        // note: List<Field> MUST be one or zero
-        Field currentField = matchingFieldsArr == null ? null : matchingFieldsArr[0];
-        // if current field is null, attempt to search through super classes
-        if (currentField == null) {
-            List<Field> matchingFields = new ArrayList<>();
-            while (clazz != null) {
-                try {
-                    currentField = clazz.getDeclaredField(fieldName);
-                    matchingFields.add(currentField);
-
-                    // Remove the final modifier if this is a final static field (otherwise it cant be modified)
-                    if (config.allowModifyFinalStaticFields &&
-                            (currentField.getModifiers() & (Modifier.FINAL | Modifier.STATIC)) == (Modifier.FINAL | Modifier.STATIC)) {
-                        if (modifiersField == null) {
-                            modifiersField = Field.class.getDeclaredField("modifiers");
-                            modifiersField.setAccessible(true);
-                        }
-                        modifiersField.setInt(currentField, currentField.getModifiers() & ~Modifier.FINAL);
-                    }
+        try {
+            return matchingFieldsArr != null ? matchingFieldsArr[0] : resolveFieldByName(fs);
+        } finally {
+            completeLookupEvent(event, clazz, fieldName, matchingFieldsArr != null);
+        }
+    }
 
-                    ex = null;
-                    break;
-                } catch (NoSuchFieldException e1) {
-                    if (config.searchSuperClasses) {
-                        ex = e1;
-                        clazz = clazz.getSuperclass();
-                    } else {
-                        throw new ReflectiveAseefianException(ex, ReflectiveAseefianException.ExceptionType.FIELD_NOT_FOUND);
-                    }
-                } catch (IllegalAccessException e2) {
-                    // very unlikely but I suppose possible that an accessible
-                    // field with the same name exists in a super class?
-                    if (config.searchSuperClasses) {
-                        ex = e2;
-                        clazz = clazz.getSuperclass();
-                    } else {
-                        throw new ReflectiveAseefianException(ex, ReflectiveAseefianException.ExceptionType.ILLEGAL_ACCESS);
-                    }
-                }
+    private Field resolveFieldByName(FieldSignature fs) {
+        if (importSignatures(fs.parentClass)) {
+            Field[] imported = fieldCache.getIfPresent(fs);
+            if (imported != null) {
+                return imported[0];
             }
-            matchingFieldsArr = matchingFields.toArray(Field[]::new);
         }
-        // if still nothing found, throw error
-        if (matchingFieldsArr.length == 0) {
-            throw new ReflectiveAseefianException(ex, ReflectiveAseefianException.ExceptionType.FIELD_NOT_FOUND);
+        Class<?> clazz = fs.parentClass;
+        String fieldName = fs.fieldName;
+        long loadStart = System.nanoTime();
+        rethrowFailedLookup(fs);
+        // the class itself and (if enabled) then its super classes, closest first
+        Class<?>[] classesToCheck = config.searchSuperClasses ? MemberIndex.of(clazz).getSuperClassChain() : new Class<?>[]{clazz};
+        Field field = null;
+        for (Class<?> currentClazz : classesToCheck) {
+            field = MemberIndex.of(currentClazz).getField(fieldName);
+            if (field != null) break;
         }
-        // cache
-        fieldCache.put(fs, matchingFieldsArr);
-        // return field
-        Field field = matchingFieldsArr[0];
+        // if nothing found, throw error
+        if (field == null) {
+            throw recordFailedLookup(fs, new ReflectiveAseefianException(new NoSuchFieldException(fieldName), ReflectiveAseefianException.ExceptionType.FIELD_NOT_FOUND));
+        }
+        // the modifiers and accessibility of the index' field are left untouched for everyone else
+        field = MemberIndex.copyOf(field);
+
+        // Remove the final modifier if this is a final static field (otherwise it cant be modified)
+        if (config.allowModifyFinalStaticFields &&
+                (field.getModifiers() & (Modifier.FINAL | Modifier.STATIC)) == (Modifier.FINAL | Modifier.STATIC)) {
+            try {
+                if (modifiersField == null) {
+                    modifiersField = Field.class.getDeclaredField("modifiers");
+                    modifiersField.setAccessible(true);
+                }
+                modifiersField.setInt(field, field.getModifiers() & ~Modifier.FINAL);
+            } catch (NoSuchFieldException | IllegalAccessException ignored) {
+                // newer JVMs hide the modifiers of a field; setting the field will then fail like usual
+            }
+        }
+
         field.setAccessible(true);
+        // cache
+        fieldCache.put(fs, new Field[]{field});
+        fieldCache.recordLoad(System.nanoTime() - loadStart);
         return field;
     }
 
@@ -524,7 +1022,12 @@ public class JavaAseefianReflectionsImpl implements JavaAseefianReflections {
     @SneakyThrows
     private <K, V> K setFieldInternal(K obj, @NonNull String fieldName, @Nullable V value, @NonNull Class<?> clazz) {
         Field field = getFieldByName(clazz, fieldName);
+        GeneratedAccessors generated = getGeneratedAccessors(field.getDeclaringClass());
         try {
+            if (generated != null && generated.canSet(field)) {
+                generated.set(field, obj, value);
+                return obj;
+            }
             field.set(obj, value);
         } catch (IllegalAccessException ex1) {
             throw new ReflectiveAseefianException(ex1, ReflectiveAseefianException.ExceptionType.ILLEGAL_ACCESS);
@@ -534,6 +1037,410 @@ public class JavaAseefianReflectionsImpl implements JavaAseefianReflections {
         return obj;
     }
 
+    @Override
+    public FieldAccessor getFieldAccessor(@NonNull Class<?> clazz, @NonNull String field) {
+        return getFieldAccessor(getFieldByName(clazz, field));
+    }
+
+    @Override
+    public FieldAccessor getFieldAccessor(@NonNull Field field) {
+        FieldAccessor accessor = fieldAccessorCache.getIfPresent(field);
+        if (accessor != null) {
+            return accessor;
+        }
+        long loadStart = System.nanoTime();
+        try {
+            accessor = VarHandleFieldAccessor.create(field);
+        } catch (IllegalAccessException ex) {
+            // no var handle could be created for this field, so fall back to reflections
+            accessor = new ReflectiveFieldAccessor(field);
+        }
+        fieldAccessorCache.put(field, accessor);
+        fieldAccessorCache.recordLoad(System.nanoTime() - loadStart);
+        return accessor;
+    }
+
+    @Override
+    public Object[] getFieldValues(@NonNull Object obj, @NonNull String... fields) {
+        FieldAccessor[] accessors = getFieldPlan(obj.getClass(), fields).accessors;
+        Object[] values = new Object[accessors.length];
+        for (int i = 0; i < accessors.length; i++) {
+            values[i] = accessors[i].get(obj);
+        }
+        return values;
+    }
+
+    @Override
+    public <K> K setFieldValues(@NonNull K obj, @NonNull String[] fields, @NonNull Object[] values) {
+        if (fields.length != values.length) {
+            throw new ReflectiveAseefianException("Supplied " + values.length + " values for " + fields.length + " fields!", ReflectiveAseefianException.ExceptionType.ILLEGAL_ARGUMENT);
+        }
+        FieldAccessor[] accessors = getFieldPlan(obj.getClass(), fields).accessors;
+        for (int i = 0; i < accessors.length; i++) {
+            accessors[i].set(obj, values[i]);
+        }
+        return obj;
+    }
+
+    @Override
+    public <K> K copyFields(@NonNull Object source, @NonNull K destination) {
+        if (!source.getClass().isInstance(destination)) {
+            throw new ReflectiveAseefianException("The destination " + destination.getClass().getName() + " is not an instance of " + source.getClass().getName() + "!", ReflectiveAseefianException.ExceptionType.ILLEGAL_ARGUMENT);
+        }
+        for (FieldAccessor accessor : getFieldPlan(source.getClass(), null).accessors) {
+            copyField(accessor, source, destination);
+        }
+        return destination;
+    }
+
+    /**
+     * Get the (cached) plan of a bulk field access.
+     * @param clazz - the class of the objects which will be accessed
+     * @param fieldNames - the names of the fields in the order they are accessed, or null for all the instance fields
+     * @return the plan
+     */
+    private FieldPlan getFieldPlan(Class<?> clazz, String @Nullable [] fieldNames) {
+        FieldPlanKey key = new FieldPlanKey(clazz, fieldNames);
+        FieldPlan plan = fieldPlanCache.getIfPresent(key);
+        if (plan != null) {
+            return plan;
+        }
+        long loadStart = System.nanoTime();
+        List<FieldAccessor> accessors = new ArrayList<>();
+        if (fieldNames == null) {
+            Class<?>[] classesToCopy = config.searchSuperClasses ? MemberIndex.of(clazz).getSuperClassChain() : new Class<?>[]{clazz};
+            for (Class<?> currentClazz : classesToCopy) {
+                for (Field field : MemberIndex.of(currentClazz).getFields()) {
+                    if (Modifier.isStatic(field.getModifiers())) continue;
+                    accessors.add(getFieldAccessor(accessibleCopyOf(field)));
+                }
+            }
+        } else {
+            for (String fieldName : fieldNames) {
+                accessors.add(getFieldAccessor(getFieldByName(clazz, fieldName)));
+            }
+        }
+        plan = new FieldPlan(accessors.toArray(new FieldAccessor[0]));
+        // the caller may still modify its array of field names, so only a copy of it may be stored
+        fieldPlanCache.put(new FieldPlanKey(clazz, fieldNames == null ? null : fieldNames.clone()), plan);
+        fieldPlanCache.recordLoad(System.nanoTime() - loadStart);
+        return plan;
+    }
+
+    @Override
+    public Map<String, Object> toMap(@NonNull Object obj) {
+        MapperSchema schema = getMapperSchema(obj.getClass());
+        // presized so that it is never resized
+        Map<String, Object> map = new LinkedHashMap<>((int) (schema.fieldNames.length / 0.75f) + 1);
+        for (int i = 0; i < schema.accessors.length; i++) {
+            map.put(schema.fieldNames[i], schema.accessors[i].get(obj));
+        }
+        return map;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T fromMap(@NonNull Class<T> clazz, @NonNull Map<String, ?> values) {
+        MapperSchema schema = getMapperSchema(clazz);
+        Constructor<?> constructor = schema.constructor;
+        if (constructor == null) {
+            // only resolved once it is needed, as classes which are only ever mapped to a map need no such constructor
+            constructor = getConstructor(clazz);
+            schema.constructor = constructor;
+        }
+        T obj;
+        try {
+            obj = (T) getInvoker(constructor).invoke(null, new Object[0]);
+        } catch (InvocationTargetException | InstantiationException | IllegalAccessException ex) {
+            throw new ReflectiveAseefianException(ex);
+        }
+        for (int i = 0; i < schema.accessors.length; i++) {
+            // fields missing from the map keep the value the constructor gave them
+            Object value = values.get(schema.fieldNames[i]);
+            if (value != null || values.containsKey(schema.fieldNames[i])) {
+                schema.accessors[i].set(obj, value);
+            }
+        }
+        return obj;
+    }
+
+    private MapperSchema getMapperSchema(Class<?> clazz) {
+        MapperSchema schema = mapperSchemaCache.getIfPresent(clazz);
+        if (schema != null) {
+            return schema;
+        }
+        long loadStart = System.nanoTime();
+        Map<String, FieldAccessor> accessors = new LinkedHashMap<>();
+        Class<?>[] classesToMap = config.searchSuperClasses ? MemberIndex.of(clazz).getSuperClassChain() : new Class<?>[]{clazz};
+        for (Class<?> currentClazz : classesToMap) {
+            for (Field field : MemberIndex.of(currentClazz).getFields()) {
+                // a field hides the fields of its super classes with the same name
+                if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic() || accessors.containsKey(field.getName())) continue;
+                accessors.put(field.getName(), getFieldAccessor(accessibleCopyOf(field)));
+            }
+        }
+        schema = new MapperSchema(accessors.keySet().toArray(new String[0]), accessors.values().toArray(new FieldAccessor[0]));
+        mapperSchemaCache.put(clazz, schema);
+        mapperSchemaCache.recordLoad(System.nanoTime() - loadStart);
+        return schema;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T deepCopy(@Nullable T obj) {
+        // the copy of every object copied so far, so shared references (and cycles) are copied only once
+        Map<Object, Object> copies = new IdentityHashMap<>();
+        // the objects which have been allocated, but whose contents still need to be copied. This is done
+        // iteratively rather than recursively so that deep graphs (like long linked lists) can't overflow the stack
+        Deque<Object> pending = new ArrayDeque<>();
+        // the rebuilt collections and maps are only filled once everything else is copied, so the hash codes (and
+        // comparisons) of their copied elements are final. Nested ones are discovered later, so are filled first
+        Deque<Runnable> fills = new ArrayDeque<>();
+        T copy = (T) copyReference(obj, copies, pending);
+        while (!pending.isEmpty()) {
+            Object original = pending.poll();
+            copyContents(original, copies.get(original), copies, pending, fills);
+        }
+        while (!fills.isEmpty()) {
+            fills.pop().run();
+        }
+        return copy;
+    }
+
+    /**
+     * Get the copy of the specified reference, allocating it (but not yet copying its contents) if needed.
+     */
+    private @Nullable Object copyReference(@Nullable Object original, Map<Object, Object> copies, Deque<Object> pending) {
+        if (original == null) {
+            return null;
+        }
+        Object copy = copies.get(original);
+        if (copy != null) {
+            return copy;
+        }
+        CopyPlan plan = getCopyPlan(original.getClass());
+        if (plan.strategy == CopyStrategy.SKIP) {
+            return null;
+        } else if (plan.strategy == CopyStrategy.SHALLOW) {
+            return original;
+        }
+        if (plan.arrayComponentType != null) {
+            int length = Array.getLength(original);
+            copy = Array.newInstance(plan.arrayComponentType, length);
+            // this copies primitive arrays (and the elements of arrays of immutable types) entirely
+            System.arraycopy(original, 0, copy, 0, length);
+        } else if (plan.rebuildConstructor != null) {
+            copy = newEmptyInstance(original, plan.rebuildConstructor);
+        } else {
+            copy = allocateInstance(original.getClass());
+        }
+        copies.put(original, copy);
+        if (plan.hasReferences) {
+            pending.add(original);
+        }
+        return copy;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void copyContents(Object original, Object copy, Map<Object, Object> copies, Deque<Object> pending, Deque<Runnable> fills) {
+        CopyPlan plan = getCopyPlan(original.getClass());
+        if (plan.arrayComponentType != null) {
+            Object[] originalArray = (Object[]) original;
+            Object[] copyArray = (Object[]) copy;
+            for (int i = 0; i < originalArray.length; i++) {
+                copyArray[i] = copyReference(originalArray[i], copies, pending);
+            }
+            return;
+        } else if (plan.rebuildConstructor != null && original instanceof Map) {
+            Object[] entries = new Object[((Map<?, ?>) original).size() * 2];
+            int i = 0;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) original).entrySet()) {
+                entries[i++] = copyReference(entry.getKey(), copies, pending);
+                entries[i++] = copyReference(entry.getValue(), copies, pending);
+            }
+            fills.push(() -> {
+                for (int j = 0; j < entries.length; j += 2) {
+                    ((Map<Object, Object>) copy).put(entries[j], entries[j + 1]);
+                }
+            });
+            return;
+        } else if (plan.rebuildConstructor != null) {
+            Object[] elements = ((Collection<?>) original).toArray();
+            for (int i = 0; i < elements.length; i++) {
+                elements[i] = copyReference(elements[i], copies, pending);
+            }
+            fills.push(() -> ((Collection<Object>) copy).addAll(Arrays.asList(elements)));
+            return;
+        }
+        for (FieldAccessor accessor : plan.primitives) {
+            copyField(accessor, original, copy);
+        }
+        for (FieldAccessor accessor : plan.references) {
+            accessor.set(copy, copyReference(accessor.get(original), copies, pending));
+        }
+    }
+
+    private CopyPlan getCopyPlan(Class<?> clazz) {
+        CopyPlan plan = copyPlanCache.getIfPresent(clazz);
+        if (plan != null) {
+            return plan;
+        }
+        long loadStart = System.nanoTime();
+        CopyStrategy strategy = getCopyStrategy(clazz);
+        if (strategy != CopyStrategy.DEEP) {
+            plan = new CopyPlan(strategy, null, false, new FieldAccessor[0], new FieldAccessor[0]);
+        } else if (clazz.isArray()) {
+            Class<?> componentType = clazz.getComponentType();
+            plan = new CopyPlan(strategy, componentType, !componentType.isPrimitive() && getCopyStrategy(componentType) != CopyStrategy.SHALLOW,
+                    new FieldAccessor[0], new FieldAccessor[0]);
+        } else if (clazz.getName().startsWith("java.") && (Collection.class.isAssignableFrom(clazz) || Map.class.isAssignableFrom(clazz))) {
+            // the internals of the JDK's collections can't be copied as they are: their hash tables and trees are
+            // built from the original elements (and they are not accessible on newer JDKs), so they are rebuilt instead
+            Constructor<?> constructor = findRebuildConstructor(clazz);
+            plan = constructor == null
+                    ? new CopyPlan(CopyStrategy.SHALLOW, null, false, new FieldAccessor[0], new FieldAccessor[0])
+                    : new CopyPlan(strategy, null, true, new FieldAccessor[0], new FieldAccessor[0], constructor);
+        } else {
+            List<FieldAccessor> primitives = new ArrayList<>();
+            List<FieldAccessor> references = new ArrayList<>();
+            // every field has to be copied, regardless of whether super classes are searched for lookups
+            for (Class<?> currentClazz : MemberIndex.of(clazz).getSuperClassChain()) {
+                for (Field field : MemberIndex.of(currentClazz).getFields()) {
+                    if (Modifier.isStatic(field.getModifiers())) continue;
+                    Field accessible;
+                    try {
+                        accessible = accessibleCopyOf(field);
+                    } catch (InaccessibleObjectException ex) {
+                        throw new ReflectiveAseefianException(ex, ReflectiveAseefianException.ExceptionType.ILLEGAL_ACCESS);
+                    }
+                    (field.getType().isPrimitive() ? primitives : references).add(getFieldAccessor(accessible));
+                }
+            }
+            plan = new CopyPlan(strategy, null, !references.isEmpty(), primitives.toArray(new FieldAccessor[0]), references.toArray(new FieldAccessor[0]));
+        }
+        copyPlanCache.put(clazz, plan);
+        copyPlanCache.recordLoad(System.nanoTime() - loadStart);
+        return plan;
+    }
+
+    /**
+     * @return the public constructor creating an empty instance of the public collection/map class (taking a comparator
+     * if the class has one), or null if there is none, for example for the unmodifiable collections
+     */
+    private static @Nullable Constructor<?> findRebuildConstructor(Class<?> clazz) {
+        if (!Modifier.isPublic(clazz.getModifiers()) || Modifier.isAbstract(clazz.getModifiers())) {
+            return null;
+        }
+        try {
+            try {
+                clazz.getMethod("comparator");
+            } catch (NoSuchMethodException ex) {
+                return clazz.getConstructor();
+            }
+            return clazz.getConstructor(Comparator.class);
+        } catch (NoSuchMethodException ex) {
+            return null;
+        }
+    }
+
+    private Object newEmptyInstance(Object original, Constructor<?> constructor) {
+        try {
+            Object[] arguments = constructor.getParameterCount() == 0 ? new Object[0]
+                    : new Object[]{invokeMethod(original, getMethodByNameAndParams(original.getClass(), "comparator"))};
+            return getInvoker(constructor).invoke(null, arguments);
+        } catch (ReflectiveAseefianException ex) {
+            throw ex;
+        } catch (InvocationTargetException ex) {
+            throw new ReflectiveAseefianException(ex.getCause(), ReflectiveAseefianException.ExceptionType.INSTANTIATION_EXCEPTION);
+        } catch (ReflectiveOperationException ex) {
+            throw new ReflectiveAseefianException(ex, ReflectiveAseefianException.ExceptionType.INSTANTIATION_EXCEPTION);
+        }
+    }
+
+    /**
+     * @return the configured strategy of the class (or of its closest configured super type), or else the default one
+     */
+    private CopyStrategy getCopyStrategy(Class<?> clazz) {
+        if (IMMUTABLE_TYPES.contains(clazz) || clazz.isEnum() || (clazz.getSuperclass() != null && clazz.getSuperclass().isEnum())) {
+            return CopyStrategy.SHALLOW;
+        }
+        for (Class<?> currentClazz : MemberIndex.of(clazz).getSuperClassChain()) {
+            CopyStrategy strategy = config.copyStrategies.get(currentClazz);
+            if (strategy != null) {
+                return strategy;
+            }
+        }
+        for (Map.Entry<Class<?>, CopyStrategy> entry : config.copyStrategies.entrySet()) {
+            if (entry.getKey().isInterface() && entry.getKey().isAssignableFrom(clazz)) {
+                return entry.getValue();
+            }
+        }
+        return CopyStrategy.DEEP;
+    }
+
+    private static final Set<Class<?>> IMMUTABLE_TYPES = new HashSet<>(Arrays.asList(
+            String.class, Boolean.class, Character.class, Byte.class, Short.class, Integer.class, Long.class,
+            Float.class, Double.class, BigInteger.class, BigDecimal.class, UUID.class, Class.class
+    ));
+
+    // allocates an instance without running any of its constructors, or null if Unsafe isn't available
+    private static final @Nullable MethodHandle allocateInstance = findAllocateInstance();
+
+    private static @Nullable MethodHandle findAllocateInstance() {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            MethodHandle handle = MethodHandles.lookup().unreflect(unsafeClass.getMethod("allocateInstance", Class.class));
+            return handle.bindTo(theUnsafe.get(null)).asType(MethodType.methodType(Object.class, Class.class));
+        } catch (ReflectiveOperationException | RuntimeException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * Create an instance of the class for a copy. Since all the fields are overwritten, no constructor is run, unless
+     * that is the only way of creating an instance (in which case the class needs a no argument constructor).
+     */
+    private Object allocateInstance(Class<?> clazz) {
+        try {
+            if (allocateInstance != null) {
+                return (Object) allocateInstance.invokeExact(clazz);
+            }
+            return getInvoker(getConstructor(clazz)).invoke(null, new Object[0]);
+        } catch (ReflectiveAseefianException ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new ReflectiveAseefianException(ex, ReflectiveAseefianException.ExceptionType.INSTANTIATION_EXCEPTION);
+        }
+    }
+
+    /**
+     * Copy a single field without boxing primitive values.
+     */
+    private static void copyField(FieldAccessor accessor, Object source, Object destination) {
+        Class<?> type = accessor.getField().getType();
+        if (!type.isPrimitive()) {
+            accessor.set(destination, accessor.get(source));
+        } else if (type == int.class) {
+            accessor.setInt(destination, accessor.getInt(source));
+        } else if (type == long.class) {
+            accessor.setLong(destination, accessor.getLong(source));
+        } else if (type == double.class) {
+            accessor.setDouble(destination, accessor.getDouble(source));
+        } else if (type == float.class) {
+            accessor.setFloat(destination, accessor.getFloat(source));
+        } else if (type == boolean.class) {
+            accessor.setBoolean(destination, accessor.getBoolean(source));
+        } else if (type == byte.class) {
+            accessor.setByte(destination, accessor.getByte(source));
+        } else if (type == short.class) {
+            accessor.setShort(destination, accessor.getShort(source));
+        } else {
+            accessor.setChar(destination, accessor.getChar(source));
+        }
+    }
+
     public <E> E getStaticFieldValue(@NonNull Class<?> clazz, @NonNull String field) {
         return getFieldInternalValue(null, field, clazz);
     }
@@ -550,6 +1457,10 @@ public class JavaAseefianReflectionsImpl implements JavaAseefianReflections {
     private <T, E> E getFieldInternalValue(T obj, @NonNull String fieldValue, Class<?> clazz) {
         try {
             Field field = getFieldByName(clazz, fieldValue);
+            GeneratedAccessors generated = getGeneratedAccessors(field.getDeclaringClass());
+            if (generated != null && generated.canGet(field)) {
+                return (E) generated.get(field, obj);
+            }
             return (E) field.get(obj);
         } catch (IllegalAccessException e) {
             throw new ReflectiveAseefianException(e);
@@ -559,34 +1470,298 @@ public class JavaAseefianReflectionsImpl implements JavaAseefianReflections {
     @Getter
     @EqualsAndHashCode
     @ToString
-    public static class MethodSignature {
+    public static class MethodSignature implements ClassScoped {
         Class<?> clazz;
         @Nullable Class<?> methodReturnType;
         @Nullable String methodName;
         @Nullable Class<?>[] parameterTypes;
-        private MethodSignature(Class<?> clazz, @Nullable String methodName, @Nullable Class<?> methodReturnType, @Nullable Class<?>[] parameterTypes) {
+        MethodSignature(Class<?> clazz, @Nullable String methodName, @Nullable Class<?> methodReturnType, @Nullable Class<?>[] parameterTypes) {
             this.clazz = clazz;
             this.methodName = methodName;
             this.methodReturnType = methodReturnType;
             this.parameterTypes = parameterTypes;
         }
+
+        @Override
+        public @Nullable Class<?> getScopeClass() {
+            // the arguments of a call may well be instances of classes of a more specific loader than the called class
+            Class<?> scope = CacheScopes.narrower(CacheScopes.narrower(null, clazz), methodReturnType);
+            if (parameterTypes != null) {
+                for (Class<?> parameterType : parameterTypes) {
+                    scope = CacheScopes.narrower(scope, parameterType);
+                }
+            }
+            return scope;
+        }
+
+        @Override
+        public boolean refersTo(Predicate<? super Class<?>> test) {
+            return (clazz != null && test.test(clazz)) || (methodReturnType != null && test.test(methodReturnType))
+                    || CacheScopes.refersTo(parameterTypes, test);
+        }
+
+        /**
+         * @return a copy of this signature which doesn't share its parameter types (with a {@link SignatureProbe})
+         */
+        private MethodSignature copy() {
+            return new MethodSignature(clazz, methodName, methodReturnType, parameterTypes == null ? null : parameterTypes.clone());
+        }
+    }
+
+    /**
+     * A mutable {@link MethodSignature} which is refilled for every lookup made by its thread, along with the
+     * parameter type arrays it reuses for the common parameter counts. It must never be used as a cache key itself.
+     */
+    private static class SignatureProbe {
+        private static final int MAX_REUSED_PARAMETER_COUNT = 8;
+        private final MethodSignature signature = new MethodSignature(null, null, null, null);
+        private final Class<?>[][] parameterTypeBuffers = new Class<?>[MAX_REUSED_PARAMETER_COUNT + 1][];
+
+        private MethodSignature of(Class<?> clazz, String methodName, Object[] parameters) {
+            Class<?>[] parameterTypes;
+            if (parameters.length <= MAX_REUSED_PARAMETER_COUNT) {
+                parameterTypes = parameterTypeBuffers[parameters.length];
+                if (parameterTypes == null) {
+                    parameterTypes = new Class<?>[parameters.length];
+                    parameterTypeBuffers[parameters.length] = parameterTypes;
+                }
+            } else {
+                parameterTypes = new Class<?>[parameters.length];
+            }
+            for (int i = 0; i < parameters.length; i++) {
+                parameterTypes[i] = parameters[i] == null ? null : parameters[i].getClass();
+            }
+            signature.clazz = clazz;
+            signature.methodName = methodName;
+            signature.methodReturnType = null;
+            signature.parameterTypes = parameterTypes;
+            return signature;
+        }
+    }
+
+    /**
+     * The key of a method lookup which also searches the super classes and interfaces of the signature's class.
+     */
+    @EqualsAndHashCode
+    private static class HierarchyLookup implements ClassScoped {
+        private final MethodSignature signature;
+        private HierarchyLookup(MethodSignature signature) {
+            this.signature = signature;
+        }
+        @Override
+        public @Nullable Class<?> getScopeClass() {
+            return signature.getScopeClass();
+        }
+        @Override
+        public boolean refersTo(Predicate<? super Class<?>> test) {
+            return signature.refersTo(test);
+        }
+    }
+
+    private static class FailedLookup {
+        private static final long NEVER = Long.MIN_VALUE;
+        private final ReflectiveAseefianException failure;
+        // System#nanoTime based, or NEVER
+        private final long expiresAt;
+        private FailedLookup(ReflectiveAseefianException failure, long expiresAt) {
+            this.failure = failure;
+            this.expiresAt = expiresAt;
+        }
+        private boolean isExpired() {
+            return expiresAt != NEVER && System.nanoTime() - expiresAt >= 0;
+        }
+    }
+
+    /**
+     * What the targets of one class resolved to in a bulk call/access: the member to use, or why there is none.
+     */
+    private static class BulkTarget<M> {
+        private final @Nullable M member;
+        private final @Nullable RuntimeException failure;
+        private BulkTarget(@Nullable M member, @Nullable RuntimeException failure) {
+            this.member = member;
+            this.failure = failure;
+        }
+    }
+
+    /**
+     * A method resolved for a bulk call, along with the parameters converted for it.
+     */
+    private static class PreparedCall {
+        private final Method method;
+        private final ExecutableInvoker invoker;
+        private final Object[] parameters;
+        private PreparedCall(Method method, ExecutableInvoker invoker, Object[] parameters) {
+            this.method = method;
+            this.invoker = invoker;
+            this.parameters = parameters;
+        }
+    }
+
+    /**
+     * Applies the operation of a bulk call/access to a range of the targets, splitting the range in halves until it is
+     * smaller than the threshold. Every task writes the results and failures of its own range only.
+     */
+    private static class BulkTask<M> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final Object[] targets;
+        private final Map<Class<?>, BulkTarget<M>> resolved;
+        private final BiFunction<M, Object, Object> operation;
+        private final Object[] results;
+        private final RuntimeException[] failures;
+        private final int start;
+        private final int end;
+        private final int threshold;
+        private BulkTask(Object[] targets, Map<Class<?>, BulkTarget<M>> resolved, BiFunction<M, Object, Object> operation,
+                         Object[] results, RuntimeException[] failures, int start, int end, int threshold) {
+            this.targets = targets;
+            this.resolved = resolved;
+            this.operation = operation;
+            this.results = results;
+            this.failures = failures;
+            this.start = start;
+            this.end = end;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start >= threshold && end - start > 1) {
+                int middle = (start + end) >>> 1;
+                invokeAll(new BulkTask<>(targets, resolved, operation, results, failures, start, middle, threshold),
+                        new BulkTask<>(targets, resolved, operation, results, failures, middle, end, threshold));
+                return;
+            }
+            for (int i = start; i < end; i++) {
+                Object target = targets[i];
+                try {
+                    if (target == null) {
+                        throw new ReflectiveAseefianException("The target at index " + i + " is null!", ReflectiveAseefianException.ExceptionType.ILLEGAL_ARGUMENT);
+                    }
+                    BulkTarget<M> bulkTarget = resolved.get(target.getClass());
+                    if (bulkTarget.failure != null) {
+                        // every target gets its own exception, so callers may safely rethrow (or add to) each of them
+                        RuntimeException failure = bulkTarget.failure;
+                        throw new ReflectiveAseefianException(failure, failure instanceof ReflectiveAseefianException
+                                ? ((ReflectiveAseefianException) failure).getExceptionType() : ReflectiveAseefianException.ExceptionType.UNKNOWN);
+                    }
+                    results[i] = operation.apply(bulkTarget.member, target);
+                } catch (RuntimeException ex) {
+                    failures[i] = ex;
+                }
+            }
+        }
+    }
+
+    /**
+     * The key of a bulk field access: the class and the names of the accessed fields (null for all the instance fields).
+     */
+    @EqualsAndHashCode
+    private static class FieldPlanKey implements ClassScoped {
+        private final Class<?> clazz;
+        private final String @Nullable [] fieldNames;
+        private FieldPlanKey(Class<?> clazz, String @Nullable [] fieldNames) {
+            this.clazz = clazz;
+            this.fieldNames = fieldNames;
+        }
+        @Override
+        public Class<?> getScopeClass() {
+            return clazz;
+        }
+        @Override
+        public boolean refersTo(Predicate<? super Class<?>> test) {
+            return test.test(clazz);
+        }
+    }
+
+    /**
+     * The accessors of the fields of a bulk field access, in the order the fields were requested.
+     */
+    private static class FieldPlan {
+        private final FieldAccessor[] accessors;
+        private FieldPlan(FieldAccessor[] accessors) {
+            this.accessors = accessors;
+        }
+    }
+
+    /**
+     * The instance fields of a class (with the names they are mapped to) and its no argument constructor.
+     */
+    private static class MapperSchema {
+        private final String[] fieldNames;
+        private final FieldAccessor[] accessors;
+        // resolved on the first use; resolving it twice on a race is harmless
+        private volatile @Nullable Constructor<?> constructor;
+        private MapperSchema(String[] fieldNames, FieldAccessor[] accessors) {
+            this.fieldNames = fieldNames;
+            this.accessors = accessors;
+        }
+    }
+
+    /**
+     * How the instances of a single class are copied by deepCopy.
+     */
+    private static class CopyPlan {
+        private final CopyStrategy strategy;
+        // the component type of array classes, otherwise null
+        private final @Nullable Class<?> arrayComponentType;
+        // whether the copy references anything which must be copied too
+        private final boolean hasReferences;
+        private final FieldAccessor[] primitives;
+        private final FieldAccessor[] references;
+        // for the JDK's collections and maps, which are rebuilt rather than copied field by field: the constructor of an
+        // empty instance, taking the comparator of the original if it has one; otherwise null
+        private final @Nullable Constructor<?> rebuildConstructor;
+        private CopyPlan(CopyStrategy strategy, @Nullable Class<?> arrayComponentType, boolean hasReferences, FieldAccessor[] primitives, FieldAccessor[] references) {
+            this(strategy, arrayComponentType, hasReferences, primitives, references, null);
+        }
+        private CopyPlan(CopyStrategy strategy, @Nullable Class<?> arrayComponentType, boolean hasReferences, FieldAccessor[] primitives, FieldAccessor[] references, @Nullable Constructor<?> rebuildConstructor) {
+            this.strategy = strategy;
+            this.arrayComponentType = arrayComponentType;
+            this.hasReferences = hasReferences;
+            this.primitives = primitives;
+            this.references = references;
+            this.rebuildConstructor = rebuildConstructor;
+        }
     }
 
     @Getter
     @EqualsAndHashCode
     @ToString
-    public static class FieldSignature {
+    public static class FieldSignature implements ClassScoped {
         @Nullable Class<?> parentClass;
         @Nullable Class<?> fieldType;
         String fieldName;
-        private FieldSignature(Class<?> parentClass, @NonNull Class<?> fieldType) {
+        // only used by lookups by type, which otherwise would share their key with the other kinds of lookups by the same type
+        boolean exactType;
+        boolean includeInherited;
+        private FieldSignature(Class<?> parentClass, @NonNull Class<?> fieldType, boolean exactType, boolean includeInherited) {
             this.parentClass = parentClass;
             this.fieldType = fieldType;
+            this.exactType = exactType;
+            this.includeInherited = includeInherited;
         }
         private FieldSignature(Class<?> parentClass, @NonNull String fieldName) {
             this.parentClass = parentClass;
             this.fieldName = fieldName;
         }
+        FieldSignature(Class<?> parentClass, @Nullable Class<?> fieldType, @Nullable String fieldName, boolean exactType, boolean includeInherited) {
+            this.parentClass = parentClass;
+            this.fieldType = fieldType;
+            this.fieldName = fieldName;
+            this.exactType = exactType;
+            this.includeInherited = includeInherited;
+        }
+
+        @Override
+        public @Nullable Class<?> getScopeClass() {
+            return CacheScopes.narrower(CacheScopes.narrower(null, parentClass), fieldType);
+        }
+
+        @Override
+        public boolean refersTo(Predicate<? super Class<?>> test) {
+            return (parentClass != null && test.test(parentClass)) || (fieldType != null && test.test(fieldType));
+        }
     }
 
 }
\ No newline at end of file
@@ -29,6 +29,12 @@ public class ReflectiveAseefianException extends RuntimeException {
         this.exceptionType = ExceptionType.UNKNOWN;
     }
 
+    // rethrows a remembered failure (such as a cached failed lookup) with a fresh stack trace
+    ReflectiveAseefianException(ReflectiveAseefianException failure) {
+        super(failure.getMessage(), failure.getCause());
+        this.exceptionType = failure.getExceptionType();
+    }
+
     private static ExceptionType deduceExceptionType(Throwable throwable) {
         if (throwable instanceof NoSuchFieldException) {
             return ExceptionType.FIELD_NOT_FOUND;
@@ -0,0 +1,364 @@
+package com.github.Aseeef;
+
+import com.github.Aseeef.JavaAseefianReflectionsImpl.FieldSignature;
+import com.github.Aseeef.JavaAseefianReflectionsImpl.MethodSignature;
+import com.github.Aseeef.index.MemberIndex;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+/**
+ * A file of resolved method and field lookups (see {@link JavaAseefianReflections#exportSignatures(Path)}).
+ * <p>
+ * The lookups are grouped by the class they were made on. An imported file is memory mapped, and only the names of
+ * its classes are read up front; the lookups of a class are decoded (and verified) the first time the class misses the
+ * caches. Every class and member is written as its name plus its descriptor, and lookups whose members no longer
+ * exist are dropped. So are all the lookups of a class whose part of the file turns out to be corrupt, leaving them
+ * to be resolved as usual.
+ */
+final class SignatureIndex {
+
+    private static final int MAGIC = 0x4A415253; // "JARS"
+    private static final int VERSION = 2;
+    private static final byte METHOD_LOOKUP = 0;
+    private static final byte FIELD_LOOKUP = 1;
+    private static final byte METHOD = 0;
+    private static final byte CONSTRUCTOR = 1;
+
+    private static final Map<String, Class<?>> PRIMITIVES = new HashMap<>();
+
+    static {
+        for (Class<?> primitive : new Class<?>[]{boolean.class, byte.class, short.class, char.class, int.class, long.class, float.class, double.class, void.class}) {
+            PRIMITIVES.put(primitive.getName(), primitive);
+        }
+    }
+
+    private final ByteBuffer buffer;
+    // the offset and length of the lookups of each class whose lookups haven't been imported yet
+    private final Map<String, int[]> pendingClasses;
+
+    private SignatureIndex(ByteBuffer buffer, Map<String, int[]> pendingClasses) {
+        this.buffer = buffer;
+        this.pendingClasses = pendingClasses;
+    }
+
+    /**
+     * Write the lookups to the file.
+     *
+     * @param file          the file to (over)write
+     * @param methodLookups the resolved method and constructor lookups
+     * @param fieldLookups  the resolved field lookups
+     */
+    static void write(Path file, Map<MethodSignature, Executable[]> methodLookups, Map<FieldSignature, Field[]> fieldLookups) throws IOException {
+        Map<Class<?>, ByteArrayOutputStream> classes = new LinkedHashMap<>();
+        Map<Class<?>, Integer> counts = new HashMap<>();
+        for (Map.Entry<MethodSignature, Executable[]> entry : methodLookups.entrySet()) {
+            MethodSignature signature = entry.getKey();
+            DataOutputStream out = new DataOutputStream(classes.computeIfAbsent(signature.clazz, k -> new ByteArrayOutputStream()));
+            counts.merge(signature.clazz, 1, Integer::sum);
+            out.writeByte(METHOD_LOOKUP);
+            writeNullable(out, signature.methodName);
+            writeNullable(out, signature.methodReturnType == null ? null : signature.methodReturnType.getName());
+            writeClassNames(out, signature.parameterTypes);
+            out.writeInt(entry.getValue().length);
+            for (Executable executable : entry.getValue()) {
+                out.writeByte(executable instanceof Method ? METHOD : CONSTRUCTOR);
+                writeString(out, executable.getDeclaringClass().getName());
+                writeString(out, executable.getName());
+                writeString(out, descriptorOf(executable));
+            }
+        }
+        for (Map.Entry<FieldSignature, Field[]> entry : fieldLookups.entrySet()) {
+            FieldSignature signature = entry.getKey();
+            DataOutputStream out = new DataOutputStream(classes.computeIfAbsent(signature.parentClass, k -> new ByteArrayOutputStream()));
+            counts.merge(signature.parentClass, 1, Integer::sum);
+            out.writeByte(FIELD_LOOKUP);
+            writeNullable(out, signature.fieldName);
+            writeNullable(out, signature.fieldType == null ? null : signature.fieldType.getName());
+            out.writeByte((signature.exactType ? 1 : 0) | (signature.includeInherited ? 2 : 0));
+            out.writeInt(entry.getValue().length);
+            for (Field field : entry.getValue()) {
+                writeString(out, field.getDeclaringClass().getName());
+                writeString(out, field.getName());
+                writeString(out, field.getType().getName());
+            }
+        }
+
+        try (OutputStream fileOut = Files.newOutputStream(file);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fileOut))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(classes.size());
+            for (Map.Entry<Class<?>, ByteArrayOutputStream> entry : classes.entrySet()) {
+                writeString(out, entry.getKey().getName());
+                // the length lets a reader skip the lookups of this class without decoding them
+                out.writeInt(entry.getValue().size() + 4);
+                out.writeInt(counts.get(entry.getKey()));
+                entry.getValue().writeTo(out);
+            }
+        }
+    }
+
+    /**
+     * Map the file into memory and read the names of the classes it has lookups for.
+     *
+     * @param file the file written by {@link #write(Path, Map, Map)}
+     * @return the (not yet imported) lookups
+     */
+    static SignatureIndex read(Path file) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // the mapping stays valid after the channel is closed
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (buffer.remaining() < 12 || buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+            throw new IOException("The file " + file + " is not a signature index (of this version)!");
+        }
+        try {
+            int classCount = readCount(buffer);
+            Map<String, int[]> pendingClasses = new ConcurrentHashMap<>(classCount * 2);
+            for (int i = 0; i < classCount; i++) {
+                String className = readString(buffer);
+                int length = buffer.getInt();
+                // every block starts with the number of its lookups
+                if (length < 4 || length > buffer.remaining()) {
+                    throw new IOException("The lookups of " + className + " exceed the end of the file " + file + "!");
+                }
+                pendingClasses.put(className, new int[]{buffer.position(), length});
+                buffer.position(buffer.position() + length);
+            }
+            return new SignatureIndex(buffer, pendingClasses);
+        } catch (BufferUnderflowException ex) {
+            throw new IOException("The file " + file + " is truncated!", ex);
+        }
+    }
+
+    /**
+     * @return whether some classes' lookups still have to be imported
+     */
+    boolean hasPendingClasses() {
+        return !pendingClasses.isEmpty();
+    }
+
+    /**
+     * Import the lookups made on the specified class, unless they were already imported.
+     *
+     * @param clazz         the class
+     * @param methodLookups receives every method and constructor lookup which still resolves
+     * @param fieldLookups  receives every field lookup which still resolves
+     * @return whether the lookups of the class were imported by this call
+     */
+    boolean importClass(Class<?> clazz, BiConsumer<MethodSignature, Executable[]> methodLookups, BiConsumer<FieldSignature, Field[]> fieldLookups) {
+        // removing the class first ensures only one thread imports it
+        int[] block = pendingClasses.remove(clazz.getName());
+        if (block == null) {
+            return false;
+        }
+        ByteBuffer in = buffer.duplicate();
+        in.position(block[0]);
+        // so a corrupt block can't be decoded past its end
+        in.limit(block[0] + block[1]);
+        Map<MethodSignature, Executable[]> importedMethodLookups = new HashMap<>();
+        Map<FieldSignature, Field[]> importedFieldLookups = new HashMap<>();
+        try {
+            decodeClass(clazz, in, importedMethodLookups::put, importedFieldLookups::put);
+        } catch (BufferUnderflowException | IllegalArgumentException | IndexOutOfBoundsException ex) {
+            // the block is corrupt, so none of its lookups can be trusted
+            return false;
+        }
+        importedMethodLookups.forEach(methodLookups);
+        importedFieldLookups.forEach(fieldLookups);
+        return true;
+    }
+
+    private static void decodeClass(Class<?> clazz, ByteBuffer in, BiConsumer<MethodSignature, Executable[]> methodLookups, BiConsumer<FieldSignature, Field[]> fieldLookups) {
+        ClassLoader loader = clazz.getClassLoader();
+        int lookupCount = readCount(in);
+        for (int i = 0; i < lookupCount; i++) {
+            // a lookup must be read entirely even if it turns out to be stale, as the next one follows right after it
+            if (in.get() == METHOD_LOOKUP) {
+                String methodName = readNullable(in);
+                String returnTypeName = readNullable(in);
+                String[] parameterTypeNames = readClassNames(in);
+                Executable[] executables = new Executable[readCount(in)];
+                boolean stale = false;
+                for (int m = 0; m < executables.length; m++) {
+                    byte kind = in.get();
+                    String declaringClassName = readString(in);
+                    String name = readString(in);
+                    String descriptor = readString(in);
+                    if (!stale) {
+                        executables[m] = findExecutable(kind, declaringClassName, name, descriptor, loader);
+                        stale = executables[m] == null;
+                    }
+                }
+                if (stale) continue;
+                try {
+                    Class<?>[] parameterTypes = null;
+                    if (parameterTypeNames != null) {
+                        parameterTypes = new Class<?>[parameterTypeNames.length];
+                        for (int p = 0; p < parameterTypes.length; p++) {
+                            parameterTypes[p] = parameterTypeNames[p] == null ? null : classForName(parameterTypeNames[p], loader);
+                        }
+                    }
+                    methodLookups.accept(new MethodSignature(clazz, methodName, returnTypeName == null ? null : classForName(returnTypeName, loader), parameterTypes), executables);
+                } catch (ClassNotFoundException ex) {
+                    // the class was removed since the lookup was exported, so the lookup is dropped
+                }
+            } else {
+                String fieldName = readNullable(in);
+                String fieldTypeName = readNullable(in);
+                byte flags = in.get();
+                Field[] fields = new Field[readCount(in)];
+                boolean stale = false;
+                for (int m = 0; m < fields.length; m++) {
+                    String declaringClassName = readString(in);
+                    String name = readString(in);
+                    String typeName = readString(in);
+                    if (!stale) {
+                        fields[m] = findField(declaringClassName, name, typeName, loader);
+                        stale = fields[m] == null;
+                    }
+                }
+                if (stale) continue;
+                try {
+                    fieldLookups.accept(new FieldSignature(clazz, fieldTypeName == null ? null : classForName(fieldTypeName, loader), fieldName,
+                            (flags & 1) != 0, (flags & 2) != 0), fields);
+                } catch (ClassNotFoundException ex) {
+                    // the class was removed since the lookup was exported, so the lookup is dropped
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the method or constructor with exactly the specified descriptor, or null if it no longer exists
+     */
+    private static @Nullable Executable findExecutable(byte kind, String declaringClassName, String name, String descriptor, @Nullable ClassLoader loader) {
+        MemberIndex index;
+        try {
+            index = MemberIndex.of(classForName(declaringClassName, loader));
+        } catch (ClassNotFoundException ex) {
+            return null;
+        }
+        for (Executable candidate : kind == CONSTRUCTOR ? index.getConstructors() : index.getMethods(name)) {
+            if (descriptorOf(candidate).equals(descriptor)) {
+                // the index' executables are shared, so only a copy of one may be made accessible
+                Executable executable = MemberIndex.copyOf(candidate);
+                executable.setAccessible(true);
+                return executable;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the field with exactly the specified type, or null if it no longer exists
+     */
+    private static @Nullable Field findField(String declaringClassName, String name, String typeName, @Nullable ClassLoader loader) {
+        Field field;
+        try {
+            field = MemberIndex.of(classForName(declaringClassName, loader)).getField(name);
+        } catch (ClassNotFoundException ex) {
+            return null;
+        }
+        if (field == null || !field.getType().getName().equals(typeName)) {
+            return null;
+        }
+        field = MemberIndex.copyOf(field);
+        field.setAccessible(true);
+        return field;
+    }
+
+    private static String descriptorOf(Executable executable) {
+        Class<?> returnType = executable instanceof Method ? ((Method) executable).getReturnType() : void.class;
+        return MethodType.methodType(returnType, executable.getParameterTypes()).toMethodDescriptorString();
+    }
+
+    private static Class<?> classForName(String name, @Nullable ClassLoader loader) throws ClassNotFoundException {
+        Class<?> primitive = PRIMITIVES.get(name);
+        return primitive != null ? primitive : Class.forName(name, false, loader);
+    }
+
+    private static void writeString(DataOutputStream out, String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+
+    private static void writeNullable(DataOutputStream out, @Nullable String string) throws IOException {
+        out.writeBoolean(string != null);
+        if (string != null) {
+            writeString(out, string);
+        }
+    }
+
+    private static void writeClassNames(DataOutputStream out, Class<?> @Nullable [] classes) throws IOException {
+        out.writeInt(classes == null ? -1 : classes.length);
+        if (classes != null) {
+            for (Class<?> clazz : classes) {
+                // the type of a null argument is unknown
+                writeNullable(out, clazz == null ? null : clazz.getName());
+            }
+        }
+    }
+
+    private static @Nullable String readNullable(ByteBuffer in) {
+        return in.get() == 0 ? null : readString(in);
+    }
+
+    private static String @Nullable [] readClassNames(ByteBuffer in) {
+        int count = in.getInt();
+        if (count == -1) {
+            return null;
+        } else if (count < 0 || count > in.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        String[] names = new String[count];
+        for (int i = 0; i < count; i++) {
+            names[i] = readNullable(in);
+        }
+        return names;
+    }
+
+    /**
+     * Read the number of some following items, each of which takes at least a byte, so a corrupt count can't be
+     * mistaken for a huge (or negative) number of items.
+     */
+    private static int readCount(ByteBuffer in) {
+        int count = in.getInt();
+        if (count < 0 || count > in.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        return count;
+    }
+
+    private static String readString(ByteBuffer in) {
+        return readString(in, in.getShort() & 0xFFFF);
+    }
+
+    private static String readString(ByteBuffer in, int length) {
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,23 @@
+package com.github.Aseeef;
+
+import lombok.Setter;
+import lombok.experimental.Accessors;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Options of {@link JavaAseefianReflections#warmUp(java.util.Collection, WarmUpOptions)}.
+ */
+@Setter @Accessors(chain = true)
+public class WarmUpOptions {
+
+    // the executor which the classes are warmed up on (one task per class); the common ForkJoinPool if not set
+    protected @Nullable Executor executor = null;
+    // also warm up the methods and fields inherited from the super classes (and the default methods of the interfaces)
+    // as they would be resolved when looked up on the class itself; members declared by Object are always skipped
+    protected boolean includeInheritedMembers = true;
+    // also create the invokers of the methods/constructors and the accessors of the fields, not only resolve them
+    protected boolean createInvokers = true;
+
+}
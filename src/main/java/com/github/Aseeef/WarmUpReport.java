@@ -0,0 +1,42 @@
+package com.github.Aseeef;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.lang.reflect.Member;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * What {@link JavaAseefianReflections#warmUp(java.util.Collection, WarmUpOptions)} did. The entry counts are taken from
+ * the statistics of the caches, so they include the entries that other threads happened to create during the warm-up.
+ */
+@Getter
+@ToString
+public class WarmUpReport {
+
+    private final int classCount;
+    // the wall clock time the whole warm-up took
+    private final long elapsedNanos;
+    private final long executableEntries;
+    private final long fieldEntries;
+    private final long invokerEntries;
+    private final long fieldAccessorEntries;
+    // the members which couldn't be warmed up (for example because looking them up by their own parameter types is ambiguous)
+    private final Map<Member, RuntimeException> failures;
+
+    WarmUpReport(int classCount, long elapsedNanos, long executableEntries, long fieldEntries, long invokerEntries, long fieldAccessorEntries, Map<Member, RuntimeException> failures) {
+        this.classCount = classCount;
+        this.elapsedNanos = elapsedNanos;
+        this.executableEntries = executableEntries;
+        this.fieldEntries = fieldEntries;
+        this.invokerEntries = invokerEntries;
+        this.fieldAccessorEntries = fieldAccessorEntries;
+        this.failures = Collections.unmodifiableMap(failures);
+    }
+
+    public long getTotalEntries() {
+        return executableEntries + fieldEntries + invokerEntries + fieldAccessorEntries;
+    }
+
+}
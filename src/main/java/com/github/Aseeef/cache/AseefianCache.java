@@ -3,12 +3,68 @@ package com.github.Aseeef.cache;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+
 public interface AseefianCache<K,V> {
 
     public void put(@NonNull K key, @Nullable V value);
 
     public @Nullable V getIfPresent(K key);
 
+    /**
+     * Remove every entry from the cache.
+     */
+    public void invalidateAll();
+
+    /**
+     * Remove every entry which matches the predicate.
+     *
+     * @param predicate the test applied to the key and value of every entry
+     */
+    public void invalidateIf(@NonNull BiPredicate<? super K, ? super V> predicate);
+
+    /**
+     * Remove every entry which belongs to the class loader or to one of its descendants, or which refers to any of
+     * their classes (see {@link CacheScopes}). Meant to be called when the class loader is discarded.
+     *
+     * @param classLoader the discarded class loader
+     */
+    public default void invalidate(@NonNull ClassLoader classLoader) {
+        Predicate<Class<?>> definedWithin = type -> CacheScopes.isWithin(type.getClassLoader(), classLoader);
+        invalidateIf((key, value) -> CacheScopes.refersTo(key, definedWithin) || CacheScopes.refersTo(value, definedWithin));
+    }
+
+    /**
+     * Remove every entry which refers to the class or to any of its subclasses (see {@link CacheScopes}).
+     *
+     * @param clazz the class which changed or is discarded
+     */
+    public default void invalidate(@NonNull Class<?> clazz) {
+        Predicate<Class<?>> subclass = clazz::isAssignableFrom;
+        invalidateIf((key, value) -> CacheScopes.refersTo(key, subclass) || CacheScopes.refersTo(value, subclass));
+    }
+
+    /**
+     * Record the time it took to compute a value which wasn't present in the cache (and which is then put into it).
+     *
+     * @param loadTimeNanos the time spent computing the value
+     */
+    public void recordLoad(long loadTimeNanos);
+
+    /**
+     * @return a snapshot of the hit, miss, eviction and load statistics of this cache
+     */
+    public @NonNull CacheStats stats();
+
+    /**
+     * Perform the action for every entry currently in the cache, without affecting its statistics or eviction order.
+     *
+     * @param action the action to perform
+     */
+    public void forEach(@NonNull BiConsumer<? super K, ? super V> action);
+
     public default @NonNull V getOrElse(K key, V defaultValue) {
         V retVal = getIfPresent(key);
         if (retVal == null)
@@ -0,0 +1,108 @@
+package com.github.Aseeef.cache;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.lang.reflect.Member;
+import java.util.function.Predicate;
+
+/**
+ * Finds the classes cache keys and values refer to. A key belongs to (is scoped to) the class loader which would be
+ * unloaded first out of the loaders of all the classes it refers to, since its entry can't outlive any of them.
+ * <p>
+ * Classes, members and {@link ClassScoped} keys are understood, as well as arrays of them. Anything else is treated as
+ * if it only referred to classes of the bootstrap class loader.
+ */
+public final class CacheScopes {
+
+    private CacheScopes() {
+    }
+
+    /**
+     * @return the class whose loader the key belongs to, or null for the bootstrap class loader
+     */
+    public static @Nullable Class<?> scopeOf(Object key) {
+        if (key instanceof Class) {
+            return (Class<?>) key;
+        } else if (key instanceof Member) {
+            // a member can only refer to classes visible to the loader of its declaring class
+            return ((Member) key).getDeclaringClass();
+        } else if (key instanceof ClassScoped) {
+            return ((ClassScoped) key).getScopeClass();
+        }
+        return null;
+    }
+
+    /**
+     * @param scope the scope found so far (null for the bootstrap class loader)
+     * @param type another referenced class
+     * @return the one of the two whose class loader is a descendant of the other's. For classes of unrelated loaders
+     * the current scope is kept.
+     */
+    public static @Nullable Class<?> narrower(@Nullable Class<?> scope, @Nullable Class<?> type) {
+        if (type == null) {
+            return scope;
+        }
+        ClassLoader loader = type.getClassLoader();
+        if (loader == null) {
+            return scope;
+        } else if (scope == null) {
+            return type;
+        }
+        ClassLoader scopeLoader = scope.getClassLoader();
+        // by far the most common case, so checked before walking up the hierarchy
+        if (loader == scopeLoader) {
+            return scope;
+        }
+        return isWithin(loader, scopeLoader) ? type : scope;
+    }
+
+    /**
+     * @return whether the loader is the ancestor or one of its descendants
+     */
+    public static boolean isWithin(@Nullable ClassLoader loader, @Nullable ClassLoader ancestor) {
+        if (ancestor == null) {
+            return true;
+        }
+        for (ClassLoader current = loader; current != null; current = current.getParent()) {
+            if (current == ancestor) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return whether any class referred to by the object passes the test
+     */
+    public static boolean refersTo(@Nullable Object object, Predicate<? super Class<?>> test) {
+        if (object instanceof Class) {
+            return test.test((Class<?>) object);
+        } else if (object instanceof Member) {
+            return test.test(((Member) object).getDeclaringClass());
+        } else if (object instanceof ClassScoped) {
+            return ((ClassScoped) object).refersTo(test);
+        } else if (object instanceof Object[]) {
+            for (Object element : (Object[]) object) {
+                if (refersTo(element, test)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return whether any of the (possibly null) types passes the test
+     */
+    public static boolean refersTo(@Nullable Class<?> @Nullable [] types, Predicate<? super Class<?>> test) {
+        if (types != null) {
+            for (Class<?> type : types) {
+                if (type != null && test.test(type)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+}
@@ -0,0 +1,51 @@
+package com.github.Aseeef.cache;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * An immutable snapshot of the statistics of an {@link AseefianCache}.
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+public class CacheStats {
+
+    public static final CacheStats EMPTY = new CacheStats(0, 0, 0, 0, 0);
+
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    // the number of values computed (and put) after a miss, and the total time spent computing them
+    private final long loadCount;
+    private final long totalLoadTimeNanos;
+
+    public CacheStats(long hitCount, long missCount, long evictionCount, long loadCount, long totalLoadTimeNanos) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.loadCount = loadCount;
+        this.totalLoadTimeNanos = totalLoadTimeNanos;
+    }
+
+    public long getRequestCount() {
+        return hitCount + missCount;
+    }
+
+    /**
+     * @return the ratio of lookups which were hits, or 1 if there were no lookups at all
+     */
+    public double getHitRate() {
+        long requestCount = getRequestCount();
+        return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+
+    /**
+     * @return the average time spent computing a value after a miss
+     */
+    public double getAverageLoadPenaltyNanos() {
+        return loadCount == 0 ? 0.0 : (double) totalLoadTimeNanos / loadCount;
+    }
+
+}
@@ -5,13 +5,22 @@ import com.github.benmanes.caffeine.cache.Caffeine;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
+
 public class CaffeinatedCache<K,V> implements AseefianCache<K,V> {
 
     private final Cache<K,V> cache;
+    private final StatsCounter statsCounter = new StatsCounter();
 
     public CaffeinatedCache(int size) {
         cache = Caffeine.newBuilder()
                 .maximumSize(size)
+                .evictionListener((key, value, cause) -> {
+                    if (cause.wasEvicted()) {
+                        statsCounter.recordEviction();
+                    }
+                })
                 .build();
     }
 
@@ -22,6 +31,37 @@ public class CaffeinatedCache<K,V> implements AseefianCache<K,V> {
 
     @Override
     public @Nullable V getIfPresent(K key) {
-        return cache.getIfPresent(key);
+        V value = cache.getIfPresent(key);
+        if (value == null) {
+            statsCounter.recordMiss();
+        } else {
+            statsCounter.recordHit();
+        }
+        return value;
+    }
+
+    @Override
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    @Override
+    public void invalidateIf(@NonNull BiPredicate<? super K, ? super V> predicate) {
+        cache.asMap().entrySet().removeIf(entry -> predicate.test(entry.getKey(), entry.getValue()));
+    }
+
+    @Override
+    public void recordLoad(long loadTimeNanos) {
+        statsCounter.recordLoad(loadTimeNanos);
+    }
+
+    @Override
+    public @NonNull CacheStats stats() {
+        return statsCounter.snapshot();
+    }
+
+    @Override
+    public void forEach(@NonNull BiConsumer<? super K, ? super V> action) {
+        cache.asMap().forEach(action);
     }
 }
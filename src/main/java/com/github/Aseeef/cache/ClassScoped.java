@@ -0,0 +1,24 @@
+package com.github.Aseeef.cache;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.function.Predicate;
+
+/**
+ * A cache key which refers to classes, so its entry can be found by the class loader it belongs to. See {@link CacheScopes}.
+ */
+public interface ClassScoped {
+
+    /**
+     * @return the referenced class with the most specific class loader (see {@link CacheScopes#narrower(Class, Class)}),
+     * or null if the key only refers to classes of the bootstrap class loader
+     */
+    public @Nullable Class<?> getScopeClass();
+
+    /**
+     * @param test the test to apply to the referenced classes
+     * @return whether any class referenced by the key passes the test
+     */
+    public boolean refersTo(Predicate<? super Class<?>> test);
+
+}
@@ -0,0 +1,223 @@
+package com.github.Aseeef.cache;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
+
+/**
+ * A dependency free concurrent cache. Reads never lock: they are a {@link ConcurrentHashMap} lookup plus (at most)
+ * marking the entry as recently used. The cache is split into independently locked segments which each evict
+ * using the CLOCK (second chance) algorithm, so writes to different segments never contend either.
+ */
+public class ConcurrentCache<K, V> implements AseefianCache<K, V> {
+
+    // below this many entries per segment the eviction becomes too coarse to be worth the extra segments
+    private static final int MIN_SEGMENT_SIZE = 16;
+
+    private final Segment<K, V>[] segments;
+    private final int segmentMask;
+    private final StatsCounter statsCounter = new StatsCounter();
+
+    public ConcurrentCache(int size) {
+        this(size, Runtime.getRuntime().availableProcessors() * 4);
+    }
+
+    @SuppressWarnings("unchecked")
+    public ConcurrentCache(int size, int concurrencyLevel) {
+        if (size < 1) {
+            throw new IllegalArgumentException("The cache size must be positive!");
+        }
+        int segmentCount = Integer.highestOneBit(Math.max(1, Math.min(concurrencyLevel, size / MIN_SEGMENT_SIZE)));
+        this.segments = (Segment<K, V>[]) new Segment<?, ?>[segmentCount];
+        this.segmentMask = segmentCount - 1;
+        for (int i = 0; i < segmentCount; i++) {
+            // spread the remainder over the first segments so the total capacity is exactly the requested size
+            segments[i] = new Segment<>(size / segmentCount + (i < size % segmentCount ? 1 : 0), statsCounter);
+        }
+    }
+
+    @Override
+    public void put(@NonNull K key, @Nullable V value) {
+        segmentFor(key).put(key, value);
+    }
+
+    @Override
+    public @Nullable V getIfPresent(K key) {
+        V value = segmentFor(key).get(key);
+        if (value == null) {
+            statsCounter.recordMiss();
+        } else {
+            statsCounter.recordHit();
+        }
+        return value;
+    }
+
+    @Override
+    public void invalidateAll() {
+        for (Segment<K, V> segment : segments) {
+            segment.clear();
+        }
+    }
+
+    @Override
+    public void invalidateIf(@NonNull BiPredicate<? super K, ? super V> predicate) {
+        for (Segment<K, V> segment : segments) {
+            segment.removeIf(predicate);
+        }
+    }
+
+    @Override
+    public void recordLoad(long loadTimeNanos) {
+        statsCounter.recordLoad(loadTimeNanos);
+    }
+
+    @Override
+    public @NonNull CacheStats stats() {
+        return statsCounter.snapshot();
+    }
+
+    @Override
+    public void forEach(@NonNull BiConsumer<? super K, ? super V> action) {
+        for (Segment<K, V> segment : segments) {
+            for (Entry<K, V> entry : segment.map.values()) {
+                V value = entry.value;
+                if (value != null) {
+                    action.accept(entry.key, value);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the number of entries currently in the cache
+     */
+    public int size() {
+        int size = 0;
+        for (Segment<K, V> segment : segments) {
+            size += segment.map.size();
+        }
+        return size;
+    }
+
+    private Segment<K, V> segmentFor(Object key) {
+        int hash = key.hashCode();
+        // the high bits also pick the bucket inside of the segment's map, so mix them into the low bits
+        hash ^= (hash >>> 16);
+        hash *= 0x9E3779B9;
+        return segments[(hash >>> 16) & segmentMask];
+    }
+
+    private static final class Entry<K, V> {
+        private final K key;
+        private volatile @Nullable V value;
+        // set on every read, cleared by the clock hand; entries which are not referenced when the hand passes are evicted
+        private volatile boolean referenced;
+        // guarded by the segment
+        private int slot;
+
+        private Entry(K key, @Nullable V value, int slot) {
+            this.key = key;
+            this.value = value;
+            this.slot = slot;
+        }
+    }
+
+    private static final class Segment<K, V> {
+        private final ConcurrentHashMap<K, Entry<K, V>> map;
+        private final StatsCounter statsCounter;
+        // guarded by this
+        private final Entry<K, V>[] clock;
+        private int count;
+        private int hand;
+
+        @SuppressWarnings("unchecked")
+        private Segment(int capacity, StatsCounter statsCounter) {
+            this.statsCounter = statsCounter;
+            this.map = new ConcurrentHashMap<>(Math.max(16, capacity * 4 / 3 + 1));
+            this.clock = (Entry<K, V>[]) new Entry<?, ?>[Math.max(1, capacity)];
+        }
+
+        private @Nullable V get(Object key) {
+            Entry<K, V> entry = map.get(key);
+            if (entry == null) {
+                return null;
+            }
+            // avoid writing (and so bouncing the cache line between cores) when the entry is already marked
+            if (!entry.referenced) {
+                entry.referenced = true;
+            }
+            return entry.value;
+        }
+
+        private synchronized void put(K key, @Nullable V value) {
+            Entry<K, V> existing = map.get(key);
+            if (existing != null) {
+                existing.value = value;
+                existing.referenced = true;
+                return;
+            }
+            int slot;
+            if (count < clock.length) {
+                slot = count++;
+            } else {
+                slot = evict();
+            }
+            Entry<K, V> entry = new Entry<>(key, value, slot);
+            clock[slot] = entry;
+            map.put(key, entry);
+        }
+
+        private synchronized void clear() {
+            map.clear();
+            Arrays.fill(clock, null);
+            count = 0;
+            hand = 0;
+        }
+
+        /**
+         * Remove the matching entries and move the remaining ones to the front of the clock, keeping their order.
+         */
+        private synchronized void removeIf(BiPredicate<? super K, ? super V> predicate) {
+            int kept = 0;
+            for (int i = 0; i < count; i++) {
+                Entry<K, V> entry = clock[i];
+                V value = entry.value;
+                if (value != null && predicate.test(entry.key, value)) {
+                    map.remove(entry.key, entry);
+                } else {
+                    entry.slot = kept;
+                    clock[kept++] = entry;
+                }
+            }
+            Arrays.fill(clock, kept, count, null);
+            count = kept;
+            if (hand >= count) {
+                hand = 0;
+            }
+        }
+
+        /**
+         * Advance the clock hand until an entry which was not read since the hand last passed it is found, and remove it.
+         *
+         * @return the freed slot
+         */
+        private int evict() {
+            while (true) {
+                Entry<K, V> candidate = clock[hand];
+                hand = (hand + 1) % clock.length;
+                if (candidate.referenced) {
+                    candidate.referenced = false;
+                } else {
+                    map.remove(candidate.key, candidate);
+                    statsCounter.recordEviction();
+                    return candidate.slot;
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,166 @@
+package com.github.Aseeef.cache;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
+import java.util.function.Supplier;
+
+/**
+ * A cache split into one partition (itself a cache) per class loader, where every entry is put into the partition of
+ * the class loader its key belongs to (see {@link CacheScopes}).
+ * <p>
+ * A partition is only strongly reachable from the classes of its own loader, through a {@link ClassValue}. So once a
+ * class loader can be unloaded, so can its partition along with everything cached for its classes; nothing else
+ * pins the loader in the meantime. Each partition is bounded by the size it was created with.
+ */
+public class LoaderPartitionedCache<K, V> implements AseefianCache<K, V> {
+
+    private final Supplier<AseefianCache<K, V>> partitionFactory;
+    // the classes of the bootstrap class loader are never unloaded
+    private final AseefianCache<K, V> bootstrapPartition;
+    // guarded by itself; the partitions are weakly referenced since they are held by the classes of their loader
+    private final Map<ClassLoader, WeakReference<AseefianCache<K, V>>> partitions = new WeakHashMap<>();
+    private final ClassValue<AseefianCache<K, V>> partitionOfClass = new ClassValue<AseefianCache<K, V>>() {
+        @Override
+        protected AseefianCache<K, V> computeValue(Class<?> type) {
+            return partitionOf(type.getClassLoader());
+        }
+    };
+    // the partitions have their own statistics, but the ones of dead partitions would be lost along with them
+    private final StatsCounter statsCounter = new StatsCounter();
+
+    /**
+     * @param partitionFactory creates the (empty) cache of a class loader the first time one of its classes is cached
+     */
+    public LoaderPartitionedCache(Supplier<AseefianCache<K, V>> partitionFactory) {
+        this.partitionFactory = partitionFactory;
+        this.bootstrapPartition = partitionFactory.get();
+    }
+
+    @Override
+    public void put(@NonNull K key, @Nullable V value) {
+        partitionFor(key).put(key, value);
+    }
+
+    @Override
+    public @Nullable V getIfPresent(K key) {
+        V value = partitionFor(key).getIfPresent(key);
+        if (value == null) {
+            statsCounter.recordMiss();
+        } else {
+            statsCounter.recordHit();
+        }
+        return value;
+    }
+
+    @Override
+    public void invalidateAll() {
+        for (AseefianCache<K, V> partition : livePartitions()) {
+            partition.invalidateAll();
+        }
+    }
+
+    @Override
+    public void invalidateIf(@NonNull BiPredicate<? super K, ? super V> predicate) {
+        for (AseefianCache<K, V> partition : livePartitions()) {
+            partition.invalidateIf(predicate);
+        }
+    }
+
+    /**
+     * The partitions of the class loader and its descendants are cleared entirely, while the other partitions only
+     * lose the entries which refer to their classes.
+     */
+    @Override
+    public void invalidate(@NonNull ClassLoader classLoader) {
+        List<AseefianCache<K, V>> others = new ArrayList<>();
+        synchronized (partitions) {
+            for (Map.Entry<ClassLoader, WeakReference<AseefianCache<K, V>>> entry : partitions.entrySet()) {
+                AseefianCache<K, V> partition = entry.getValue().get();
+                if (partition == null) {
+                    continue;
+                }
+                if (CacheScopes.isWithin(entry.getKey(), classLoader)) {
+                    partition.invalidateAll();
+                } else {
+                    others.add(partition);
+                }
+            }
+        }
+        // bootstrap classes can't refer to the classes of any other loader
+        for (AseefianCache<K, V> partition : others) {
+            partition.invalidate(classLoader);
+        }
+    }
+
+    @Override
+    public void recordLoad(long loadTimeNanos) {
+        statsCounter.recordLoad(loadTimeNanos);
+    }
+
+    @Override
+    public @NonNull CacheStats stats() {
+        CacheStats stats = statsCounter.snapshot();
+        long evictionCount = 0;
+        for (AseefianCache<K, V> partition : livePartitions()) {
+            evictionCount += partition.stats().getEvictionCount();
+        }
+        return new CacheStats(stats.getHitCount(), stats.getMissCount(), evictionCount, stats.getLoadCount(), stats.getTotalLoadTimeNanos());
+    }
+
+    @Override
+    public void forEach(@NonNull BiConsumer<? super K, ? super V> action) {
+        for (AseefianCache<K, V> partition : livePartitions()) {
+            partition.forEach(action);
+        }
+    }
+
+    /**
+     * @return the number of class loaders (besides the bootstrap class loader) which currently have a partition
+     */
+    public int partitionCount() {
+        return livePartitions().size() - 1;
+    }
+
+    private AseefianCache<K, V> partitionFor(Object key) {
+        Class<?> scope = CacheScopes.scopeOf(key);
+        return scope == null ? bootstrapPartition : partitionOfClass.get(scope);
+    }
+
+    private AseefianCache<K, V> partitionOf(@Nullable ClassLoader classLoader) {
+        if (classLoader == null) {
+            return bootstrapPartition;
+        }
+        synchronized (partitions) {
+            WeakReference<AseefianCache<K, V>> reference = partitions.get(classLoader);
+            AseefianCache<K, V> partition = reference == null ? null : reference.get();
+            if (partition == null) {
+                partition = partitionFactory.get();
+                partitions.put(classLoader, new WeakReference<>(partition));
+            }
+            return partition;
+        }
+    }
+
+    private List<AseefianCache<K, V>> livePartitions() {
+        List<AseefianCache<K, V>> live = new ArrayList<>();
+        live.add(bootstrapPartition);
+        synchronized (partitions) {
+            for (WeakReference<AseefianCache<K, V>> reference : partitions.values()) {
+                AseefianCache<K, V> partition = reference.get();
+                if (partition != null) {
+                    live.add(partition);
+                }
+            }
+        }
+        return live;
+    }
+
+}
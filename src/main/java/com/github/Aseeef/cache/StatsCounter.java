@@ -0,0 +1,38 @@
+package com.github.Aseeef.cache;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The counters behind {@link CacheStats}. These are striped {@link LongAdder}s, so recording from many threads
+ * at once stays cheap.
+ */
+class StatsCounter {
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder loadCount = new LongAdder();
+    private final LongAdder totalLoadTimeNanos = new LongAdder();
+
+    void recordHit() {
+        hitCount.increment();
+    }
+
+    void recordMiss() {
+        missCount.increment();
+    }
+
+    void recordEviction() {
+        evictionCount.increment();
+    }
+
+    void recordLoad(long loadTimeNanos) {
+        loadCount.increment();
+        totalLoadTimeNanos.add(loadTimeNanos);
+    }
+
+    CacheStats snapshot() {
+        return new CacheStats(hitCount.sum(), missCount.sum(), evictionCount.sum(), loadCount.sum(), totalLoadTimeNanos.sum());
+    }
+
+}
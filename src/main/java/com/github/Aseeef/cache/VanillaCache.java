@@ -6,16 +6,23 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
 
 public class VanillaCache<K, V> implements AseefianCache<K,V> {
 
     private final Map<K, V> cache;
+    private final StatsCounter statsCounter = new StatsCounter();
 
     public VanillaCache(int size) {
         cache = Collections.synchronizedMap(new LinkedHashMap<K, V>(16, 0.75f, true) {
             @Override
             protected boolean removeEldestEntry(Map.Entry eldest) {
-                return this.size() > size; //cache size
+                boolean evict = this.size() > size; //cache size
+                if (evict) {
+                    statsCounter.recordEviction();
+                }
+                return evict;
             }
         });
     }
@@ -27,6 +34,42 @@ public class VanillaCache<K, V> implements AseefianCache<K,V> {
 
     @Override
     public @Nullable V getIfPresent(K key) {
-        return cache.getOrDefault(key, null);
+        V value = cache.getOrDefault(key, null);
+        if (value == null) {
+            statsCounter.recordMiss();
+        } else {
+            statsCounter.recordHit();
+        }
+        return value;
+    }
+
+    @Override
+    public void invalidateAll() {
+        cache.clear();
+    }
+
+    @Override
+    public void invalidateIf(@NonNull BiPredicate<? super K, ? super V> predicate) {
+        synchronized (cache) {
+            cache.entrySet().removeIf(entry -> predicate.test(entry.getKey(), entry.getValue()));
+        }
+    }
+
+    @Override
+    public void recordLoad(long loadTimeNanos) {
+        statsCounter.recordLoad(loadTimeNanos);
+    }
+
+    @Override
+    public @NonNull CacheStats stats() {
+        return statsCounter.snapshot();
+    }
+
+    @Override
+    public void forEach(@NonNull BiConsumer<? super K, ? super V> action) {
+        // iterating a synchronized map must be done while holding its lock
+        synchronized (cache) {
+            cache.forEach(action);
+        }
     }
 }
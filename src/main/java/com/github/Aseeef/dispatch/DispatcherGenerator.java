@@ -0,0 +1,671 @@
+package com.github.Aseeef.dispatch;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Generates and defines the dispatcher class for a target class. The generated class has three static methods,
+ * {@code invoke(Object, int, Object[])}, {@code get(Object, int)} and {@code set(Object, int, Object)}, each of which is
+ * a single switch over the member index with a direct bytecode call/field access for every case.
+ * <p>
+ * The generated class only references JDK classes and the target's members so that it links even when the
+ * target class loader can not see this library.
+ */
+final class DispatcherGenerator {
+
+    static final MethodType INVOKE_TYPE = MethodType.methodType(Object.class, Object.class, int.class, Object[].class);
+    static final MethodType GET_TYPE = MethodType.methodType(Object.class, Object.class, int.class);
+    static final MethodType SET_TYPE = MethodType.methodType(void.class, Object.class, int.class, Object.class);
+
+    // the jvm limits methods to 64kb of bytecode; members that don't fit fall back to the regular invokers
+    private static final int MAX_CODE_LENGTH = 60000;
+    private static final AtomicInteger COUNTER = new AtomicInteger();
+
+    // Lookup#defineHiddenClass only exists on java 15+, so we look it up reflectively
+    private static final @Nullable MethodHandle DEFINE_HIDDEN_CLASS;
+    private static final @Nullable Object NESTMATE_OPTION;
+
+    static {
+        MethodHandle defineHiddenClass = null;
+        Object nestmateOption = null;
+        try {
+            Class<?> classOption = Class.forName("java.lang.invoke.MethodHandles$Lookup$ClassOption");
+            nestmateOption = Array.newInstance(classOption, 1);
+            Array.set(nestmateOption, 0, enumConstant(classOption, "NESTMATE"));
+            defineHiddenClass = MethodHandles.publicLookup().findVirtual(MethodHandles.Lookup.class, "defineHiddenClass",
+                    MethodType.methodType(MethodHandles.Lookup.class, byte[].class, boolean.class, nestmateOption.getClass())).asFixedArity();
+        } catch (ReflectiveOperationException ex) {
+            // java 11-14, only Lookup#defineClass is available
+            defineHiddenClass = null;
+            nestmateOption = null;
+        }
+        DEFINE_HIDDEN_CLASS = defineHiddenClass;
+        NESTMATE_OPTION = nestmateOption;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object enumConstant(Class<?> enumClass, String name) {
+        return Enum.valueOf((Class) enumClass, name);
+    }
+
+    private DispatcherGenerator() {
+    }
+
+    static final class Result {
+        final MethodHandle invokeHandle;
+        final MethodHandle getHandle;
+        final MethodHandle setHandle;
+        final boolean[] compiledExecutables;
+        final boolean[] compiledGetters;
+        final boolean[] compiledSetters;
+
+        private Result(MethodHandle invokeHandle, MethodHandle getHandle, MethodHandle setHandle, boolean[] compiledExecutables, boolean[] compiledGetters, boolean[] compiledSetters) {
+            this.invokeHandle = invokeHandle;
+            this.getHandle = getHandle;
+            this.setHandle = setHandle;
+            this.compiledExecutables = compiledExecutables;
+            this.compiledGetters = compiledGetters;
+            this.compiledSetters = compiledSetters;
+        }
+    }
+
+    /**
+     * Generate and define the dispatcher class for the specified host class.
+     *
+     * @param host        the class for which to generate a dispatcher (the dispatcher is defined in its package)
+     * @param executables the executables to compile, where the array index is the member index
+     * @param fields      the fields to compile, where the array index is the member index
+     * @return the generated dispatcher, or null if no dispatcher class could be defined for the host
+     */
+    static @Nullable Result generate(Class<?> host, Executable[] executables, Field[] fields) {
+        if (host.isArray() || host.isPrimitive()) {
+            return null;
+        }
+        MethodHandles.Lookup hostLookup;
+        try {
+            hostLookup = MethodHandles.privateLookupIn(host, MethodHandles.lookup());
+        } catch (IllegalAccessException | IllegalArgumentException ex) {
+            return null;
+        }
+
+        String internalName = internalName(host) + "$$JARDispatcher$" + COUNTER.getAndIncrement();
+        // hidden nestmate classes may also access the private members of the host
+        if (DEFINE_HIDDEN_CLASS != null) {
+            try {
+                return generate(host, hostLookup, internalName, executables, fields, true);
+            } catch (Throwable ignored) {
+                // typically because our lookup does not have full privilege access to the host. Try again without nestmates.
+            }
+        }
+        try {
+            return generate(host, hostLookup, internalName, executables, fields, false);
+        } catch (Throwable ex) {
+            return null;
+        }
+    }
+
+    private static Result generate(Class<?> host, MethodHandles.Lookup hostLookup, String internalName, Executable[] executables, Field[] fields, boolean nestmate) throws Throwable {
+        boolean[] compiledExecutables = new boolean[executables.length];
+        boolean[] compiledGetters = new boolean[fields.length];
+        boolean[] compiledSetters = new boolean[fields.length];
+        for (int i = 0; i < executables.length; i++) {
+            compiledExecutables[i] = canCompile(host, executables[i], nestmate);
+        }
+        for (int i = 0; i < fields.length; i++) {
+            compiledGetters[i] = isAccessible(host, fields[i].getDeclaringClass(), fields[i].getModifiers(), nestmate);
+            // final fields may only be written to by the class that declares them
+            compiledSetters[i] = compiledGetters[i] && !Modifier.isFinal(fields[i].getModifiers()) && isAccessible(host, fields[i].getType());
+        }
+
+        byte[] classBytes = new ClassGenerator(internalName, executables, fields, compiledExecutables, compiledGetters, compiledSetters).toByteArray();
+
+        MethodHandles.Lookup lookup;
+        if (nestmate) {
+            lookup = (MethodHandles.Lookup) DEFINE_HIDDEN_CLASS.invoke(hostLookup, classBytes, true, NESTMATE_OPTION);
+        } else {
+            lookup = hostLookup.in(hostLookup.defineClass(classBytes));
+        }
+        Class<?> dispatcherClass = lookup.lookupClass();
+        return new Result(
+                lookup.findStatic(dispatcherClass, "invoke", INVOKE_TYPE),
+                lookup.findStatic(dispatcherClass, "get", GET_TYPE),
+                lookup.findStatic(dispatcherClass, "set", SET_TYPE),
+                compiledExecutables, compiledGetters, compiledSetters
+        );
+    }
+
+    private static boolean canCompile(Class<?> host, Executable executable, boolean nestmate) {
+        if (!isAccessible(host, executable.getDeclaringClass(), executable.getModifiers(), nestmate)) {
+            return false;
+        }
+        // the jvm throws an InstantiationError for these, so let reflections throw the usual InstantiationException instead
+        if (executable instanceof Constructor && Modifier.isAbstract(executable.getDeclaringClass().getModifiers())) {
+            return false;
+        }
+        // all parameters get cast to their type, so they must be accessible too
+        for (Class<?> parameterType : executable.getParameterTypes()) {
+            if (!isAccessible(host, parameterType)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAccessible(Class<?> host, Class<?> declaringClass, int memberModifiers, boolean nestmate) {
+        if (!isAccessible(host, declaringClass)) {
+            return false;
+        }
+        if (Modifier.isPublic(memberModifiers)) {
+            return true;
+        } else if (Modifier.isPrivate(memberModifiers)) {
+            return nestmate && declaringClass.getNestHost() == host.getNestHost();
+        }
+        // package-private and protected members
+        return isSamePackage(host, declaringClass);
+    }
+
+    private static boolean isAccessible(Class<?> host, Class<?> type) {
+        while (type.isArray()) {
+            type = type.getComponentType();
+        }
+        if (type.isPrimitive() || isSamePackage(host, type)) {
+            return true;
+        }
+        return Modifier.isPublic(type.getModifiers()) && type.getModule().isExported(type.getPackageName(), host.getModule());
+    }
+
+    private static boolean isSamePackage(Class<?> a, Class<?> b) {
+        return a.getClassLoader() == b.getClassLoader() && a.getPackageName().equals(b.getPackageName());
+    }
+
+    private static String internalName(Class<?> clazz) {
+        return clazz.getName().replace('.', '/');
+    }
+
+    private static String descriptor(Class<?> clazz) {
+        if (clazz.isPrimitive()) {
+            if (clazz == void.class) return "V";
+            if (clazz == boolean.class) return "Z";
+            if (clazz == byte.class) return "B";
+            if (clazz == short.class) return "S";
+            if (clazz == char.class) return "C";
+            if (clazz == int.class) return "I";
+            if (clazz == long.class) return "J";
+            if (clazz == float.class) return "F";
+            return "D";
+        } else if (clazz.isArray()) {
+            return internalName(clazz);
+        }
+        return "L" + internalName(clazz) + ";";
+    }
+
+    private static String methodDescriptor(Class<?>[] parameterTypes, Class<?> returnType) {
+        StringBuilder sb = new StringBuilder("(");
+        for (Class<?> parameterType : parameterTypes) {
+            sb.append(descriptor(parameterType));
+        }
+        return sb.append(')').append(descriptor(returnType)).toString();
+    }
+
+    private static int slots(Class<?> type) {
+        if (type == void.class) return 0;
+        return type == long.class || type == double.class ? 2 : 1;
+    }
+
+    private static Class<?> boxed(Class<?> primitive) {
+        return MethodType.methodType(primitive).wrap().returnType();
+    }
+
+    /**
+     * Writes the actual class file. Only the handful of instructions the dispatcher needs are supported.
+     */
+    private static final class ClassGenerator {
+
+        private static final int ACC_PUBLIC = 0x0001;
+        private static final int ACC_STATIC = 0x0008;
+        private static final int ACC_FINAL = 0x0010;
+        private static final int ACC_SUPER = 0x0020;
+        private static final int ACC_SYNTHETIC = 0x1000;
+
+        private static final int ACONST_NULL = 0x01;
+        private static final int ICONST_0 = 0x03;
+        private static final int BIPUSH = 0x10;
+        private static final int SIPUSH = 0x11;
+        private static final int ILOAD_1 = 0x1b;
+        private static final int ALOAD_0 = 0x2a;
+        private static final int ALOAD_2 = 0x2c;
+        private static final int AALOAD = 0x32;
+        private static final int DUP = 0x59;
+        private static final int DUP_X1 = 0x5a;
+        private static final int SWAP = 0x5f;
+        private static final int TABLESWITCH = 0xaa;
+        private static final int ARETURN = 0xb0;
+        private static final int RETURN = 0xb1;
+        private static final int GETSTATIC = 0xb2;
+        private static final int PUTSTATIC = 0xb3;
+        private static final int GETFIELD = 0xb4;
+        private static final int PUTFIELD = 0xb5;
+        private static final int INVOKEVIRTUAL = 0xb6;
+        private static final int INVOKESPECIAL = 0xb7;
+        private static final int INVOKESTATIC = 0xb8;
+        private static final int INVOKEINTERFACE = 0xb9;
+        private static final int NEW = 0xbb;
+        private static final int ATHROW = 0xbf;
+        private static final int CHECKCAST = 0xc0;
+
+        private static final int CONSTANT_FIELDREF = 9;
+        private static final int CONSTANT_METHODREF = 10;
+        private static final int CONSTANT_INTERFACE_METHODREF = 11;
+
+        private final ConstantPool pool = new ConstantPool();
+        private final ByteVector methods = new ByteVector();
+        private final String internalName;
+        private final Executable[] executables;
+        private final Field[] fields;
+        private final boolean[] compiledExecutables;
+        private final boolean[] compiledGetters;
+        private final boolean[] compiledSetters;
+
+        private ClassGenerator(String internalName, Executable[] executables, Field[] fields, boolean[] compiledExecutables, boolean[] compiledGetters, boolean[] compiledSetters) {
+            this.internalName = internalName;
+            this.executables = executables;
+            this.fields = fields;
+            this.compiledExecutables = compiledExecutables;
+            this.compiledGetters = compiledGetters;
+            this.compiledSetters = compiledSetters;
+        }
+
+        private byte[] toByteArray() {
+            int thisClass = pool.classRef(internalName);
+            int superClass = pool.classRef("java/lang/Object");
+
+            writeSwitchMethod("invoke", INVOKE_TYPE, 3, compiledExecutables, true, (index, code) -> writeInvoke(executables[index], code));
+            writeSwitchMethod("get", GET_TYPE, 2, compiledGetters, false, (index, code) -> writeGet(fields[index], code));
+            writeSwitchMethod("set", SET_TYPE, 3, compiledSetters, false, (index, code) -> writeSet(fields[index], code));
+
+            ByteVector classFile = new ByteVector();
+            classFile.putInt(0xCAFEBABE).putShort(0).putShort(52); // java 8 class file
+            classFile.putShort(pool.count).putVector(pool.bytes);
+            classFile.putShort(ACC_PUBLIC | ACC_FINAL | ACC_SUPER | ACC_SYNTHETIC);
+            classFile.putShort(thisClass).putShort(superClass);
+            classFile.putShort(0); // interfaces
+            classFile.putShort(0); // fields
+            classFile.putShort(3).putVector(methods);
+            classFile.putShort(0); // attributes
+            return classFile.toByteArray();
+        }
+
+        private interface CaseWriter {
+            /**
+             * @return the max stack size of this case
+             */
+            int write(int index, ByteVector code);
+        }
+
+        private void writeSwitchMethod(String name, MethodType type, int maxLocals, boolean[] compiled, boolean wrapTargetExceptions, CaseWriter caseWriter) {
+            ByteVector code = new ByteVector();
+            List<Integer> frames = new ArrayList<>();
+            List<int[]> exceptionRanges = new ArrayList<>();
+            int maxStack = 3;
+
+            int caseCount = compiled.length;
+            boolean hasSwitch = false;
+            for (boolean b : compiled) hasSwitch |= b;
+            if (hasSwitch && caseCount * 4 + 16 > MAX_CODE_LENGTH) {
+                Arrays.fill(compiled, false);
+                hasSwitch = false;
+            }
+
+            int switchOffset = 0;
+            int defaultPatch = 0;
+            int tablePatch = 0;
+            int[] caseOffsets = new int[caseCount];
+            if (hasSwitch) {
+                code.putByte(ILOAD_1);
+                switchOffset = code.size();
+                code.putByte(TABLESWITCH);
+                while (code.size() % 4 != 0) code.putByte(0);
+                defaultPatch = code.size();
+                code.putInt(0).putInt(0).putInt(caseCount - 1);
+                tablePatch = code.size();
+                for (int i = 0; i < caseCount; i++) code.putInt(0);
+
+                for (int i = 0; i < caseCount; i++) {
+                    caseOffsets[i] = -1;
+                    if (!compiled[i]) continue;
+                    if (code.size() > MAX_CODE_LENGTH) {
+                        compiled[i] = false;
+                        continue;
+                    }
+                    caseOffsets[i] = code.size();
+                    frames.add(code.size());
+                    maxStack = Math.max(maxStack, caseWriter.write(i, code));
+                    if (wrapTargetExceptions) {
+                        exceptionRanges.add(new int[]{lastInvokeStart, lastInvokeEnd});
+                    }
+                }
+            }
+
+            // default case (should never be reached)
+            int defaultOffset = code.size();
+            if (hasSwitch) frames.add(defaultOffset);
+            code.putByte(NEW).putShort(pool.classRef("java/lang/IllegalArgumentException"));
+            code.putByte(DUP);
+            code.putByte(INVOKESPECIAL).putShort(pool.memberRef(CONSTANT_METHODREF, "java/lang/IllegalArgumentException", "<init>", "()V"));
+            code.putByte(ATHROW);
+
+            // wrap exceptions thrown by the target just like reflections would
+            int handlerOffset = code.size();
+            if (!exceptionRanges.isEmpty()) {
+                code.putByte(NEW).putShort(pool.classRef("java/lang/reflect/InvocationTargetException"));
+                code.putByte(DUP_X1);
+                code.putByte(SWAP);
+                code.putByte(INVOKESPECIAL).putShort(pool.memberRef(CONSTANT_METHODREF, "java/lang/reflect/InvocationTargetException", "<init>", "(Ljava/lang/Throwable;)V"));
+                code.putByte(ATHROW);
+            }
+
+            if (hasSwitch) {
+                code.putIntAt(defaultPatch, defaultOffset - switchOffset);
+                for (int i = 0; i < caseCount; i++) {
+                    code.putIntAt(tablePatch + i * 4, (caseOffsets[i] >= 0 ? caseOffsets[i] : defaultOffset) - switchOffset);
+                }
+            }
+
+            // stack map frames; every branch target has the same locals as the method start and an empty stack
+            ByteVector stackMap = new ByteVector();
+            int frameCount = 0;
+            int previous = -1;
+            for (int offset : frames) {
+                int delta = offset - previous - 1;
+                if (delta < 64) {
+                    stackMap.putByte(delta);
+                } else {
+                    stackMap.putByte(251).putShort(delta);
+                }
+                previous = offset;
+                frameCount++;
+            }
+            if (!exceptionRanges.isEmpty()) {
+                // same locals, with the caught throwable on the stack
+                int delta = handlerOffset - previous - 1;
+                if (delta < 64) {
+                    stackMap.putByte(64 + delta);
+                } else {
+                    stackMap.putByte(247).putShort(delta);
+                }
+                stackMap.putByte(7).putShort(pool.classRef("java/lang/Throwable"));
+                frameCount++;
+            }
+
+            ByteVector codeAttribute = new ByteVector();
+            codeAttribute.putShort(maxStack).putShort(maxLocals);
+            codeAttribute.putInt(code.size()).putVector(code);
+            codeAttribute.putShort(exceptionRanges.size());
+            for (int[] range : exceptionRanges) {
+                codeAttribute.putShort(range[0]).putShort(range[1]).putShort(handlerOffset).putShort(pool.classRef("java/lang/Throwable"));
+            }
+            if (frameCount > 0) {
+                codeAttribute.putShort(1);
+                codeAttribute.putShort(pool.utf8("StackMapTable")).putInt(stackMap.size() + 2).putShort(frameCount).putVector(stackMap);
+            } else {
+                codeAttribute.putShort(0);
+            }
+
+            methods.putShort(ACC_PUBLIC | ACC_STATIC);
+            methods.putShort(pool.utf8(name)).putShort(pool.utf8(type.toMethodDescriptorString()));
+            methods.putShort(1);
+            methods.putShort(pool.utf8("Code")).putInt(codeAttribute.size()).putVector(codeAttribute);
+        }
+
+        // the range of the last written invoke instruction, which is the only instruction whose exceptions are wrapped
+        private int lastInvokeStart;
+        private int lastInvokeEnd;
+
+        private int writeInvoke(Executable executable, ByteVector code) {
+            Class<?> declaringClass = executable.getDeclaringClass();
+            String owner = internalName(declaringClass);
+            Class<?>[] parameterTypes = executable.getParameterTypes();
+            boolean isConstructor = executable instanceof Constructor;
+            boolean isStatic = Modifier.isStatic(executable.getModifiers());
+
+            int stack = 0;
+            if (isConstructor) {
+                code.putByte(NEW).putShort(pool.classRef(owner));
+                code.putByte(DUP);
+                stack = 2;
+            } else if (!isStatic) {
+                code.putByte(ALOAD_0);
+                code.putByte(CHECKCAST).putShort(pool.classRef(owner));
+                stack = 1;
+            }
+            int maxStack = stack;
+            for (int i = 0; i < parameterTypes.length; i++) {
+                code.putByte(ALOAD_2);
+                pushInt(code, i);
+                code.putByte(AALOAD);
+                maxStack = Math.max(maxStack, stack + 2);
+                writeUnbox(parameterTypes[i], code);
+                stack += slots(parameterTypes[i]);
+                maxStack = Math.max(maxStack, stack);
+            }
+
+            Class<?> returnType;
+            lastInvokeStart = code.size();
+            if (isConstructor) {
+                returnType = declaringClass;
+                code.putByte(INVOKESPECIAL).putShort(pool.memberRef(CONSTANT_METHODREF, owner, "<init>", methodDescriptor(parameterTypes, void.class)));
+            } else {
+                returnType = ((Method) executable).getReturnType();
+                String descriptor = methodDescriptor(parameterTypes, returnType);
+                int refTag = declaringClass.isInterface() ? CONSTANT_INTERFACE_METHODREF : CONSTANT_METHODREF;
+                int ref = pool.memberRef(refTag, owner, executable.getName(), descriptor);
+                if (isStatic) {
+                    code.putByte(INVOKESTATIC).putShort(ref);
+                } else if (declaringClass.isInterface()) {
+                    code.putByte(INVOKEINTERFACE).putShort(ref).putByte(stack).putByte(0);
+                } else {
+                    code.putByte(INVOKEVIRTUAL).putShort(ref);
+                }
+            }
+            lastInvokeEnd = code.size();
+
+            if (returnType == void.class) {
+                code.putByte(ACONST_NULL);
+            } else {
+                writeBox(returnType, code);
+            }
+            code.putByte(ARETURN);
+            return Math.max(maxStack, Math.max(1, slots(returnType)));
+        }
+
+        private int writeGet(Field field, ByteVector code) {
+            String owner = internalName(field.getDeclaringClass());
+            int ref = pool.memberRef(CONSTANT_FIELDREF, owner, field.getName(), descriptor(field.getType()));
+            if (Modifier.isStatic(field.getModifiers())) {
+                code.putByte(GETSTATIC).putShort(ref);
+            } else {
+                code.putByte(ALOAD_0);
+                code.putByte(CHECKCAST).putShort(pool.classRef(owner));
+                code.putByte(GETFIELD).putShort(ref);
+            }
+            writeBox(field.getType(), code);
+            code.putByte(ARETURN);
+            return 2;
+        }
+
+        private int writeSet(Field field, ByteVector code) {
+            String owner = internalName(field.getDeclaringClass());
+            int ref = pool.memberRef(CONSTANT_FIELDREF, owner, field.getName(), descriptor(field.getType()));
+            boolean isStatic = Modifier.isStatic(field.getModifiers());
+            if (!isStatic) {
+                code.putByte(ALOAD_0);
+                code.putByte(CHECKCAST).putShort(pool.classRef(owner));
+            }
+            code.putByte(ALOAD_2);
+            writeUnbox(field.getType(), code);
+            code.putByte(isStatic ? PUTSTATIC : PUTFIELD).putShort(ref);
+            code.putByte(RETURN);
+            return 3;
+        }
+
+        private void pushInt(ByteVector code, int value) {
+            if (value <= 5) {
+                code.putByte(ICONST_0 + value);
+            } else if (value <= Byte.MAX_VALUE) {
+                code.putByte(BIPUSH).putByte(value);
+            } else {
+                code.putByte(SIPUSH).putShort(value);
+            }
+        }
+
+        private void writeUnbox(Class<?> type, ByteVector code) {
+            if (type.isPrimitive()) {
+                String wrapper = internalName(boxed(type));
+                code.putByte(CHECKCAST).putShort(pool.classRef(wrapper));
+                code.putByte(INVOKEVIRTUAL).putShort(pool.memberRef(CONSTANT_METHODREF, wrapper, type.getName() + "Value", "()" + descriptor(type)));
+            } else if (type != Object.class) {
+                code.putByte(CHECKCAST).putShort(pool.classRef(internalName(type)));
+            }
+        }
+
+        private void writeBox(Class<?> type, ByteVector code) {
+            if (type.isPrimitive()) {
+                String wrapper = internalName(boxed(type));
+                code.putByte(INVOKESTATIC).putShort(pool.memberRef(CONSTANT_METHODREF, wrapper, "valueOf", "(" + descriptor(type) + ")L" + wrapper + ";"));
+            }
+        }
+    }
+
+    private static final class ConstantPool {
+
+        private final ByteVector bytes = new ByteVector();
+        private final Map<String, Integer> entries = new HashMap<>();
+        private int count = 1;
+
+        private int utf8(String value) {
+            String key = "U" + value;
+            Integer index = entries.get(key);
+            if (index != null) return index;
+            try {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                // the class file format uses the same modified utf8 encoding as DataOutput#writeUTF
+                new DataOutputStream(out).writeUTF(value);
+                bytes.putByte(1).putBytes(out.toByteArray());
+            } catch (IOException ex) {
+                throw new IllegalStateException(ex);
+            }
+            return register(key);
+        }
+
+        private int classRef(String internalName) {
+            String key = "C" + internalName;
+            Integer index = entries.get(key);
+            if (index != null) return index;
+            int nameIndex = utf8(internalName);
+            bytes.putByte(7).putShort(nameIndex);
+            return register(key);
+        }
+
+        private int memberRef(int tag, String owner, String name, String descriptor) {
+            String key = tag + owner + "." + name + descriptor;
+            Integer index = entries.get(key);
+            if (index != null) return index;
+            int classIndex = classRef(owner);
+            int nameAndTypeIndex = nameAndType(name, descriptor);
+            bytes.putByte(tag).putShort(classIndex).putShort(nameAndTypeIndex);
+            return register(key);
+        }
+
+        private int nameAndType(String name, String descriptor) {
+            String key = "N" + name + " " + descriptor;
+            Integer index = entries.get(key);
+            if (index != null) return index;
+            int nameIndex = utf8(name);
+            int descriptorIndex = utf8(descriptor);
+            bytes.putByte(12).putShort(nameIndex).putShort(descriptorIndex);
+            return register(key);
+        }
+
+        private int register(String key) {
+            entries.put(key, count);
+            return count++;
+        }
+    }
+
+    private static final class ByteVector {
+
+        private byte[] data = new byte[256];
+        private int length;
+
+        private ByteVector putByte(int b) {
+            ensureCapacity(1);
+            data[length++] = (byte) b;
+            return this;
+        }
+
+        private ByteVector putShort(int s) {
+            ensureCapacity(2);
+            data[length++] = (byte) (s >>> 8);
+            data[length++] = (byte) s;
+            return this;
+        }
+
+        private ByteVector putInt(int i) {
+            ensureCapacity(4);
+            putIntAt(length, i);
+            length += 4;
+            return this;
+        }
+
+        private void putIntAt(int offset, int i) {
+            data[offset] = (byte) (i >>> 24);
+            data[offset + 1] = (byte) (i >>> 16);
+            data[offset + 2] = (byte) (i >>> 8);
+            data[offset + 3] = (byte) i;
+        }
+
+        private ByteVector putBytes(byte[] bytes) {
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, data, length, bytes.length);
+            length += bytes.length;
+            return this;
+        }
+
+        private ByteVector putVector(ByteVector vector) {
+            return putBytes(vector.toByteArray());
+        }
+
+        private int size() {
+            return length;
+        }
+
+        private byte[] toByteArray() {
+            return Arrays.copyOf(data, length);
+        }
+
+        private void ensureCapacity(int size) {
+            if (length + size > data.length) {
+                data = Arrays.copyOf(data, Math.max(data.length * 2, length + size));
+            }
+        }
+    }
+
+}
@@ -0,0 +1,299 @@
+package com.github.Aseeef.dispatch;
+
+import com.github.Aseeef.ReflectiveAseefianException;
+import com.github.Aseeef.field.FieldAccessor;
+import com.github.Aseeef.index.MemberIndex;
+import com.github.Aseeef.invoker.ExecutableInvoker;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.*;
+
+/**
+ * Index based access to all the members of a class through a class generated at runtime specifically for the target class.
+ * Members are resolved to an index once (using the usual lookups), and every call afterwards is a switch over direct
+ * bytecode calls which completely skips {@link java.lang.reflect}.
+ * <p>
+ * Members which the generated class can not legally access (for example private members on Java 11-14, where hidden
+ * nestmate classes are not available) transparently fall back to the usual cached invokers and field accessors.
+ * <p>
+ * The indexed members are the declared constructors of the class, the methods of the class, its super classes and all
+ * of its interfaces, and the fields of the class and its super classes.
+ */
+public class MemberDispatcher {
+
+    private final Class<?> targetClass;
+    private final MemberResolver resolver;
+    private final Executable[] executables;
+    private final Field[] fields;
+    private final Map<Executable, Integer> executableIndexes;
+    private final Map<Field, Integer> fieldIndexes;
+    private final boolean[] requiresTarget;
+
+    private final @Nullable MethodHandle invokeHandle;
+    private final @Nullable MethodHandle getHandle;
+    private final @Nullable MethodHandle setHandle;
+    private final boolean[] compiledExecutables;
+    private final boolean[] compiledGetters;
+    private final boolean[] compiledSetters;
+
+    // lazily populated for members which couldn't be compiled
+    private final ExecutableInvoker[] fallbackInvokers;
+    private final FieldAccessor[] fallbackAccessors;
+
+    private MemberDispatcher(Class<?> targetClass, MemberResolver resolver, Executable[] executables, Field[] fields, DispatcherGenerator.@Nullable Result generated) {
+        this.targetClass = targetClass;
+        this.resolver = resolver;
+        this.executables = executables;
+        this.fields = fields;
+        this.executableIndexes = new HashMap<>(executables.length * 2);
+        this.requiresTarget = new boolean[executables.length];
+        for (int i = 0; i < executables.length; i++) {
+            executableIndexes.putIfAbsent(executables[i], i);
+            requiresTarget[i] = executables[i] instanceof Method && !Modifier.isStatic(executables[i].getModifiers());
+        }
+        this.fieldIndexes = new HashMap<>(fields.length * 2);
+        for (int i = 0; i < fields.length; i++) {
+            fieldIndexes.putIfAbsent(fields[i], i);
+        }
+        if (generated != null) {
+            this.invokeHandle = generated.invokeHandle;
+            this.getHandle = generated.getHandle;
+            this.setHandle = generated.setHandle;
+            this.compiledExecutables = generated.compiledExecutables;
+            this.compiledGetters = generated.compiledGetters;
+            this.compiledSetters = generated.compiledSetters;
+        } else {
+            this.invokeHandle = null;
+            this.getHandle = null;
+            this.setHandle = null;
+            this.compiledExecutables = new boolean[executables.length];
+            this.compiledGetters = new boolean[fields.length];
+            this.compiledSetters = new boolean[fields.length];
+        }
+        this.fallbackInvokers = new ExecutableInvoker[executables.length];
+        this.fallbackAccessors = new FieldAccessor[fields.length];
+    }
+
+    /**
+     * Creates the dispatcher for the specified class. This generates and defines a new class, so dispatchers
+     * should be created once per class and then reused.
+     *
+     * @param targetClass the class whose members to dispatch to
+     * @param resolver    the resolver used to look up members and fallback invokers
+     * @return the dispatcher
+     */
+    public static MemberDispatcher create(Class<?> targetClass, MemberResolver resolver) {
+        List<Executable> executables = new ArrayList<>(Arrays.asList(MemberIndex.of(targetClass).getConstructors()));
+        List<Field> fields = new ArrayList<>();
+        Set<Class<?>> interfaces = new LinkedHashSet<>();
+        Deque<Class<?>> interfacesToSearch = new ArrayDeque<>();
+        for (Class<?> clazz = targetClass; clazz != null; clazz = clazz.getSuperclass()) {
+            MemberIndex index = MemberIndex.of(clazz);
+            executables.addAll(Arrays.asList(index.getMethods()));
+            fields.addAll(Arrays.asList(index.getFields()));
+            interfacesToSearch.addAll(Arrays.asList(clazz.getInterfaces()));
+        }
+        while (!interfacesToSearch.isEmpty()) {
+            Class<?> interfaceClass = interfacesToSearch.poll();
+            if (interfaces.add(interfaceClass)) {
+                executables.addAll(Arrays.asList(MemberIndex.of(interfaceClass).getMethods()));
+                interfacesToSearch.addAll(Arrays.asList(interfaceClass.getInterfaces()));
+            }
+        }
+
+        Executable[] executableArray = executables.toArray(new Executable[0]);
+        Field[] fieldArray = fields.toArray(new Field[0]);
+        DispatcherGenerator.Result generated = DispatcherGenerator.generate(targetClass, executableArray, fieldArray);
+        return new MemberDispatcher(targetClass, resolver, executableArray, fieldArray, generated);
+    }
+
+    public Class<?> getTargetClass() {
+        return targetClass;
+    }
+
+    /**
+     * Resolve a method (possibly declared in a super class or interface) to its member index.
+     *
+     * @param methodName     the name of the method
+     * @param parameterTypes the parameter types of the method
+     * @return the index of the method
+     */
+    public int getMethodIndex(String methodName, Class<?>... parameterTypes) {
+        return indexOf(resolver.resolveMethod(targetClass, methodName, parameterTypes));
+    }
+
+    /**
+     * Resolve a constructor to its member index.
+     *
+     * @param parameterTypes the parameter types of the constructor
+     * @return the index of the constructor
+     */
+    public int getConstructorIndex(Class<?>... parameterTypes) {
+        return indexOf(resolver.resolveConstructor(targetClass, parameterTypes));
+    }
+
+    /**
+     * Resolve a field (possibly declared in a super class) to its field index.
+     *
+     * @param fieldName the name of the field
+     * @return the index of the field
+     */
+    public int getFieldIndex(String fieldName) {
+        return indexOf(resolver.resolveField(targetClass, fieldName));
+    }
+
+    public int indexOf(Executable executable) {
+        Integer index = executableIndexes.get(executable);
+        if (index == null) {
+            throw new ReflectiveAseefianException("The executable " + executable + " is not a member of " + targetClass.getName() + "!", ReflectiveAseefianException.ExceptionType.ILLEGAL_ARGUMENT);
+        }
+        return index;
+    }
+
+    public int indexOf(Field field) {
+        Integer index = fieldIndexes.get(field);
+        if (index == null) {
+            throw new ReflectiveAseefianException("The field " + field + " is not a member of " + targetClass.getName() + "!", ReflectiveAseefianException.ExceptionType.ILLEGAL_ARGUMENT);
+        }
+        return index;
+    }
+
+    /**
+     * @param index the executable index
+     * @return whether calls to this executable go through the generated class (rather than falling back to an invoker)
+     */
+    public boolean isCompiledExecutable(int index) {
+        return compiledExecutables[index];
+    }
+
+    /**
+     * @param index the field index
+     * @return whether reads of this field go through the generated class (rather than falling back to a field accessor)
+     */
+    public boolean isCompiledField(int index) {
+        return compiledGetters[index];
+    }
+
+    /**
+     * Invoke the method or constructor with the specified index. Unlike {@link com.github.Aseeef.JavaAseefianReflections#invokeMethod(Object, Method, Object...)},
+     * the parameters must exactly match the parameter list of the executable (meaning varargs must already be passed as an array).
+     *
+     * @param target     the object on which to invoke the method (ignored for static methods and constructors)
+     * @param index      the executable index
+     * @param parameters the parameters to pass in
+     * @return the result of the invocation, or the new instance in the case of a constructor
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T invoke(@Nullable Object target, int index, Object... parameters) {
+        if (target == null && requiresTarget[index]) {
+            throw new NullPointerException("Cannot invoke an instance method on a null object!");
+        }
+        // the generated class indexes into the parameters without checking their number
+        if (parameters.length != executables[index].getParameterCount()) {
+            throw new ReflectiveAseefianException("The " + executables[index] + " takes " + executables[index].getParameterCount() + " arguments, but " + parameters.length + " were supplied!", ReflectiveAseefianException.ExceptionType.ILLEGAL_ARGUMENT);
+        }
+        try {
+            if (compiledExecutables[index]) {
+                return (T) invokeHandle.invokeExact(target, index, parameters);
+            }
+            return (T) getFallbackInvoker(index).invoke(target, parameters);
+        } catch (InvocationTargetException ex) {
+            throw new ReflectiveAseefianException(ex.getCause(), ReflectiveAseefianException.ExceptionType.INVOCATION_EXCEPTION);
+        } catch (IllegalAccessException ex) {
+            throw new ReflectiveAseefianException(ex, ReflectiveAseefianException.ExceptionType.ILLEGAL_ACCESS);
+        } catch (InstantiationException ex) {
+            throw new ReflectiveAseefianException(ex);
+        } catch (ClassCastException | NullPointerException | IllegalArgumentException ex) {
+            // the target's own exceptions are always wrapped, so these came from converting the parameters
+            throw new ReflectiveAseefianException(ex, ReflectiveAseefianException.ExceptionType.ILLEGAL_ARGUMENT);
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new ReflectiveAseefianException(ex);
+        }
+    }
+
+    /**
+     * Create a new instance using the constructor with the specified index.
+     *
+     * @param index      the constructor index
+     * @param parameters the parameters to pass in
+     * @return the new instance
+     */
+    public <T> T newInstance(int index, Object... parameters) {
+        return invoke(null, index, parameters);
+    }
+
+    /**
+     * Get the value of the field with the specified index.
+     *
+     * @param target the object whose field to read (ignored for static fields)
+     * @param index  the field index
+     * @return the value of the field
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(@Nullable Object target, int index) {
+        if (!compiledGetters[index]) {
+            return getFallbackAccessor(index).get(target);
+        }
+        try {
+            return (T) getHandle.invokeExact(target, index);
+        } catch (ClassCastException | NullPointerException ex) {
+            throw new ReflectiveAseefianException(ex, ReflectiveAseefianException.ExceptionType.ILLEGAL_ARGUMENT);
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new ReflectiveAseefianException(ex);
+        }
+    }
+
+    /**
+     * Set the value of the field with the specified index.
+     *
+     * @param target the object whose field to set (ignored for static fields)
+     * @param index  the field index
+     * @param value  the value which to set the field to
+     */
+    public void set(@Nullable Object target, int index, @Nullable Object value) {
+        if (!compiledSetters[index]) {
+            getFallbackAccessor(index).set(target, value);
+            return;
+        }
+        try {
+            setHandle.invokeExact(target, index, value);
+        } catch (ClassCastException | NullPointerException ex) {
+            throw new ReflectiveAseefianException(ex, ReflectiveAseefianException.ExceptionType.ILLEGAL_ARGUMENT);
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new ReflectiveAseefianException(ex);
+        }
+    }
+
+    private ExecutableInvoker getFallbackInvoker(int index) {
+        ExecutableInvoker invoker = fallbackInvokers[index];
+        if (invoker == null) {
+            // the indexed executables are shared with the member index, so the invoker gets its own copy to make accessible
+            invoker = resolver.getInvoker(MemberIndex.copyOf(executables[index]));
+            fallbackInvokers[index] = invoker;
+        }
+        return invoker;
+    }
+
+    private FieldAccessor getFallbackAccessor(int index) {
+        FieldAccessor accessor = fallbackAccessors[index];
+        if (accessor == null) {
+            accessor = resolver.getFieldAccessor(MemberIndex.copyOf(fields[index]));
+            fallbackAccessors[index] = accessor;
+        }
+        return accessor;
+    }
+
+}
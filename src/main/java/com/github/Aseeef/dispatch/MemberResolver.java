@@ -0,0 +1,27 @@
+package com.github.Aseeef.dispatch;
+
+import com.github.Aseeef.field.FieldAccessor;
+import com.github.Aseeef.invoker.ExecutableInvoker;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * Supplies a {@link MemberDispatcher} with the usual (cached) member lookups, and with the invokers/accessors to
+ * fall back on for members which could not be compiled into the dispatcher class.
+ */
+public interface MemberResolver {
+
+    public Method resolveMethod(Class<?> clazz, String methodName, Class<?>[] parameterTypes);
+
+    public Constructor<?> resolveConstructor(Class<?> clazz, Class<?>[] parameterTypes);
+
+    public Field resolveField(Class<?> clazz, String fieldName);
+
+    public ExecutableInvoker getInvoker(Executable executable);
+
+    public FieldAccessor getFieldAccessor(Field field);
+
+}
@@ -0,0 +1,152 @@
+package com.github.Aseeef.field;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.lang.reflect.Field;
+
+/**
+ * A pre-resolved accessor for a single field. Once obtained (see {@link com.github.Aseeef.JavaAseefianReflections#getFieldAccessor(Class, String)})
+ * reading or writing the field involves no further lookups, and the primitive getters and setters do not box the value.
+ * For static fields, the instance parameter is ignored and may be null.
+ */
+public interface FieldAccessor {
+
+    /**
+     * The memory ordering used when reading or writing a field. These are equivalent to the
+     * plain, opaque, acquire/release and volatile access modes of a {@link java.lang.invoke.VarHandle}.
+     */
+    public enum AccessMode {
+        PLAIN,
+        OPAQUE,
+        ACQUIRE_RELEASE,
+        VOLATILE,
+    }
+
+    /**
+     * @return the field this accessor reads and writes
+     */
+    public Field getField();
+
+    /**
+     * Get the value of the field, boxing it if the field is a primitive.
+     *
+     * @param instance the object whose field to read
+     * @param mode     the memory ordering of the read
+     * @return the value of the field
+     */
+    public <T> T get(@Nullable Object instance, AccessMode mode);
+
+    public default <T> T get(@Nullable Object instance) {
+        return get(instance, AccessMode.PLAIN);
+    }
+
+    /**
+     * Set the value of the field, unboxing the value if the field is a primitive.
+     *
+     * @param instance the object whose field to set
+     * @param value    the value which to set the field to
+     * @param mode     the memory ordering of the write
+     */
+    public void set(@Nullable Object instance, @Nullable Object value, AccessMode mode);
+
+    public default void set(@Nullable Object instance, @Nullable Object value) {
+        set(instance, value, AccessMode.PLAIN);
+    }
+
+    public boolean getBoolean(@Nullable Object instance, AccessMode mode);
+
+    public default boolean getBoolean(@Nullable Object instance) {
+        return getBoolean(instance, AccessMode.PLAIN);
+    }
+
+    public void setBoolean(@Nullable Object instance, boolean value, AccessMode mode);
+
+    public default void setBoolean(@Nullable Object instance, boolean value) {
+        setBoolean(instance, value, AccessMode.PLAIN);
+    }
+
+    public byte getByte(@Nullable Object instance, AccessMode mode);
+
+    public default byte getByte(@Nullable Object instance) {
+        return getByte(instance, AccessMode.PLAIN);
+    }
+
+    public void setByte(@Nullable Object instance, byte value, AccessMode mode);
+
+    public default void setByte(@Nullable Object instance, byte value) {
+        setByte(instance, value, AccessMode.PLAIN);
+    }
+
+    public short getShort(@Nullable Object instance, AccessMode mode);
+
+    public default short getShort(@Nullable Object instance) {
+        return getShort(instance, AccessMode.PLAIN);
+    }
+
+    public void setShort(@Nullable Object instance, short value, AccessMode mode);
+
+    public default void setShort(@Nullable Object instance, short value) {
+        setShort(instance, value, AccessMode.PLAIN);
+    }
+
+    public char getChar(@Nullable Object instance, AccessMode mode);
+
+    public default char getChar(@Nullable Object instance) {
+        return getChar(instance, AccessMode.PLAIN);
+    }
+
+    public void setChar(@Nullable Object instance, char value, AccessMode mode);
+
+    public default void setChar(@Nullable Object instance, char value) {
+        setChar(instance, value, AccessMode.PLAIN);
+    }
+
+    public int getInt(@Nullable Object instance, AccessMode mode);
+
+    public default int getInt(@Nullable Object instance) {
+        return getInt(instance, AccessMode.PLAIN);
+    }
+
+    public void setInt(@Nullable Object instance, int value, AccessMode mode);
+
+    public default void setInt(@Nullable Object instance, int value) {
+        setInt(instance, value, AccessMode.PLAIN);
+    }
+
+    public long getLong(@Nullable Object instance, AccessMode mode);
+
+    public default long getLong(@Nullable Object instance) {
+        return getLong(instance, AccessMode.PLAIN);
+    }
+
+    public void setLong(@Nullable Object instance, long value, AccessMode mode);
+
+    public default void setLong(@Nullable Object instance, long value) {
+        setLong(instance, value, AccessMode.PLAIN);
+    }
+
+    public float getFloat(@Nullable Object instance, AccessMode mode);
+
+    public default float getFloat(@Nullable Object instance) {
+        return getFloat(instance, AccessMode.PLAIN);
+    }
+
+    public void setFloat(@Nullable Object instance, float value, AccessMode mode);
+
+    public default void setFloat(@Nullable Object instance, float value) {
+        setFloat(instance, value, AccessMode.PLAIN);
+    }
+
+    public double getDouble(@Nullable Object instance, AccessMode mode);
+
+    public default double getDouble(@Nullable Object instance) {
+        return getDouble(instance, AccessMode.PLAIN);
+    }
+
+    public void setDouble(@Nullable Object instance, double value, AccessMode mode);
+
+    public default void setDouble(@Nullable Object instance, double value) {
+        setDouble(instance, value, AccessMode.PLAIN);
+    }
+
+}
@@ -0,0 +1,292 @@
+package com.github.Aseeef.field;
+
+import com.github.Aseeef.ReflectiveAseefianException;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+
+/**
+ * A {@link FieldAccessor} backed by plain reflections. This is used whenever a {@link VarHandle} can not be
+ * created for a field. Access modes other than {@link AccessMode#PLAIN} are emulated using memory fences.
+ */
+public class ReflectiveFieldAccessor implements FieldAccessor {
+
+    private final Field field;
+
+    public ReflectiveFieldAccessor(Field field) {
+        field.setAccessible(true);
+        this.field = field;
+    }
+
+    @Override
+    public Field getField() {
+        return field;
+    }
+
+    private static void beforeRead(AccessMode mode) {
+        if (mode == AccessMode.VOLATILE)
+            VarHandle.fullFence();
+    }
+
+    private static void afterRead(AccessMode mode) {
+        if (mode != AccessMode.PLAIN)
+            VarHandle.acquireFence();
+    }
+
+    private static void beforeWrite(AccessMode mode) {
+        if (mode == AccessMode.VOLATILE)
+            VarHandle.fullFence();
+        else if (mode != AccessMode.PLAIN)
+            VarHandle.releaseFence();
+    }
+
+    private static void afterWrite(AccessMode mode) {
+        if (mode == AccessMode.VOLATILE)
+            VarHandle.fullFence();
+    }
+
+    @Override @SuppressWarnings("unchecked")
+    public <T> T get(@Nullable Object instance, AccessMode mode) {
+        try {
+            beforeRead(mode);
+            T value = (T) field.get(instance);
+            afterRead(mode);
+            return value;
+        } catch (IllegalAccessException ex) {
+            throw new ReflectiveAseefianException(ex, ReflectiveAseefianException.ExceptionType.ILLEGAL_ACCESS);
+        } catch (IllegalArgumentException ex) {
+            throw new ReflectiveAseefianException(ex, ReflectiveAseefianException.ExceptionType.ILLEGAL_ARGUMENT);
+        }
+    }
+
+    @Override
+    public void set(@Nullable Object instance, @Nullable Object value, AccessMode mode) {
+        try {
+            beforeWrite(mode);
+            field.set(instance, value);
+            afterWrite(mode);
+        } catch (IllegalAccessException ex) {
+            throw new ReflectiveAseefianException(ex, ReflectiveAseefianException.ExceptionType.ILLEGAL_ACCESS);
+        } catch (IllegalArgumentException ex) {
+            throw new ReflectiveAseefianException(ex, ReflectiveAseefianException.ExceptionType.ILLEGAL_ARGUMENT);
+        }
+    }
+
+    @Override
+    public boolean getBoolean(@Nullable Object instance, AccessMode mode) {
+        try {
+            beforeRead(mode);
+            boolean value = field.getBoolean(instance);
+            afterRead(mode);
+            return value;
+        } catch (IllegalAccessException ex) {
+            throw new ReflectiveAseefianException(ex, ReflectiveAseefianException.ExceptionType.ILLEGAL_ACCESS);
+        } catch (IllegalArgumentException ex) {
+            throw new ReflectiveAseefianException(ex, ReflectiveAseefianException.ExceptionType.ILLEGAL_ARGUMENT);
+        }
+    }
+
+    @Override
+    public void setBoolean(@Nullable Object instance, boolean value, AccessMode mode) {
+        try {
+            beforeWrite(mode);
+            field.setBoolean(instance, value);
+            afterWrite(mode);
+        } catch (IllegalAccessException ex) {
+            throw new ReflectiveAseefianException(ex, ReflectiveAseefianException.ExceptionType.ILLEGAL_ACCESS);
+        } catch (IllegalArgumentException ex) {
+            throw new ReflectiveAseefianException(ex, ReflectiveAseefianException.ExceptionType.ILLEGAL_ARGUMENT);
+        }
+    }
+
+    @Override
+    public byte getByte(@Nullable Object instance, AccessMode mode) {
+        try {
+            beforeRead(mode);
+            byte value = field.getByte(instance);
+            afterRead(mode);
+            return value;
+        } catch (IllegalAccessException ex) {
+            throw new ReflectiveAseefianException(ex, ReflectiveAseefianException.ExceptionType.ILLEGAL_ACCESS);
+        } catch (IllegalArgumentException ex) {
+            throw new ReflectiveAseefianException(ex, ReflectiveAseefianException.ExceptionType.ILLEGAL_ARGUMENT);
+        }
+    }
+
+    @Override
+    public void setByte(@Nullable Object instance, byte value, AccessMode mode) {
+        try {
+            beforeWrite(mode);
+            field.setByte(instance, value);
+            afterWrite(mode);
+        } catch (IllegalAccessException ex) {
+            throw new ReflectiveAseefianException(ex, ReflectiveAseefianException.ExceptionType.ILLEGAL_ACCESS);
+        } catch (IllegalArgumentException ex) {
+            throw new ReflectiveAseefianException(ex, ReflectiveAseefianException.ExceptionType.ILLEGAL_ARGUMENT);
+        }
+    }
+
+    @Override
+    public short getShort(@Nullable Object instance, AccessMode mode) {
+        try {
+            beforeRead(mode);
+            short value = field.getShort(instance);
+            afterRead(mode);
+            return value;
+        } catch (IllegalAccessException ex) {
+            throw new ReflectiveAseefianException(ex, ReflectiveAseefianException.ExceptionType.ILLEGAL_ACCESS);
+        } catch (IllegalArgumentException ex) {
+            throw new ReflectiveAseefianException(ex, ReflectiveAseefianException.ExceptionType.ILLEGAL_ARGUMENT);
+        }
+    }
+
+    @Override
+    public void setShort(@Nullable Object instance, short value, AccessMode mode) {
+        try {
+            beforeWrite(mode);
+            field.setShort(instance, value);
+            afterWrite(mode);
+        } catch (IllegalAccessException ex) {
+            throw new ReflectiveAseefianException(ex, ReflectiveAseefianException.ExceptionType.ILLEGAL_ACCESS);
+        } catch (IllegalArgumentException ex) {
+            throw new ReflectiveAseefianException(ex, ReflectiveAseefianException.ExceptionType.ILLEGAL_ARGUMENT);
+        }
+    }
+
+    @Override
+    public char getChar(@Nullable Object instance, AccessMode mode) {
+        try {
+            beforeRead(mode);
+            char value = field.getChar(instance);
+            afterRead(mode);
+            return value;
+        } catch (IllegalAccessException ex) {
+            throw new ReflectiveAseefianException(ex, ReflectiveAseefianException.ExceptionType.ILLEGAL_ACCESS);
+        } catch (IllegalArgumentException ex) {
+            throw new ReflectiveAseefianException(ex, ReflectiveAseefianException.ExceptionType.ILLEGAL_ARGUMENT);
+        }
+    }
+
+    @Override
+    public void setChar(@Nullable Object instance, char value, AccessMode mode) {
+        try {
+            beforeWrite(mode);
+            field.setChar(instance, value);
+            afterWrite(mode);
+        } catch (IllegalAccessException ex) {
+            throw new ReflectiveAseefianException(ex, ReflectiveAseefianException.ExceptionType.ILLEGAL_ACCESS);
+        } catch (IllegalArgumentException ex) {
+            throw new ReflectiveAseefianException(ex, ReflectiveAseefianException.ExceptionType.ILLEGAL_ARGUMENT);
+        }
+    }
+
+    @Override
+    public int getInt(@Nullable Object instance, AccessMode mode) {
+        try {
+            beforeRead(mode);
+            int value = field.getInt(instance);
+            afterRead(mode);
+            return value;
+        } catch (IllegalAccessException ex) {
+            throw new ReflectiveAseefianException(ex, ReflectiveAseefianException.ExceptionType.ILLEGAL_ACCESS);
+        } catch (IllegalArgumentException ex) {
+            throw new ReflectiveAseefianException(ex, ReflectiveAseefianException.ExceptionType.ILLEGAL_ARGUMENT);
+        }
+    }
+
+    @Override
+    public void setInt(@Nullable Object instance, int value, AccessMode mode) {
+        try {
+            beforeWrite(mode);
+            field.setInt(instance, value);
+            afterWrite(mode);
+        } catch (IllegalAccessException ex) {
+            throw new ReflectiveAseefianException(ex, ReflectiveAseefianException.ExceptionType.ILLEGAL_ACCESS);
+        } catch (IllegalArgumentException ex) {
+            throw new ReflectiveAseefianException(ex, ReflectiveAseefianException.ExceptionType.ILLEGAL_ARGUMENT);
+        }
+    }
+
+    @Override
+    public long getLong(@Nullable Object instance, AccessMode mode) {
+        try {
+            beforeRead(mode);
+            long value = field.getLong(instance);
+            afterRead(mode);
+            return value;
+        } catch (IllegalAccessException ex) {
+            throw new ReflectiveAseefianException(ex, ReflectiveAseefianException.ExceptionType.ILLEGAL_ACCESS);
+        } catch (IllegalArgumentException ex) {
+            throw new ReflectiveAseefianException(ex, ReflectiveAseefianException.ExceptionType.ILLEGAL_ARGUMENT);
+        }
+    }
+
+    @Override
+    public void setLong(@Nullable Object instance, long value, AccessMode mode) {
+        try {
+            beforeWrite(mode);
+            field.setLong(instance, value);
+            afterWrite(mode);
+        } catch (IllegalAccessException ex) {
+            throw new ReflectiveAseefianException(ex, ReflectiveAseefianException.ExceptionType.ILLEGAL_ACCESS);
+        } catch (IllegalArgumentException ex) {
+            throw new ReflectiveAseefianException(ex, ReflectiveAseefianException.ExceptionType.ILLEGAL_ARGUMENT);
+        }
+    }
+
+    @Override
+    public float getFloat(@Nullable Object instance, AccessMode mode) {
+        try {
+            beforeRead(mode);
+            float value = field.getFloat(instance);
+            afterRead(mode);
+            return value;
+        } catch (IllegalAccessException ex) {
+            throw new ReflectiveAseefianException(ex, ReflectiveAseefianException.ExceptionType.ILLEGAL_ACCESS);
+        } catch (IllegalArgumentException ex) {
+            throw new ReflectiveAseefianException(ex, ReflectiveAseefianException.ExceptionType.ILLEGAL_ARGUMENT);
+        }
+    }
+
+    @Override
+    public void setFloat(@Nullable Object instance, float value, AccessMode mode) {
+        try {
+            beforeWrite(mode);
+            field.setFloat(instance, value);
+            afterWrite(mode);
+        } catch (IllegalAccessException ex) {
+            throw new ReflectiveAseefianException(ex, ReflectiveAseefianException.ExceptionType.ILLEGAL_ACCESS);
+        } catch (IllegalArgumentException ex) {
+            throw new ReflectiveAseefianException(ex, ReflectiveAseefianException.ExceptionType.ILLEGAL_ARGUMENT);
+        }
+    }
+
+    @Override
+    public double getDouble(@Nullable Object instance, AccessMode mode) {
+        try {
+            beforeRead(mode);
+            double value = field.getDouble(instance);
+            afterRead(mode);
+            return value;
+        } catch (IllegalAccessException ex) {
+            throw new ReflectiveAseefianException(ex, ReflectiveAseefianException.ExceptionType.ILLEGAL_ACCESS);
+        } catch (IllegalArgumentException ex) {
+            throw new ReflectiveAseefianException(ex, ReflectiveAseefianException.ExceptionType.ILLEGAL_ARGUMENT);
+        }
+    }
+
+    @Override
+    public void setDouble(@Nullable Object instance, double value, AccessMode mode) {
+        try {
+            beforeWrite(mode);
+            field.setDouble(instance, value);
+            afterWrite(mode);
+        } catch (IllegalAccessException ex) {
+            throw new ReflectiveAseefianException(ex, ReflectiveAseefianException.ExceptionType.ILLEGAL_ACCESS);
+        } catch (IllegalArgumentException ex) {
+            throw new ReflectiveAseefianException(ex, ReflectiveAseefianException.ExceptionType.ILLEGAL_ARGUMENT);
+        }
+    }
+
+}
@@ -0,0 +1,491 @@
+package com.github.Aseeef.field;
+
+import com.github.Aseeef.ReflectiveAseefianException;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.lang.invoke.WrongMethodTypeException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * A {@link FieldAccessor} backed by a {@link VarHandle} which is created once for the field.
+ * Since var handles never allow writing to a final field, writes to final fields are delegated to plain reflections instead.
+ */
+public class VarHandleFieldAccessor implements FieldAccessor {
+
+    private final Field field;
+    private final VarHandle handle;
+    private final boolean isStatic;
+    // false for final fields
+    private final boolean writable;
+    private final @Nullable ReflectiveFieldAccessor finalFieldWriter;
+
+    private VarHandleFieldAccessor(Field field, VarHandle handle) {
+        this.field = field;
+        this.handle = handle;
+        this.isStatic = Modifier.isStatic(field.getModifiers());
+        this.writable = handle.isAccessModeSupported(VarHandle.AccessMode.SET);
+        this.finalFieldWriter = writable ? null : new ReflectiveFieldAccessor(field);
+    }
+
+    /**
+     * Creates a var handle backed accessor for the specified field.
+     *
+     * @param field the field
+     * @return the accessor
+     * @throws IllegalAccessException if no var handle could be created for the field (such as when its package is not open to us)
+     */
+    public static VarHandleFieldAccessor create(Field field) throws IllegalAccessException {
+        MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup());
+        return new VarHandleFieldAccessor(field, lookup.unreflectVarHandle(field));
+    }
+
+    @Override
+    public Field getField() {
+        return field;
+    }
+
+    @Override @SuppressWarnings("unchecked")
+    public <T> T get(@Nullable Object instance, AccessMode mode) {
+        try {
+            if (isStatic) {
+                switch (mode) {
+                    case OPAQUE: return (T) handle.getOpaque();
+                    case ACQUIRE_RELEASE: return (T) handle.getAcquire();
+                    case VOLATILE: return (T) handle.getVolatile();
+                    default: return (T) handle.get();
+                }
+            }
+            switch (mode) {
+                case OPAQUE: return (T) handle.getOpaque(instance);
+                case ACQUIRE_RELEASE: return (T) handle.getAcquire(instance);
+                case VOLATILE: return (T) handle.getVolatile(instance);
+                default: return (T) handle.get(instance);
+            }
+        } catch (WrongMethodTypeException | ClassCastException ex) {
+            throw new ReflectiveAseefianException(ex, ReflectiveAseefianException.ExceptionType.ILLEGAL_ARGUMENT);
+        }
+    }
+
+    @Override
+    public void set(@Nullable Object instance, @Nullable Object value, AccessMode mode) {
+        if (!writable) {
+            finalFieldWriter.set(instance, value, mode);
+            return;
+        }
+        try {
+            if (isStatic) {
+                switch (mode) {
+                    case OPAQUE: handle.setOpaque(value); break;
+                    case ACQUIRE_RELEASE: handle.setRelease(value); break;
+                    case VOLATILE: handle.setVolatile(value); break;
+                    default: handle.set(value); break;
+                }
+                return;
+            }
+            switch (mode) {
+                case OPAQUE: handle.setOpaque(instance, value); break;
+                case ACQUIRE_RELEASE: handle.setRelease(instance, value); break;
+                case VOLATILE: handle.setVolatile(instance, value); break;
+                default: handle.set(instance, value); break;
+            }
+        } catch (WrongMethodTypeException | ClassCastException ex) {
+            throw new ReflectiveAseefianException(ex, ReflectiveAseefianException.ExceptionType.ILLEGAL_ARGUMENT);
+        }
+    }
+
+    @Override
+    public boolean getBoolean(@Nullable Object instance, AccessMode mode) {
+        try {
+            if (isStatic) {
+                switch (mode) {
+                    case OPAQUE: return (boolean) handle.getOpaque();
+                    case ACQUIRE_RELEASE: return (boolean) handle.getAcquire();
+                    case VOLATILE: return (boolean) handle.getVolatile();
+                    default: return (boolean) handle.get();
+                }
+            }
+            switch (mode) {
+                case OPAQUE: return (boolean) handle.getOpaque(instance);
+                case ACQUIRE_RELEASE: return (boolean) handle.getAcquire(instance);
+                case VOLATILE: return (boolean) handle.getVolatile(instance);
+                default: return (boolean) handle.get(instance);
+            }
+        } catch (WrongMethodTypeException | ClassCastException ex) {
+            throw new ReflectiveAseefianException(ex, ReflectiveAseefianException.ExceptionType.ILLEGAL_ARGUMENT);
+        }
+    }
+
+    @Override
+    public void setBoolean(@Nullable Object instance, boolean value, AccessMode mode) {
+        if (!writable) {
+            finalFieldWriter.setBoolean(instance, value, mode);
+            return;
+        }
+        try {
+            if (isStatic) {
+                switch (mode) {
+                    case OPAQUE: handle.setOpaque(value); break;
+                    case ACQUIRE_RELEASE: handle.setRelease(value); break;
+                    case VOLATILE: handle.setVolatile(value); break;
+                    default: handle.set(value); break;
+                }
+                return;
+            }
+            switch (mode) {
+                case OPAQUE: handle.setOpaque(instance, value); break;
+                case ACQUIRE_RELEASE: handle.setRelease(instance, value); break;
+                case VOLATILE: handle.setVolatile(instance, value); break;
+                default: handle.set(instance, value); break;
+            }
+        } catch (WrongMethodTypeException | ClassCastException ex) {
+            throw new ReflectiveAseefianException(ex, ReflectiveAseefianException.ExceptionType.ILLEGAL_ARGUMENT);
+        }
+    }
+
+    @Override
+    public byte getByte(@Nullable Object instance, AccessMode mode) {
+        try {
+            if (isStatic) {
+                switch (mode) {
+                    case OPAQUE: return (byte) handle.getOpaque();
+                    case ACQUIRE_RELEASE: return (byte) handle.getAcquire();
+                    case VOLATILE: return (byte) handle.getVolatile();
+                    default: return (byte) handle.get();
+                }
+            }
+            switch (mode) {
+                case OPAQUE: return (byte) handle.getOpaque(instance);
+                case ACQUIRE_RELEASE: return (byte) handle.getAcquire(instance);
+                case VOLATILE: return (byte) handle.getVolatile(instance);
+                default: return (byte) handle.get(instance);
+            }
+        } catch (WrongMethodTypeException | ClassCastException ex) {
+            throw new ReflectiveAseefianException(ex, ReflectiveAseefianException.ExceptionType.ILLEGAL_ARGUMENT);
+        }
+    }
+
+    @Override
+    public void setByte(@Nullable Object instance, byte value, AccessMode mode) {
+        if (!writable) {
+            finalFieldWriter.setByte(instance, value, mode);
+            return;
+        }
+        try {
+            if (isStatic) {
+                switch (mode) {
+                    case OPAQUE: handle.setOpaque(value); break;
+                    case ACQUIRE_RELEASE: handle.setRelease(value); break;
+                    case VOLATILE: handle.setVolatile(value); break;
+                    default: handle.set(value); break;
+                }
+                return;
+            }
+            switch (mode) {
+                case OPAQUE: handle.setOpaque(instance, value); break;
+                case ACQUIRE_RELEASE: handle.setRelease(instance, value); break;
+                case VOLATILE: handle.setVolatile(instance, value); break;
+                default: handle.set(instance, value); break;
+            }
+        } catch (WrongMethodTypeException | ClassCastException ex) {
+            throw new ReflectiveAseefianException(ex, ReflectiveAseefianException.ExceptionType.ILLEGAL_ARGUMENT);
+        }
+    }
+
+    @Override
+    public short getShort(@Nullable Object instance, AccessMode mode) {
+        try {
+            if (isStatic) {
+                switch (mode) {
+                    case OPAQUE: return (short) handle.getOpaque();
+                    case ACQUIRE_RELEASE: return (short) handle.getAcquire();
+                    case VOLATILE: return (short) handle.getVolatile();
+                    default: return (short) handle.get();
+                }
+            }
+            switch (mode) {
+                case OPAQUE: return (short) handle.getOpaque(instance);
+                case ACQUIRE_RELEASE: return (short) handle.getAcquire(instance);
+                case VOLATILE: return (short) handle.getVolatile(instance);
+                default: return (short) handle.get(instance);
+            }
+        } catch (WrongMethodTypeException | ClassCastException ex) {
+            throw new ReflectiveAseefianException(ex, ReflectiveAseefianException.ExceptionType.ILLEGAL_ARGUMENT);
+        }
+    }
+
+    @Override
+    public void setShort(@Nullable Object instance, short value, AccessMode mode) {
+        if (!writable) {
+            finalFieldWriter.setShort(instance, value, mode);
+            return;
+        }
+        try {
+            if (isStatic) {
+                switch (mode) {
+                    case OPAQUE: handle.setOpaque(value); break;
+                    case ACQUIRE_RELEASE: handle.setRelease(value); break;
+                    case VOLATILE: handle.setVolatile(value); break;
+                    default: handle.set(value); break;
+                }
+                return;
+            }
+            switch (mode) {
+                case OPAQUE: handle.setOpaque(instance, value); break;
+                case ACQUIRE_RELEASE: handle.setRelease(instance, value); break;
+                case VOLATILE: handle.setVolatile(instance, value); break;
+                default: handle.set(instance, value); break;
+            }
+        } catch (WrongMethodTypeException | ClassCastException ex) {
+            throw new ReflectiveAseefianException(ex, ReflectiveAseefianException.ExceptionType.ILLEGAL_ARGUMENT);
+        }
+    }
+
+    @Override
+    public char getChar(@Nullable Object instance, AccessMode mode) {
+        try {
+            if (isStatic) {
+                switch (mode) {
+                    case OPAQUE: return (char) handle.getOpaque();
+                    case ACQUIRE_RELEASE: return (char) handle.getAcquire();
+                    case VOLATILE: return (char) handle.getVolatile();
+                    default: return (char) handle.get();
+                }
+            }
+            switch (mode) {
+                case OPAQUE: return (char) handle.getOpaque(instance);
+                case ACQUIRE_RELEASE: return (char) handle.getAcquire(instance);
+                case VOLATILE: return (char) handle.getVolatile(instance);
+                default: return (char) handle.get(instance);
+            }
+        } catch (WrongMethodTypeException | ClassCastException ex) {
+            throw new ReflectiveAseefianException(ex, ReflectiveAseefianException.ExceptionType.ILLEGAL_ARGUMENT);
+        }
+    }
+
+    @Override
+    public void setChar(@Nullable Object instance, char value, AccessMode mode) {
+        if (!writable) {
+            finalFieldWriter.setChar(instance, value, mode);
+            return;
+        }
+        try {
+            if (isStatic) {
+                switch (mode) {
+                    case OPAQUE: handle.setOpaque(value); break;
+                    case ACQUIRE_RELEASE: handle.setRelease(value); break;
+                    case VOLATILE: handle.setVolatile(value); break;
+                    default: handle.set(value); break;
+                }
+                return;
+            }
+            switch (mode) {
+                case OPAQUE: handle.setOpaque(instance, value); break;
+                case ACQUIRE_RELEASE: handle.setRelease(instance, value); break;
+                case VOLATILE: handle.setVolatile(instance, value); break;
+                default: handle.set(instance, value); break;
+            }
+        } catch (WrongMethodTypeException | ClassCastException ex) {
+            throw new ReflectiveAseefianException(ex, ReflectiveAseefianException.ExceptionType.ILLEGAL_ARGUMENT);
+        }
+    }
+
+    @Override
+    public int getInt(@Nullable Object instance, AccessMode mode) {
+        try {
+            if (isStatic) {
+                switch (mode) {
+                    case OPAQUE: return (int) handle.getOpaque();
+                    case ACQUIRE_RELEASE: return (int) handle.getAcquire();
+                    case VOLATILE: return (int) handle.getVolatile();
+                    default: return (int) handle.get();
+                }
+            }
+            switch (mode) {
+                case OPAQUE: return (int) handle.getOpaque(instance);
+                case ACQUIRE_RELEASE: return (int) handle.getAcquire(instance);
+                case VOLATILE: return (int) handle.getVolatile(instance);
+                default: return (int) handle.get(instance);
+            }
+        } catch (WrongMethodTypeException | ClassCastException ex) {
+            throw new ReflectiveAseefianException(ex, ReflectiveAseefianException.ExceptionType.ILLEGAL_ARGUMENT);
+        }
+    }
+
+    @Override
+    public void setInt(@Nullable Object instance, int value, AccessMode mode) {
+        if (!writable) {
+            finalFieldWriter.setInt(instance, value, mode);
+            return;
+        }
+        try {
+            if (isStatic) {
+                switch (mode) {
+                    case OPAQUE: handle.setOpaque(value); break;
+                    case ACQUIRE_RELEASE: handle.setRelease(value); break;
+                    case VOLATILE: handle.setVolatile(value); break;
+                    default: handle.set(value); break;
+                }
+                return;
+            }
+            switch (mode) {
+                case OPAQUE: handle.setOpaque(instance, value); break;
+                case ACQUIRE_RELEASE: handle.setRelease(instance, value); break;
+                case VOLATILE: handle.setVolatile(instance, value); break;
+                default: handle.set(instance, value); break;
+            }
+        } catch (WrongMethodTypeException | ClassCastException ex) {
+            throw new ReflectiveAseefianException(ex, ReflectiveAseefianException.ExceptionType.ILLEGAL_ARGUMENT);
+        }
+    }
+
+    @Override
+    public long getLong(@Nullable Object instance, AccessMode mode) {
+        try {
+            if (isStatic) {
+                switch (mode) {
+                    case OPAQUE: return (long) handle.getOpaque();
+                    case ACQUIRE_RELEASE: return (long) handle.getAcquire();
+                    case VOLATILE: return (long) handle.getVolatile();
+                    default: return (long) handle.get();
+                }
+            }
+            switch (mode) {
+                case OPAQUE: return (long) handle.getOpaque(instance);
+                case ACQUIRE_RELEASE: return (long) handle.getAcquire(instance);
+                case VOLATILE: return (long) handle.getVolatile(instance);
+                default: return (long) handle.get(instance);
+            }
+        } catch (WrongMethodTypeException | ClassCastException ex) {
+            throw new ReflectiveAseefianException(ex, ReflectiveAseefianException.ExceptionType.ILLEGAL_ARGUMENT);
+        }
+    }
+
+    @Override
+    public void setLong(@Nullable Object instance, long value, AccessMode mode) {
+        if (!writable) {
+            finalFieldWriter.setLong(instance, value, mode);
+            return;
+        }
+        try {
+            if (isStatic) {
+                switch (mode) {
+                    case OPAQUE: handle.setOpaque(value); break;
+                    case ACQUIRE_RELEASE: handle.setRelease(value); break;
+                    case VOLATILE: handle.setVolatile(value); break;
+                    default: handle.set(value); break;
+                }
+                return;
+            }
+            switch (mode) {
+                case OPAQUE: handle.setOpaque(instance, value); break;
+                case ACQUIRE_RELEASE: handle.setRelease(instance, value); break;
+                case VOLATILE: handle.setVolatile(instance, value); break;
+                default: handle.set(instance, value); break;
+            }
+        } catch (WrongMethodTypeException | ClassCastException ex) {
+            throw new ReflectiveAseefianException(ex, ReflectiveAseefianException.ExceptionType.ILLEGAL_ARGUMENT);
+        }
+    }
+
+    @Override
+    public float getFloat(@Nullable Object instance, AccessMode mode) {
+        try {
+            if (isStatic) {
+                switch (mode) {
+                    case OPAQUE: return (float) handle.getOpaque();
+                    case ACQUIRE_RELEASE: return (float) handle.getAcquire();
+                    case VOLATILE: return (float) handle.getVolatile();
+                    default: return (float) handle.get();
+                }
+            }
+            switch (mode) {
+                case OPAQUE: return (float) handle.getOpaque(instance);
+                case ACQUIRE_RELEASE: return (float) handle.getAcquire(instance);
+                case VOLATILE: return (float) handle.getVolatile(instance);
+                default: return (float) handle.get(instance);
+            }
+        } catch (WrongMethodTypeException | ClassCastException ex) {
+            throw new ReflectiveAseefianException(ex, ReflectiveAseefianException.ExceptionType.ILLEGAL_ARGUMENT);
+        }
+    }
+
+    @Override
+    public void setFloat(@Nullable Object instance, float value, AccessMode mode) {
+        if (!writable) {
+            finalFieldWriter.setFloat(instance, value, mode);
+            return;
+        }
+        try {
+            if (isStatic) {
+                switch (mode) {
+                    case OPAQUE: handle.setOpaque(value); break;
+                    case ACQUIRE_RELEASE: handle.setRelease(value); break;
+                    case VOLATILE: handle.setVolatile(value); break;
+                    default: handle.set(value); break;
+                }
+                return;
+            }
+            switch (mode) {
+                case OPAQUE: handle.setOpaque(instance, value); break;
+                case ACQUIRE_RELEASE: handle.setRelease(instance, value); break;
+                case VOLATILE: handle.setVolatile(instance, value); break;
+                default: handle.set(instance, value); break;
+            }
+        } catch (WrongMethodTypeException | ClassCastException ex) {
+            throw new ReflectiveAseefianException(ex, ReflectiveAseefianException.ExceptionType.ILLEGAL_ARGUMENT);
+        }
+    }
+
+    @Override
+    public double getDouble(@Nullable Object instance, AccessMode mode) {
+        try {
+            if (isStatic) {
+                switch (mode) {
+                    case OPAQUE: return (double) handle.getOpaque();
+                    case ACQUIRE_RELEASE: return (double) handle.getAcquire();
+                    case VOLATILE: return (double) handle.getVolatile();
+                    default: return (double) handle.get();
+                }
+            }
+            switch (mode) {
+                case OPAQUE: return (double) handle.getOpaque(instance);
+                case ACQUIRE_RELEASE: return (double) handle.getAcquire(instance);
+                case VOLATILE: return (double) handle.getVolatile(instance);
+                default: return (double) handle.get(instance);
+            }
+        } catch (WrongMethodTypeException | ClassCastException ex) {
+            throw new ReflectiveAseefianException(ex, ReflectiveAseefianException.ExceptionType.ILLEGAL_ARGUMENT);
+        }
+    }
+
+    @Override
+    public void setDouble(@Nullable Object instance, double value, AccessMode mode) {
+        if (!writable) {
+            finalFieldWriter.setDouble(instance, value, mode);
+            return;
+        }
+        try {
+            if (isStatic) {
+                switch (mode) {
+                    case OPAQUE: handle.setOpaque(value); break;
+                    case ACQUIRE_RELEASE: handle.setRelease(value); break;
+                    case VOLATILE: handle.setVolatile(value); break;
+                    default: handle.set(value); break;
+                }
+                return;
+            }
+            switch (mode) {
+                case OPAQUE: handle.setOpaque(instance, value); break;
+                case ACQUIRE_RELEASE: handle.setRelease(instance, value); break;
+                case VOLATILE: handle.setVolatile(instance, value); break;
+                default: handle.set(instance, value); break;
+            }
+        } catch (WrongMethodTypeException | ClassCastException ex) {
+            throw new ReflectiveAseefianException(ex, ReflectiveAseefianException.ExceptionType.ILLEGAL_ARGUMENT);
+        }
+    }
+
+}
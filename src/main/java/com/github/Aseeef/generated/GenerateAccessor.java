@@ -0,0 +1,18 @@
+package com.github.Aseeef.generated;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generate a {@link GeneratedAccessor} for the annotated type at compile time (this requires the processor module on
+ * the annotation processor path). Calls to the non-private members of the type are then made directly by the
+ * generated code rather than through reflections.
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface GenerateAccessor {
+}
@@ -0,0 +1,45 @@
+package com.github.Aseeef.generated;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * Direct (reflection free) access to the members of a single class, implemented by the code generated for the types
+ * annotated with {@link GenerateAccessor}. Members are addressed by an index, which is looked up once by the key
+ * of the member (see {@link GeneratedAccessors#keyOf(java.lang.reflect.Member)}).
+ */
+public interface GeneratedAccessor {
+
+    /**
+     * @param memberKey the key of the method, constructor or field
+     * @return the index of the member, or -1 if no code was generated for it
+     */
+    public int indexOf(String memberKey);
+
+    /**
+     * Invoke a method or constructor. Just like {@link java.lang.reflect.Method#invoke(Object, Object...)}, anything
+     * thrown by the target itself is wrapped in an {@link InvocationTargetException}.
+     *
+     * @param index     the index of the method or constructor
+     * @param target    the object on which to invoke the method (ignored for static methods and constructors)
+     * @param arguments the arguments, with any varargs already collected into an array
+     * @return the result of the invocation, or the new instance in the case of a constructor
+     */
+    public @Nullable Object invoke(int index, @Nullable Object target, Object[] arguments) throws InvocationTargetException;
+
+    /**
+     * @param index  the index of the field
+     * @param target the object whose field to read (ignored for static fields)
+     * @return the value of the field
+     */
+    public @Nullable Object get(int index, @Nullable Object target);
+
+    /**
+     * @param index  the index of the (non-final) field
+     * @param target the object whose field to set (ignored for static fields)
+     * @param value  the value which to set the field to
+     */
+    public void set(int index, @Nullable Object target, @Nullable Object value);
+
+}
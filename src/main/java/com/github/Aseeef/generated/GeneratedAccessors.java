@@ -0,0 +1,174 @@
+package com.github.Aseeef.generated;
+
+import com.github.Aseeef.invoker.ExecutableInvoker;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The {@link GeneratedAccessor} of a class (if one was generated), along with the indexes of its members.
+ */
+public final class GeneratedAccessors {
+
+    /**
+     * The generated accessor of a class is named after the binary name of the class plus this suffix.
+     * This has to match the name used by the annotation processor.
+     */
+    public static final String CLASS_NAME_SUFFIX = "$JarAccessor";
+
+    private static final GeneratedAccessors NONE = new GeneratedAccessors(null);
+    private static final ClassValue<GeneratedAccessors> ACCESSORS = new ClassValue<GeneratedAccessors>() {
+        @Override
+        protected GeneratedAccessors computeValue(Class<?> type) {
+            try {
+                Class<?> accessorClass = Class.forName(type.getName() + CLASS_NAME_SUFFIX, true, type.getClassLoader());
+                if (!GeneratedAccessor.class.isAssignableFrom(accessorClass)) {
+                    return NONE;
+                }
+                return new GeneratedAccessors((GeneratedAccessor) accessorClass.getConstructor().newInstance());
+            } catch (ReflectiveOperationException | LinkageError ex) {
+                return NONE;
+            }
+        }
+    };
+
+    private final @Nullable GeneratedAccessor accessor;
+    // the index of each member which was asked for (-1 if no code was generated for it)
+    private final Map<Member, Integer> indexes = new ConcurrentHashMap<>();
+
+    private GeneratedAccessors(@Nullable GeneratedAccessor accessor) {
+        this.accessor = accessor;
+    }
+
+    /**
+     * @param clazz the class
+     * @return the generated accessors of the class, or null if none were generated
+     */
+    public static @Nullable GeneratedAccessors of(Class<?> clazz) {
+        GeneratedAccessors accessors = ACCESSORS.get(clazz);
+        return accessors == NONE ? null : accessors;
+    }
+
+    /**
+     * The key by which the generated code identifies a member: the name of a field, or the name (or {@code <init>}) of
+     * a method (or constructor) followed by the binary names of its parameter types, for example {@code echo(java.lang.Object)}.
+     *
+     * @param member the field, method or constructor
+     * @return the key of the member
+     */
+    public static String keyOf(Member member) {
+        if (member instanceof Field) {
+            return member.getName();
+        }
+        StringBuilder key = new StringBuilder(member instanceof Constructor ? "<init>" : member.getName()).append('(');
+        Class<?>[] parameterTypes = ((Executable) member).getParameterTypes();
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (i > 0) key.append(',');
+            key.append(parameterTypes[i].getTypeName());
+        }
+        return key.append(')').toString();
+    }
+
+    /**
+     * @param member a member of the class
+     * @return the index of the member, or -1 if no code was generated for it
+     */
+    public int indexOf(Member member) {
+        Integer index = indexes.get(member);
+        if (index == null) {
+            index = accessor.indexOf(keyOf(member));
+            indexes.put(member, index);
+        }
+        return index;
+    }
+
+    /**
+     * @param executable a method or constructor of the class
+     * @return an invoker calling the generated code, or null if no code was generated for it
+     */
+    public @Nullable ExecutableInvoker getInvoker(Executable executable) {
+        int index = indexOf(executable);
+        return index < 0 ? null : new GeneratedInvoker(accessor, index, executable instanceof Method && !Modifier.isStatic(executable.getModifiers()));
+    }
+
+    /**
+     * @param field a field of the class
+     * @return whether the generated code can read the field
+     */
+    public boolean canGet(Field field) {
+        return indexOf(field) >= 0;
+    }
+
+    /**
+     * @param field a field of the class
+     * @return whether the generated code can write the field (which it can't for final fields)
+     */
+    public boolean canSet(Field field) {
+        return !Modifier.isFinal(field.getModifiers()) && indexOf(field) >= 0;
+    }
+
+    /**
+     * Read a field through the generated code. Like {@link Field#get(Object)}, a target of the wrong type results in an
+     * {@link IllegalArgumentException}.
+     */
+    public @Nullable Object get(Field field, @Nullable Object target) {
+        if (target == null && !Modifier.isStatic(field.getModifiers())) {
+            throw new NullPointerException("Cannot read an instance field of a null object!");
+        }
+        try {
+            return accessor.get(indexOf(field), target);
+        } catch (ClassCastException ex) {
+            throw new IllegalArgumentException(ex);
+        }
+    }
+
+    /**
+     * Write a field through the generated code. Like {@link Field#set(Object, Object)}, a target or value of the wrong
+     * type results in an {@link IllegalArgumentException}.
+     */
+    public void set(Field field, @Nullable Object target, @Nullable Object value) {
+        if (target == null && !Modifier.isStatic(field.getModifiers())) {
+            throw new NullPointerException("Cannot set an instance field of a null object!");
+        }
+        try {
+            accessor.set(indexOf(field), target, value);
+        } catch (ClassCastException | NullPointerException ex) {
+            // a value of the wrong type, or null for a primitive field
+            throw new IllegalArgumentException(ex);
+        }
+    }
+
+    private static final class GeneratedInvoker implements ExecutableInvoker {
+        private final GeneratedAccessor accessor;
+        private final int index;
+        private final boolean requiresTarget;
+
+        private GeneratedInvoker(GeneratedAccessor accessor, int index, boolean requiresTarget) {
+            this.accessor = accessor;
+            this.index = index;
+            this.requiresTarget = requiresTarget;
+        }
+
+        @Override
+        public Object invoke(@Nullable Object instance, Object[] parameters) throws InvocationTargetException {
+            if (requiresTarget && instance == null) {
+                throw new NullPointerException("Cannot invoke an instance method on a null object!");
+            }
+            try {
+                return accessor.invoke(index, instance, parameters);
+            } catch (ClassCastException | NullPointerException | ArrayIndexOutOfBoundsException ex) {
+                // anything thrown by the target itself is wrapped, so these came from converting the arguments
+                throw new IllegalArgumentException(ex);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,69 @@
+package com.github.Aseeef.generated;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * The conversions the generated code applies to the arguments and field values it passes to primitive parameters and
+ * fields. Like {@link java.lang.reflect.Method#invoke(Object, Object...)} and {@link java.lang.reflect.Field#set(Object, Object)},
+ * a value is unboxed and then widened (JLS 5.1.2), but never narrowed. A value which can't be converted results in a
+ * {@link ClassCastException}, or a {@link NullPointerException} for null, which {@link GeneratedAccessors} report as an
+ * {@link IllegalArgumentException}.
+ */
+public final class PrimitiveConversions {
+
+    private PrimitiveConversions() {
+    }
+
+    public static boolean toBoolean(@Nullable Object value) {
+        if (value instanceof Boolean) return (Boolean) value;
+        throw mismatch(value, boolean.class);
+    }
+
+    public static byte toByte(@Nullable Object value) {
+        if (value instanceof Byte) return (Byte) value;
+        throw mismatch(value, byte.class);
+    }
+
+    public static char toChar(@Nullable Object value) {
+        if (value instanceof Character) return (Character) value;
+        throw mismatch(value, char.class);
+    }
+
+    public static short toShort(@Nullable Object value) {
+        if (value instanceof Short) return (Short) value;
+        if (value instanceof Byte) return (Byte) value;
+        throw mismatch(value, short.class);
+    }
+
+    public static int toInt(@Nullable Object value) {
+        if (value instanceof Integer) return (Integer) value;
+        if (value instanceof Character) return (Character) value;
+        if (value instanceof Short || value instanceof Byte) return ((Number) value).intValue();
+        throw mismatch(value, int.class);
+    }
+
+    public static long toLong(@Nullable Object value) {
+        if (value instanceof Long) return (Long) value;
+        return toInt(value);
+    }
+
+    public static float toFloat(@Nullable Object value) {
+        if (value instanceof Float) return (Float) value;
+        return toLong(value);
+    }
+
+    public static double toDouble(@Nullable Object value) {
+        if (value instanceof Double) return (Double) value;
+        if (value instanceof Float) return (Float) value;
+        // straight from the long, which a float can't hold exactly
+        return toLong(value);
+    }
+
+    private static RuntimeException mismatch(@Nullable Object value, Class<?> type) {
+        if (value == null) {
+            return new NullPointerException("Cannot convert null to " + type.getName());
+        }
+        return new ClassCastException("Cannot convert " + value.getClass().getName() + " to " + type.getName());
+    }
+
+}
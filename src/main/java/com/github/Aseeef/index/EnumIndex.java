@@ -0,0 +1,82 @@
+package com.github.Aseeef.index;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * An index over the constants of a single enum class, by their name and by their ordinal. Like the
+ * {@link MemberIndex}, the index is built the first time the enum is looked up and is stored in a {@link ClassValue}.
+ * <p>
+ * Lookups never throw, a missing constant is simply null.
+ */
+public final class EnumIndex {
+
+    private static final ClassValue<EnumIndex> INDEXES = new ClassValue<EnumIndex>() {
+        @Override
+        protected EnumIndex computeValue(Class<?> type) {
+            return new EnumIndex(type);
+        }
+    };
+
+    private final Enum<?>[] constants;
+    private final Map<String, Enum<?>> byName;
+    // if several constants only differ in case, the first declared one wins
+    private final Map<String, Enum<?>> byLowerCaseName;
+
+    private EnumIndex(Class<?> enumClass) {
+        this.constants = (Enum<?>[]) enumClass.getEnumConstants();
+        this.byName = new HashMap<>(constants.length * 2);
+        this.byLowerCaseName = new HashMap<>(constants.length * 2);
+        for (Enum<?> constant : constants) {
+            byName.put(constant.name(), constant);
+            byLowerCaseName.putIfAbsent(constant.name().toLowerCase(Locale.ROOT), constant);
+        }
+    }
+
+    /**
+     * @param enumClass the enum class to index (which must satisfy {@link Class#isEnum()})
+     * @return the (possibly freshly built) index of the enum
+     */
+    public static EnumIndex of(Class<?> enumClass) {
+        if (!enumClass.isEnum()) {
+            throw new IllegalArgumentException(enumClass.getName() + " is not an enum class");
+        }
+        return INDEXES.get(enumClass);
+    }
+
+    /**
+     * @return all the constants of the enum in the order they are declared in (the array is shared and must never be modified)
+     */
+    public Enum<?>[] getConstants() {
+        return constants;
+    }
+
+    /**
+     * @param name the exact name of the constant
+     * @return the constant, or null if the enum has no such constant
+     */
+    public @Nullable Enum<?> get(String name) {
+        return byName.get(name);
+    }
+
+    /**
+     * @param name the name of the constant, in any case
+     * @return the constant, or null if the enum has no such constant
+     */
+    public @Nullable Enum<?> getIgnoreCase(String name) {
+        Enum<?> constant = byName.get(name);
+        return constant != null ? constant : byLowerCaseName.get(name.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * @param ordinal the ordinal of the constant
+     * @return the constant, or null if the ordinal is out of range
+     */
+    public @Nullable Enum<?> get(int ordinal) {
+        return ordinal >= 0 && ordinal < constants.length ? constants[ordinal] : null;
+    }
+
+}
@@ -0,0 +1,422 @@
+package com.github.Aseeef.index;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.Serializable;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.*;
+
+/**
+ * An index over the declared members of a single class. The index is built once, the first time the class is
+ * looked up, and is stored in a {@link ClassValue} so it is released together with the class itself.
+ * <p>
+ * Unlike {@link Class#getDeclaredMethods()} and co. nothing is copied on a lookup, which means the returned arrays
+ * are shared and must never be modified. The same goes for the members themselves, so a member has to be copied
+ * (see {@link #copyOf(Field)}) before it is made accessible.
+ */
+public final class MemberIndex {
+
+    private static final ClassValue<MemberIndex> INDEXES = new ClassValue<MemberIndex>() {
+        @Override
+        protected MemberIndex computeValue(Class<?> type) {
+            return new MemberIndex(type);
+        }
+    };
+
+    private final Class<?> indexedClass;
+    private final Overloads<Constructor<?>> constructors;
+    private final Method[] methods;
+    private final Map<String, Overloads<Method>> methodsByName;
+    private final boolean hasDefaultMethods;
+    private final Field[] fields;
+    private final Map<String, Field> fieldsByName;
+    private final Map<Class<?>, Field[]> fieldsByType;
+    // built on the first query that needs them, building one twice on a race is harmless
+    private volatile @Nullable Map<Class<?>, Field[]> fieldsByAssignableType;
+    private volatile Field @Nullable [] allFields;
+    private volatile @Nullable Map<Class<?>, Field[]> allFieldsByType;
+    private volatile @Nullable Map<Class<?>, Field[]> allFieldsByAssignableType;
+    // lazily computed (as they need the indexes of the super types); computing them twice on a race is harmless
+    private volatile Class<?> @Nullable [] superClassChain;
+    private volatile Class<?> @Nullable [] methodResolutionOrder;
+    private volatile Class<?> @Nullable [] declaredMethodResolutionOrder;
+
+    private MemberIndex(Class<?> indexedClass) {
+        this.indexedClass = indexedClass;
+        this.constructors = new Overloads<>(indexedClass.getDeclaredConstructors());
+
+        this.methods = indexedClass.getDeclaredMethods();
+        Map<String, List<Method>> methodLists = new LinkedHashMap<>();
+        boolean hasDefaultMethods = false;
+        for (Method method : methods) {
+            methodLists.computeIfAbsent(method.getName(), k -> new ArrayList<>()).add(method);
+            hasDefaultMethods |= method.isDefault();
+        }
+        this.methodsByName = new HashMap<>(methodLists.size() * 2);
+        for (Map.Entry<String, List<Method>> entry : methodLists.entrySet()) {
+            methodsByName.put(entry.getKey(), new Overloads<>(entry.getValue().toArray(new Method[0])));
+        }
+        this.hasDefaultMethods = hasDefaultMethods;
+
+        this.fields = indexedClass.getDeclaredFields();
+        this.fieldsByName = new HashMap<>(fields.length * 2);
+        Map<Class<?>, List<Field>> fieldLists = new LinkedHashMap<>();
+        for (Field field : fields) {
+            fieldsByName.put(field.getName(), field);
+            fieldLists.computeIfAbsent(field.getType(), k -> new ArrayList<>()).add(field);
+        }
+        this.fieldsByType = toArrays(fieldLists);
+    }
+
+    /**
+     * @param clazz the class to index
+     * @return the (possibly freshly built) index of the class
+     */
+    public static MemberIndex of(Class<?> clazz) {
+        return INDEXES.get(clazz);
+    }
+
+    /**
+     * @param field a field of any class
+     * @return a private copy of the field, which can be made accessible without affecting anyone else's copy
+     */
+    public static Field copyOf(Field field) {
+        try {
+            return field.getDeclaringClass().getDeclaredField(field.getName());
+        } catch (NoSuchFieldException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * @param executable a method or constructor of any class
+     * @return a private copy of the executable, which can be made accessible without affecting anyone else's copy
+     */
+    @SuppressWarnings("unchecked")
+    public static <E extends Executable> E copyOf(E executable) {
+        Class<?> declaringClass = executable.getDeclaringClass();
+        try {
+            if (executable instanceof Constructor) {
+                return (E) declaringClass.getDeclaredConstructor(executable.getParameterTypes());
+            }
+            Method method = declaringClass.getDeclaredMethod(executable.getName(), executable.getParameterTypes());
+            if (method.equals(executable)) {
+                return (E) method;
+            }
+            // a bridge method has the same parameter types as the covariant method it bridges to, which the lookup prefers
+            for (Method candidate : declaringClass.getDeclaredMethods()) {
+                if (candidate.equals(executable)) {
+                    return (E) candidate;
+                }
+            }
+            throw new NoSuchMethodException(executable.toString());
+        } catch (NoSuchMethodException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    public Class<?> getIndexedClass() {
+        return indexedClass;
+    }
+
+    /**
+     * @return all the declared constructors of the class
+     */
+    public Constructor<?>[] getConstructors() {
+        return constructors.all;
+    }
+
+    /**
+     * @param arity the number of supplied arguments
+     * @return the declared constructors which could possibly accept the specified number of arguments
+     */
+    public Constructor<?>[] getConstructors(int arity) {
+        return constructors.withArity(arity);
+    }
+
+    /**
+     * @param arity the number of supplied arguments
+     * @return the ranked table of the declared constructors which could possibly accept the specified number of arguments
+     */
+    public OverloadTable<Constructor<?>> getConstructorTable(int arity) {
+        return constructors.tableOf(arity);
+    }
+
+    /**
+     * @return all the declared methods of the class
+     */
+    public Method[] getMethods() {
+        return methods;
+    }
+
+    /**
+     * @param methodName the name of the method
+     * @return all the declared methods of the class with the specified name
+     */
+    public Method[] getMethods(String methodName) {
+        Overloads<Method> overloads = methodsByName.get(methodName);
+        return overloads == null ? new Method[0] : overloads.all;
+    }
+
+    /**
+     * @param methodName the name of the method
+     * @param arity      the number of supplied arguments
+     * @return the declared methods with the specified name which could possibly accept the specified number of arguments
+     */
+    public Method[] getMethods(String methodName, int arity) {
+        Overloads<Method> overloads = methodsByName.get(methodName);
+        return overloads == null ? new Method[0] : overloads.withArity(arity);
+    }
+
+    /**
+     * @param methodName the name of the method
+     * @param arity      the number of supplied arguments
+     * @return the ranked table of the declared methods with the specified name which could possibly accept the specified number of arguments
+     */
+    public OverloadTable<Method> getMethodTable(String methodName, int arity) {
+        Overloads<Method> overloads = methodsByName.get(methodName);
+        return overloads == null ? new OverloadTable<>(new Method[0], arity) : overloads.tableOf(arity);
+    }
+
+    /**
+     * @return whether the class (assumed to be an interface) declares any default methods
+     */
+    public boolean hasDefaultMethods() {
+        return hasDefaultMethods;
+    }
+
+    /**
+     * @return all the declared fields of the class
+     */
+    public Field[] getFields() {
+        return fields;
+    }
+
+    /**
+     * @param fieldName the name of the field
+     * @return the declared field with the specified name, or null if the class declares no such field
+     */
+    public @Nullable Field getField(String fieldName) {
+        return fieldsByName.get(fieldName);
+    }
+
+    /**
+     * @param fieldType the exact type of the fields
+     * @return all the declared fields of the class with exactly the specified type
+     */
+    public Field[] getFieldsOfType(Class<?> fieldType) {
+        Field[] fieldsOfType = fieldsByType.get(fieldType);
+        return fieldsOfType == null ? new Field[0] : fieldsOfType;
+    }
+
+    /**
+     * @param fieldType        the type of the fields
+     * @param exactType        whether the fields must have exactly the type, rather than any type assignable to it
+     * @param includeInherited whether the fields declared by the super classes are included (after the class' own fields)
+     * @return the matching fields, in the order they are declared in
+     */
+    public Field[] getFieldsOfType(Class<?> fieldType, boolean exactType, boolean includeInherited) {
+        Map<Class<?>, Field[]> index;
+        if (!includeInherited) {
+            if (exactType) return getFieldsOfType(fieldType);
+            index = fieldsByAssignableType;
+            if (index == null) {
+                index = groupByType(fields, true);
+                fieldsByAssignableType = index;
+            }
+        } else if (exactType) {
+            index = allFieldsByType;
+            if (index == null) {
+                index = groupByType(getAllFields(), false);
+                allFieldsByType = index;
+            }
+        } else {
+            index = allFieldsByAssignableType;
+            if (index == null) {
+                index = groupByType(getAllFields(), true);
+                allFieldsByAssignableType = index;
+            }
+        }
+        Field[] fieldsOfType = index.get(fieldType);
+        return fieldsOfType == null ? new Field[0] : fieldsOfType;
+    }
+
+    /**
+     * @return the declared fields of this class followed by those of its super classes, closest first
+     */
+    public Field[] getAllFields() {
+        Field[] all = allFields;
+        if (all == null) {
+            List<Field> fieldList = new ArrayList<>();
+            for (Class<?> clazz : getSuperClassChain()) {
+                fieldList.addAll(Arrays.asList(MemberIndex.of(clazz).getFields()));
+            }
+            all = fieldList.toArray(new Field[0]);
+            allFields = all;
+        }
+        return all;
+    }
+
+    /**
+     * @param assignable whether each field is listed under every type it is assignable to, rather than only its own type
+     */
+    private static Map<Class<?>, Field[]> groupByType(Field[] fields, boolean assignable) {
+        Map<Class<?>, List<Field>> fieldLists = new LinkedHashMap<>();
+        for (Field field : fields) {
+            if (assignable) {
+                for (Class<?> type : supertypesOf(field.getType())) {
+                    fieldLists.computeIfAbsent(type, k -> new ArrayList<>()).add(field);
+                }
+            } else {
+                fieldLists.computeIfAbsent(field.getType(), k -> new ArrayList<>()).add(field);
+            }
+        }
+        return toArrays(fieldLists);
+    }
+
+    private static Map<Class<?>, Field[]> toArrays(Map<Class<?>, List<Field>> fieldLists) {
+        Map<Class<?>, Field[]> arrays = new HashMap<>(fieldLists.size() * 2);
+        for (Map.Entry<Class<?>, List<Field>> entry : fieldLists.entrySet()) {
+            arrays.put(entry.getKey(), entry.getValue().toArray(new Field[0]));
+        }
+        return arrays;
+    }
+
+    /**
+     * @return the type itself and every type it is assignable to: its super classes and (super) interfaces, and for
+     * arrays the arrays of those of the component type (arrays being covariant)
+     */
+    private static Set<Class<?>> supertypesOf(Class<?> type) {
+        Set<Class<?>> supertypes = new LinkedHashSet<>();
+        if (type.isPrimitive()) {
+            supertypes.add(type);
+            return supertypes;
+        } else if (type.isArray()) {
+            for (Class<?> componentSupertype : supertypesOf(type.getComponentType())) {
+                supertypes.add(Array.newInstance(componentSupertype, 0).getClass());
+            }
+            supertypes.add(Cloneable.class);
+            supertypes.add(Serializable.class);
+        } else {
+            Deque<Class<?>> typesToSearch = new ArrayDeque<>();
+            typesToSearch.add(type);
+            while (!typesToSearch.isEmpty()) {
+                Class<?> current = typesToSearch.poll();
+                if (!supertypes.add(current)) continue;
+                if (current.getSuperclass() != null) typesToSearch.add(current.getSuperclass());
+                typesToSearch.addAll(Arrays.asList(current.getInterfaces()));
+            }
+        }
+        // interfaces have no super class, but every instance of them is still an Object
+        supertypes.add(Object.class);
+        return supertypes;
+    }
+
+    /**
+     * @return this class followed by all of its super classes, closest first
+     */
+    public Class<?>[] getSuperClassChain() {
+        Class<?>[] chain = superClassChain;
+        if (chain == null) {
+            List<Class<?>> classes = new ArrayList<>();
+            for (Class<?> clazz = indexedClass; clazz != null; clazz = clazz.getSuperclass()) {
+                classes.add(clazz);
+            }
+            chain = classes.toArray(new Class<?>[0]);
+            superClassChain = chain;
+        }
+        return chain;
+    }
+
+    /**
+     * The order in which the classes are searched when resolving a method on this class: first the class itself,
+     * then (optionally) its super classes, and lastly every (super) interface of those which declares default methods.
+     * Every class is only listed once.
+     *
+     * @param includeSuperClasses whether the super classes, and their interfaces, should be searched
+     * @return the classes which may declare a method callable on this class, in order
+     */
+    public Class<?>[] getMethodResolutionOrder(boolean includeSuperClasses) {
+        Class<?>[] order = includeSuperClasses ? methodResolutionOrder : declaredMethodResolutionOrder;
+        if (order == null) {
+            Class<?>[] classes = includeSuperClasses ? getSuperClassChain() : new Class<?>[]{indexedClass};
+            List<Class<?>> resolutionOrder = new ArrayList<>(Arrays.asList(classes));
+            Set<Class<?>> visitedInterfaces = new HashSet<>();
+            Deque<Class<?>> interfacesToSearch = new ArrayDeque<>();
+            for (Class<?> clazz : classes) {
+                interfacesToSearch.addAll(Arrays.asList(clazz.getInterfaces()));
+                while (!interfacesToSearch.isEmpty()) {
+                    Class<?> interfaceClass = interfacesToSearch.poll();
+                    if (!visitedInterfaces.add(interfaceClass)) continue;
+                    if (MemberIndex.of(interfaceClass).hasDefaultMethods()) {
+                        resolutionOrder.add(interfaceClass);
+                    }
+                    interfacesToSearch.addAll(Arrays.asList(interfaceClass.getInterfaces()));
+                }
+            }
+            order = resolutionOrder.toArray(new Class<?>[0]);
+            if (includeSuperClasses) {
+                methodResolutionOrder = order;
+            } else {
+                declaredMethodResolutionOrder = order;
+            }
+        }
+        return order;
+    }
+
+    /**
+     * The overloads of a single method name (or all the constructors) bucketed by the number of arguments they may be
+     * called with. Varargs executables and executables taking a single array (which may be called with a spread array)
+     * are part of every bucket.
+     */
+    private static final class Overloads<E extends Executable> {
+        private final E[] all;
+        private final E[][] byArity;
+        // built on first use (as most buckets never are), building one twice on a race is harmless
+        private final OverloadTable<E>[] tables;
+
+        @SuppressWarnings("unchecked")
+        private Overloads(E[] all) {
+            this.all = all;
+            int maxArity = 0;
+            for (E executable : all) {
+                maxArity = Math.max(maxArity, executable.getParameterCount());
+            }
+            // the last bucket holds the executables for any arity beyond the longest parameter list
+            this.byArity = (E[][]) Array.newInstance(all.getClass(), maxArity + 2);
+            for (int arity = 0; arity < byArity.length; arity++) {
+                List<E> bucket = new ArrayList<>();
+                for (E executable : all) {
+                    if (executable.getParameterCount() == arity || executable.isVarArgs()
+                            || (executable.getParameterCount() == 1 && executable.getParameterTypes()[0].isArray())) {
+                        bucket.add(executable);
+                    }
+                }
+                byArity[arity] = bucket.toArray(Arrays.copyOf(all, 0));
+            }
+            this.tables = (OverloadTable<E>[]) new OverloadTable<?>[byArity.length];
+        }
+
+        private E[] withArity(int arity) {
+            return byArity[Math.min(arity, byArity.length - 1)];
+        }
+
+        private OverloadTable<E> tableOf(int arity) {
+            // the tables are ranked for the exact number of arguments, so arities beyond the last bucket aren't shared
+            if (arity >= tables.length - 1) {
+                return new OverloadTable<>(withArity(arity), arity);
+            }
+            OverloadTable<E> table = tables[arity];
+            if (table == null) {
+                table = new OverloadTable<>(byArity[arity], arity);
+                tables[arity] = table;
+            }
+            return table;
+        }
+    }
+
+}
@@ -0,0 +1,291 @@
+package com.github.Aseeef.index;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.lang.reflect.Executable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The overloads of a method (or the constructors of a class) which may be called with some number of arguments, along
+ * with their parameter types, ranked so more specific overloads come first. Calls are resolved like the compiler
+ * would (JLS 15.12.2): first without boxing or varargs, then with boxing and lastly with varargs, picking the most
+ * specific of the overloads applicable in the first phase that has any.
+ * <p>
+ * The argument types are the classes of the supplied arguments, where null stands for a null argument. Tables are
+ * immutable, so they are shared like the rest of the {@link MemberIndex}.
+ */
+public final class OverloadTable<E extends Executable> {
+
+    private static final int STRICT = 0;
+    private static final int LOOSE = 1;
+    private static final int VARIABLE_ARITY = 2;
+
+    private final int arity;
+    private final E[] candidates;
+    // Executable#getParameterTypes() copies the array on every call, so they are read only once
+    private final Class<?>[][] parameterTypes;
+
+    /**
+     * @param candidates the overloads which may be called with the number of arguments
+     * @param arity the number of arguments the overloads will be called with
+     */
+    public OverloadTable(E[] candidates, int arity) {
+        this.arity = arity;
+        this.candidates = rank(candidates, arity);
+        this.parameterTypes = new Class<?>[this.candidates.length][];
+        for (int i = 0; i < this.candidates.length; i++) {
+            parameterTypes[i] = this.candidates[i].getParameterTypes();
+        }
+    }
+
+    /**
+     * @return the overloads, more specific ones first
+     */
+    public E[] getCandidates() {
+        return candidates;
+    }
+
+    /**
+     * @param argumentTypes the classes of the arguments (null for a null argument)
+     * @return the overloads applicable in the first phase which has any, and the most specific one of them
+     */
+    public Resolution<E> resolve(Class<?>[] argumentTypes) {
+        for (int phase = STRICT; phase <= VARIABLE_ARITY; phase++) {
+            List<E> applicable = null;
+            List<Class<?>[]> applicableTypes = null;
+            for (int i = 0; i < candidates.length; i++) {
+                if (isApplicable(candidates[i], parameterTypes[i], argumentTypes, phase)) {
+                    if (applicable == null) {
+                        applicable = new ArrayList<>(2);
+                        applicableTypes = new ArrayList<>(2);
+                    }
+                    applicable.add(candidates[i]);
+                    applicableTypes.add(parameterTypes[i]);
+                }
+            }
+            if (applicable != null) {
+                E[] matches = applicable.toArray(Arrays.copyOf(candidates, 0));
+                int mostSpecific = findMostSpecific(matches, applicableTypes, arity, phase == VARIABLE_ARITY);
+                if (mostSpecific > 0) {
+                    // the most specific one always comes first, the rest keep their rank
+                    E first = matches[mostSpecific];
+                    System.arraycopy(matches, 0, matches, 1, mostSpecific);
+                    matches[0] = first;
+                }
+                return new Resolution<>(matches, mostSpecific >= 0 ? matches[0] : null);
+            }
+        }
+        return new Resolution<>(Arrays.copyOf(candidates, 0), null);
+    }
+
+    /**
+     * @return the index of the overload which is strictly more specific than all the others, or -1 if there is none
+     */
+    private static <E extends Executable> int findMostSpecific(E[] matches, List<Class<?>[]> types, int arity, boolean expand) {
+        if (matches.length == 1) {
+            return 0;
+        }
+        int found = -1;
+        for (int i = 0; i < matches.length; i++) {
+            boolean mostSpecific = true;
+            for (int j = 0; j < matches.length && mostSpecific; j++) {
+                mostSpecific = i == j || isStrictlyMoreSpecific(matches[i], types.get(i), matches[j], types.get(j), arity, expand);
+            }
+            if (mostSpecific) {
+                if (found >= 0) return -1;
+                found = i;
+            }
+        }
+        return found;
+    }
+
+    private static boolean isStrictlyMoreSpecific(Executable e1, Class<?>[] types1, Executable e2, Class<?>[] types2, int arity, boolean expand) {
+        if (!isMoreSpecific(e1, types1, e2, types2, arity, expand)) {
+            return false;
+        }
+        // a bridge method has the same parameter types as the method it bridges to (or erased ones), so the real one wins
+        return !isMoreSpecific(e2, types2, e1, types1, arity, expand) || (e2.isSynthetic() && !e1.isSynthetic());
+    }
+
+    /**
+     * JLS 15.12.2.5: every parameter type of the first executable is a subtype of the matching one of the second.
+     * For variable arity calls the parameter lists are expanded to the number of arguments.
+     */
+    private static boolean isMoreSpecific(Executable e1, Class<?>[] types1, Executable e2, Class<?>[] types2, int arity, boolean expand) {
+        if (!expand) {
+            if (types1.length != types2.length) return false;
+            for (int i = 0; i < types1.length; i++) {
+                if (!isSubtype(types1[i], types2[i])) return false;
+            }
+            return true;
+        }
+        int length = Math.max(arity, Math.max(types1.length, types2.length));
+        for (int i = 0; i < length; i++) {
+            Class<?> type1 = expandedType(e1, types1, i);
+            Class<?> type2 = expandedType(e2, types2, i);
+            if (type1 == null || type2 == null || !isSubtype(type1, type2)) return false;
+        }
+        return true;
+    }
+
+    private static @Nullable Class<?> expandedType(Executable executable, Class<?>[] types, int index) {
+        if (executable.isVarArgs() && index >= types.length - 1) {
+            return types[types.length - 1].getComponentType();
+        }
+        return index < types.length ? types[index] : null;
+    }
+
+    private static boolean isApplicable(Executable executable, Class<?>[] types, Class<?>[] argumentTypes, int phase) {
+        if (phase == VARIABLE_ARITY) {
+            if (!executable.isVarArgs() || argumentTypes.length < types.length - 1) return false;
+            Class<?> componentType = types[types.length - 1].getComponentType();
+            for (int i = 0; i < argumentTypes.length; i++) {
+                if (!isConvertible(argumentTypes[i], i < types.length - 1 ? types[i] : componentType, true)) return false;
+            }
+            return true;
+        }
+        if (types.length != argumentTypes.length) return false;
+        for (int i = 0; i < types.length; i++) {
+            if (!isConvertible(argumentTypes[i], types[i], phase == LOOSE)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * @return whether an argument of the type can be passed to a parameter of the type (JLS 5.3)
+     */
+    private static boolean isConvertible(@Nullable Class<?> argumentType, Class<?> parameterType, boolean allowBoxing) {
+        if (argumentType == null) {
+            return !parameterType.isPrimitive();
+        } else if (argumentType.isArray() != parameterType.isArray()) {
+            // unlike the compiler, arrays are only ever passed to array parameters (and not to an Object parameter)
+            return false;
+        } else if (argumentType.isPrimitive() == parameterType.isPrimitive()) {
+            return isSubtype(argumentType, parameterType);
+        } else if (!allowBoxing) {
+            return false;
+        } else if (argumentType.isPrimitive()) {
+            // boxing, then a widening reference conversion
+            return parameterType.isAssignableFrom(box(argumentType));
+        }
+        // unboxing, then a widening primitive conversion
+        Class<?> unboxed = unbox(argumentType);
+        return unboxed != null && isSubtype(unboxed, parameterType);
+    }
+
+    /**
+     * @return whether the first type is a subtype of the second, where a primitive type is a subtype of all the
+     * primitive types it widens to (JLS 4.10)
+     */
+    private static boolean isSubtype(Class<?> type, Class<?> superType) {
+        if (type == superType) {
+            return true;
+        } else if (type.isPrimitive() || superType.isPrimitive()) {
+            return type.isPrimitive() && superType.isPrimitive() && widensTo(type, superType);
+        }
+        return superType.isAssignableFrom(type);
+    }
+
+    private static boolean widensTo(Class<?> type, Class<?> wider) {
+        if (type == byte.class) {
+            return wider == short.class || wider == int.class || wider == long.class || wider == float.class || wider == double.class;
+        } else if (type == short.class || type == char.class) {
+            return wider == int.class || wider == long.class || wider == float.class || wider == double.class;
+        } else if (type == int.class) {
+            return wider == long.class || wider == float.class || wider == double.class;
+        } else if (type == long.class) {
+            return wider == float.class || wider == double.class;
+        } else if (type == float.class) {
+            return wider == double.class;
+        }
+        return false;
+    }
+
+    private static Class<?> box(Class<?> primitive) {
+        if (primitive == int.class) return Integer.class;
+        if (primitive == long.class) return Long.class;
+        if (primitive == double.class) return Double.class;
+        if (primitive == boolean.class) return Boolean.class;
+        if (primitive == char.class) return Character.class;
+        if (primitive == float.class) return Float.class;
+        if (primitive == byte.class) return Byte.class;
+        if (primitive == short.class) return Short.class;
+        return Void.class;
+    }
+
+    private static @Nullable Class<?> unbox(Class<?> boxed) {
+        if (boxed == Integer.class) return int.class;
+        if (boxed == Long.class) return long.class;
+        if (boxed == Double.class) return double.class;
+        if (boxed == Boolean.class) return boolean.class;
+        if (boxed == Character.class) return char.class;
+        if (boxed == Float.class) return float.class;
+        if (boxed == Byte.class) return byte.class;
+        if (boxed == Short.class) return short.class;
+        return null;
+    }
+
+    /**
+     * Orders the overloads so that every overload comes after all the overloads which are more specific than it
+     * (compared as if called with the number of arguments), keeping the declaration order otherwise.
+     */
+    private static <E extends Executable> E[] rank(E[] candidates, int arity) {
+        if (candidates.length < 2) {
+            return candidates;
+        }
+        List<E> remaining = new ArrayList<>(Arrays.asList(candidates));
+        List<Class<?>[]> remainingTypes = new ArrayList<>(candidates.length);
+        for (E candidate : candidates) {
+            remainingTypes.add(candidate.getParameterTypes());
+        }
+        E[] ranked = Arrays.copyOf(candidates, candidates.length);
+        for (int r = 0; r < ranked.length; r++) {
+            int next = 0;
+            for (int i = 0; i < remaining.size(); i++) {
+                boolean dominated = false;
+                for (int j = 0; j < remaining.size() && !dominated; j++) {
+                    dominated = i != j && isStrictlyMoreSpecific(remaining.get(j), remainingTypes.get(j), remaining.get(i), remainingTypes.get(i),
+                            arity, remaining.get(i).isVarArgs() || remaining.get(j).isVarArgs());
+                }
+                if (!dominated) {
+                    next = i;
+                    break;
+                }
+            }
+            ranked[r] = remaining.remove(next);
+            remainingTypes.remove(next);
+        }
+        return ranked;
+    }
+
+    /**
+     * The outcome of resolving a call.
+     */
+    public static final class Resolution<E extends Executable> {
+        private final E[] applicable;
+        private final @Nullable E mostSpecific;
+
+        private Resolution(E[] applicable, @Nullable E mostSpecific) {
+            this.applicable = applicable;
+            this.mostSpecific = mostSpecific;
+        }
+
+        /**
+         * @return the applicable overloads, the most specific one (if there is one) first and the others by rank
+         */
+        public E[] getApplicable() {
+            return applicable;
+        }
+
+        /**
+         * @return the overload which is more specific than all the other applicable ones, or null if there are no
+         * applicable overloads or if the call is ambiguous
+         */
+        public @Nullable E getMostSpecific() {
+            return mostSpecific;
+        }
+    }
+
+}
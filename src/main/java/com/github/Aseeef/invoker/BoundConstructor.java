@@ -0,0 +1,188 @@
+package com.github.Aseeef.invoker;
+
+import lombok.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Constructor;
+
+/**
+ * A constructor resolved and converted into a {@link MethodHandle} once, with fixed arity entry points so that
+ * calls neither repeat the lookup nor allocate an argument array.
+ */
+public final class BoundConstructor<T> {
+
+    private final Constructor<T> constructor;
+    // (Object...)Object, with one Object parameter per parameter of the constructor
+    private final MethodHandle handle;
+    // (Object[])Object, for calls which don't fit any of the fixed arity entry points
+    private final MethodHandle spreader;
+
+    private BoundConstructor(Constructor<T> constructor, MethodHandle handle) {
+        this.constructor = constructor;
+        this.handle = handle;
+        this.spreader = BoundExecutables.spreader(handle);
+    }
+
+    /**
+     * Bind the specified constructor.
+     *
+     * @param constructor the constructor to bind
+     * @return the bound constructor
+     * @throws IllegalAccessException if no method handle could be created for the constructor
+     */
+    public static <T> BoundConstructor<T> bind(Constructor<T> constructor) throws IllegalAccessException {
+        return new BoundConstructor<>(constructor, BoundExecutables.createHandle(constructor));
+    }
+
+    public Constructor<T> getConstructor() {
+        return constructor;
+    }
+
+    /**
+     * Invoke the bound constructor with exactly 0 arguments.
+     *
+     * @return the new instance
+     */
+    @SuppressWarnings("unchecked")
+    public T invoke0() {
+        checkArity(0);
+        try {
+            return (T) handle.invokeExact();
+        } catch (Throwable ex) {
+            throw BoundExecutables.rethrow(ex);
+        }
+    }
+
+    /**
+     * Invoke the bound constructor with exactly 1 argument.
+     *
+     * @param arg1 argument 1
+     * @return the new instance
+     */
+    @SuppressWarnings("unchecked")
+    public T invoke1(@Nullable Object arg1) {
+        checkArity(1);
+        try {
+            return (T) handle.invokeExact(arg1);
+        } catch (Throwable ex) {
+            throw BoundExecutables.rethrow(ex);
+        }
+    }
+
+    /**
+     * Invoke the bound constructor with exactly 2 arguments.
+     *
+     * @param arg1 argument 1
+     * @param arg2 argument 2
+     * @return the new instance
+     */
+    @SuppressWarnings("unchecked")
+    public T invoke2(@Nullable Object arg1, @Nullable Object arg2) {
+        checkArity(2);
+        try {
+            return (T) handle.invokeExact(arg1, arg2);
+        } catch (Throwable ex) {
+            throw BoundExecutables.rethrow(ex);
+        }
+    }
+
+    /**
+     * Invoke the bound constructor with exactly 3 arguments.
+     *
+     * @param arg1 argument 1
+     * @param arg2 argument 2
+     * @param arg3 argument 3
+     * @return the new instance
+     */
+    @SuppressWarnings("unchecked")
+    public T invoke3(@Nullable Object arg1, @Nullable Object arg2, @Nullable Object arg3) {
+        checkArity(3);
+        try {
+            return (T) handle.invokeExact(arg1, arg2, arg3);
+        } catch (Throwable ex) {
+            throw BoundExecutables.rethrow(ex);
+        }
+    }
+
+    /**
+     * Invoke the bound constructor with exactly 4 arguments.
+     *
+     * @param arg1 argument 1
+     * @param arg2 argument 2
+     * @param arg3 argument 3
+     * @param arg4 argument 4
+     * @return the new instance
+     */
+    @SuppressWarnings("unchecked")
+    public T invoke4(@Nullable Object arg1, @Nullable Object arg2, @Nullable Object arg3, @Nullable Object arg4) {
+        checkArity(4);
+        try {
+            return (T) handle.invokeExact(arg1, arg2, arg3, arg4);
+        } catch (Throwable ex) {
+            throw BoundExecutables.rethrow(ex);
+        }
+    }
+
+    /**
+     * Invoke the bound constructor with exactly 5 arguments.
+     *
+     * @param arg1 argument 1
+     * @param arg2 argument 2
+     * @param arg3 argument 3
+     * @param arg4 argument 4
+     * @param arg5 argument 5
+     * @return the new instance
+     */
+    @SuppressWarnings("unchecked")
+    public T invoke5(@Nullable Object arg1, @Nullable Object arg2, @Nullable Object arg3, @Nullable Object arg4, @Nullable Object arg5) {
+        checkArity(5);
+        try {
+            return (T) handle.invokeExact(arg1, arg2, arg3, arg4, arg5);
+        } catch (Throwable ex) {
+            throw BoundExecutables.rethrow(ex);
+        }
+    }
+
+    /**
+     * Invoke the bound constructor with exactly 6 arguments.
+     *
+     * @param arg1 argument 1
+     * @param arg2 argument 2
+     * @param arg3 argument 3
+     * @param arg4 argument 4
+     * @param arg5 argument 5
+     * @param arg6 argument 6
+     * @return the new instance
+     */
+    @SuppressWarnings("unchecked")
+    public T invoke6(@Nullable Object arg1, @Nullable Object arg2, @Nullable Object arg3, @Nullable Object arg4, @Nullable Object arg5, @Nullable Object arg6) {
+        checkArity(6);
+        try {
+            return (T) handle.invokeExact(arg1, arg2, arg3, arg4, arg5, arg6);
+        } catch (Throwable ex) {
+            throw BoundExecutables.rethrow(ex);
+        }
+    }
+
+    /**
+     * Invoke the bound constructor with any number of arguments. Unlike the fixed arity entry points, this allocates.
+     *
+     * @param arguments the arguments (varargs must already be collected into an array)
+     * @return the new instance
+     */
+    @SuppressWarnings("unchecked")
+    public T invoke(Object... arguments) {
+        checkArity(arguments.length);
+        try {
+            return (T) spreader.invokeExact(arguments);
+        } catch (Throwable ex) {
+            throw BoundExecutables.rethrow(ex);
+        }
+    }
+
+    private void checkArity(int arity) {
+        BoundExecutables.checkArity(constructor, arity);
+    }
+
+}
@@ -0,0 +1,150 @@
+package com.github.Aseeef.invoker;
+
+import com.github.Aseeef.ReflectiveAseefianException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * The shared parts of {@link BoundMethod}, {@link BoundStaticMethod} and {@link BoundConstructor}.
+ */
+final class BoundExecutables {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private BoundExecutables() {
+    }
+
+    // the entry points of the primitive invocations: the index of the result type plus the index of the argument types
+    static final int INT_RESULT = 0;
+    static final int LONG_RESULT = 8;
+    static final int DOUBLE_RESULT = 16;
+    static final int BOOLEAN_RESULT = 24;
+    static final int NO_ARGS = 0;
+    static final int INT_ARG = 1;
+    static final int LONG_ARG = 2;
+    static final int DOUBLE_ARG = 3;
+    static final int OBJECT_ARG = 4;
+    static final int INT_ARGS = 5;
+    static final int LONG_ARGS = 6;
+    static final int DOUBLE_ARGS = 7;
+    static final int PRIMITIVE_SHAPES = 32;
+    private static final Class<?>[] RESULT_TYPES = {int.class, long.class, double.class, boolean.class};
+    private static final Class<?>[][] ARGUMENT_TYPES = {
+            {}, {int.class}, {long.class}, {double.class}, {Object.class},
+            {int.class, int.class}, {long.class, long.class}, {double.class, double.class}
+    };
+
+    /**
+     * @param executable the method or constructor
+     * @return a handle taking (and returning) only Objects, with a leading target parameter for instance methods
+     * @throws IllegalAccessException if no method handle could be created for the executable
+     */
+    static MethodHandle createHandle(Executable executable) throws IllegalAccessException {
+        return generic(createExactHandle(executable));
+    }
+
+    /**
+     * @param executable the method or constructor
+     * @return a handle with the exact parameter and return types of the executable, except for the leading target
+     * parameter of instance methods which is an Object
+     * @throws IllegalAccessException if no method handle could be created for the executable
+     */
+    static MethodHandle createExactHandle(Executable executable) throws IllegalAccessException {
+        executable.setAccessible(true);
+        MethodHandle target;
+        if (executable instanceof Method) {
+            target = LOOKUP.unreflect((Method) executable);
+        } else {
+            target = LOOKUP.unreflectConstructor((Constructor<?>) executable);
+        }
+        // varargs are passed as an already collected array
+        target = MethodHandleInvoker.wrapTargetExceptions(target.asFixedArity());
+        if (executable instanceof Method && !Modifier.isStatic(executable.getModifiers())) {
+            target = target.asType(target.type().changeParameterType(0, Object.class));
+        }
+        return target;
+    }
+
+    /**
+     * @param handle a handle created by {@link #createExactHandle(Executable)}
+     * @return the same handle, but taking (and returning) only Objects
+     */
+    static MethodHandle generic(MethodHandle handle) {
+        return handle.asType(MethodType.genericMethodType(handle.type().parameterCount()));
+    }
+
+    /**
+     * Get the exact handle adapted to a primitive entry point. Only widening conversions are applied, so the
+     * arguments and the result stay unboxed as long as the method takes and returns the same (or narrower) primitives.
+     *
+     * @param exactHandle a handle created by {@link #createExactHandle(Executable)}
+     * @param adapted the already adapted handles, by entry point
+     * @param shape the entry point
+     * @param withTarget whether the entry point takes the target object first
+     * @return the adapted handle
+     * @throws WrongMethodTypeException if the method can't be called with or can't return these types
+     */
+    static MethodHandle primitiveHandle(MethodHandle exactHandle, MethodHandle[] adapted, int shape, boolean withTarget) {
+        MethodHandle handle = adapted[shape];
+        if (handle == null) {
+            if (exactHandle.type().returnType() == void.class) {
+                throw new WrongMethodTypeException("The method doesn't return anything");
+            }
+            Class<?>[] argumentTypes = ARGUMENT_TYPES[shape % ARGUMENT_TYPES.length];
+            if (withTarget) {
+                Class<?>[] withTargetType = new Class<?>[argumentTypes.length + 1];
+                withTargetType[0] = Object.class;
+                System.arraycopy(argumentTypes, 0, withTargetType, 1, argumentTypes.length);
+                argumentTypes = withTargetType;
+            }
+            handle = exactHandle.asType(MethodType.methodType(RESULT_TYPES[shape / ARGUMENT_TYPES.length], argumentTypes));
+            // computing it twice on a race is harmless
+            adapted[shape] = handle;
+        }
+        return handle;
+    }
+
+    /**
+     * @param handle a handle created by {@link #createHandle(Executable)}
+     * @return the same handle, but taking all of its arguments as one array
+     */
+    static MethodHandle spreader(MethodHandle handle) {
+        return handle.asSpreader(Object[].class, handle.type().parameterCount())
+                .asType(MethodType.methodType(Object.class, Object[].class));
+    }
+
+    static void checkArity(Executable executable, int arity) {
+        if (executable.getParameterCount() != arity) {
+            throw new ReflectiveAseefianException("The bound " + executable + " takes " + executable.getParameterCount() + " arguments, but " + arity + " were supplied!", ReflectiveAseefianException.ExceptionType.ILLEGAL_ARGUMENT);
+        }
+    }
+
+    /**
+     * Map something thrown while invoking a bound handle to the exception the caller should see.
+     *
+     * @param throwable the thrown exception
+     * @return the exception to throw
+     */
+    static RuntimeException rethrow(Throwable throwable) {
+        if (throwable instanceof InvocationTargetException) {
+            return new ReflectiveAseefianException(throwable.getCause(), ReflectiveAseefianException.ExceptionType.INVOCATION_EXCEPTION);
+        } else if (throwable instanceof ClassCastException || throwable instanceof NullPointerException || throwable instanceof WrongMethodTypeException) {
+            // the target's own exceptions are always wrapped, so these came from converting the arguments
+            return new ReflectiveAseefianException(throwable, ReflectiveAseefianException.ExceptionType.ILLEGAL_ARGUMENT);
+        } else if (throwable instanceof RuntimeException) {
+            return (RuntimeException) throwable;
+        } else if (throwable instanceof Error) {
+            throw (Error) throwable;
+        }
+        return new ReflectiveAseefianException(throwable);
+    }
+
+}
@@ -0,0 +1,699 @@
+package com.github.Aseeef.invoker;
+
+import lombok.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Method;
+
+/**
+ * An instance method resolved and converted into a {@link MethodHandle} once, with fixed arity entry points so that
+ * calls neither repeat the lookup nor allocate an argument array.
+ * {@apiNote Primitive results are still boxed by the generic entry points, {@code invokeInt} and co. take and return
+ * primitives without boxing them.}
+ */
+public final class BoundMethod {
+
+    private final Method method;
+    // (Object target, Object...)Object, with one Object parameter per parameter of the method
+    private final MethodHandle handle;
+    // (Object[])Object, for calls which don't fit any of the fixed arity entry points
+    private final MethodHandle spreader;
+    // the handle with the exact parameter and return types of the method (except for the target, which is an Object)
+    private final MethodHandle exactHandle;
+    // exactHandle adapted to each of the primitive entry points, on their first call
+    private final MethodHandle[] primitiveHandles = new MethodHandle[BoundExecutables.PRIMITIVE_SHAPES];
+
+    private BoundMethod(Method method, MethodHandle handle, MethodHandle exactHandle) {
+        this.method = method;
+        this.handle = handle;
+        this.spreader = BoundExecutables.spreader(handle);
+        this.exactHandle = exactHandle;
+    }
+
+    /**
+     * Bind the specified method.
+     *
+     * @param method the method to bind
+     * @return the bound method
+     * @throws IllegalAccessException if no method handle could be created for the method
+     */
+    public static BoundMethod bind(Method method) throws IllegalAccessException {
+        MethodHandle exactHandle = BoundExecutables.createExactHandle(method);
+        return new BoundMethod(method, BoundExecutables.generic(exactHandle), exactHandle);
+    }
+
+    public Method getMethod() {
+        return method;
+    }
+
+    /**
+     * Invoke the bound method with exactly 0 arguments.
+     *
+     * @param target the object on which to invoke the method
+     * @return the result of the method call
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T invoke0(@NonNull Object target) {
+        checkArity(0);
+        try {
+            return (T) handle.invokeExact(target);
+        } catch (Throwable ex) {
+            throw BoundExecutables.rethrow(ex);
+        }
+    }
+
+    /**
+     * Invoke the bound method with exactly 1 argument.
+     *
+     * @param target the object on which to invoke the method
+     * @param arg1 argument 1
+     * @return the result of the method call
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T invoke1(@NonNull Object target, @Nullable Object arg1) {
+        checkArity(1);
+        try {
+            return (T) handle.invokeExact(target, arg1);
+        } catch (Throwable ex) {
+            throw BoundExecutables.rethrow(ex);
+        }
+    }
+
+    /**
+     * Invoke the bound method with exactly 2 arguments.
+     *
+     * @param target the object on which to invoke the method
+     * @param arg1 argument 1
+     * @param arg2 argument 2
+     * @return the result of the method call
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T invoke2(@NonNull Object target, @Nullable Object arg1, @Nullable Object arg2) {
+        checkArity(2);
+        try {
+            return (T) handle.invokeExact(target, arg1, arg2);
+        } catch (Throwable ex) {
+            throw BoundExecutables.rethrow(ex);
+        }
+    }
+
+    /**
+     * Invoke the bound method with exactly 3 arguments.
+     *
+     * @param target the object on which to invoke the method
+     * @param arg1 argument 1
+     * @param arg2 argument 2
+     * @param arg3 argument 3
+     * @return the result of the method call
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T invoke3(@NonNull Object target, @Nullable Object arg1, @Nullable Object arg2, @Nullable Object arg3) {
+        checkArity(3);
+        try {
+            return (T) handle.invokeExact(target, arg1, arg2, arg3);
+        } catch (Throwable ex) {
+            throw BoundExecutables.rethrow(ex);
+        }
+    }
+
+    /**
+     * Invoke the bound method with exactly 4 arguments.
+     *
+     * @param target the object on which to invoke the method
+     * @param arg1 argument 1
+     * @param arg2 argument 2
+     * @param arg3 argument 3
+     * @param arg4 argument 4
+     * @return the result of the method call
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T invoke4(@NonNull Object target, @Nullable Object arg1, @Nullable Object arg2, @Nullable Object arg3, @Nullable Object arg4) {
+        checkArity(4);
+        try {
+            return (T) handle.invokeExact(target, arg1, arg2, arg3, arg4);
+        } catch (Throwable ex) {
+            throw BoundExecutables.rethrow(ex);
+        }
+    }
+
+    /**
+     * Invoke the bound method with exactly 5 arguments.
+     *
+     * @param target the object on which to invoke the method
+     * @param arg1 argument 1
+     * @param arg2 argument 2
+     * @param arg3 argument 3
+     * @param arg4 argument 4
+     * @param arg5 argument 5
+     * @return the result of the method call
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T invoke5(@NonNull Object target, @Nullable Object arg1, @Nullable Object arg2, @Nullable Object arg3, @Nullable Object arg4, @Nullable Object arg5) {
+        checkArity(5);
+        try {
+            return (T) handle.invokeExact(target, arg1, arg2, arg3, arg4, arg5);
+        } catch (Throwable ex) {
+            throw BoundExecutables.rethrow(ex);
+        }
+    }
+
+    /**
+     * Invoke the bound method with exactly 6 arguments.
+     *
+     * @param target the object on which to invoke the method
+     * @param arg1 argument 1
+     * @param arg2 argument 2
+     * @param arg3 argument 3
+     * @param arg4 argument 4
+     * @param arg5 argument 5
+     * @param arg6 argument 6
+     * @return the result of the method call
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T invoke6(@NonNull Object target, @Nullable Object arg1, @Nullable Object arg2, @Nullable Object arg3, @Nullable Object arg4, @Nullable Object arg5, @Nullable Object arg6) {
+        checkArity(6);
+        try {
+            return (T) handle.invokeExact(target, arg1, arg2, arg3, arg4, arg5, arg6);
+        } catch (Throwable ex) {
+            throw BoundExecutables.rethrow(ex);
+        }
+    }
+
+    /**
+     * Invoke the bound method with any number of arguments. Unlike the fixed arity entry points, this allocates.
+     *
+     * @param target    the object on which to invoke the method
+     * @param arguments the arguments (varargs must already be collected into an array)
+     * @return the result of the method call
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T invoke(@NonNull Object target, Object... arguments) {
+        checkArity(arguments.length);
+        Object[] spread = new Object[arguments.length + 1];
+        spread[0] = target;
+        System.arraycopy(arguments, 0, spread, 1, arguments.length);
+        try {
+            return (T) spreader.invokeExact(spread);
+        } catch (Throwable ex) {
+            throw BoundExecutables.rethrow(ex);
+        }
+    }
+
+    /**
+     * Invoke the bound method with exactly 0 arguments, without boxing the arguments or the int result.
+     *
+     * @param target the object on which to invoke the method
+     * @return the result of the method call
+     */
+    public int invokeInt(@NonNull Object target) {
+        try {
+            return (int) primitiveHandle(BoundExecutables.INT_RESULT + BoundExecutables.NO_ARGS).invokeExact(target);
+        } catch (Throwable ex) {
+            throw BoundExecutables.rethrow(ex);
+        }
+    }
+
+    /**
+     * Invoke the bound method with exactly 1 argument, without boxing the arguments or the int result.
+     *
+     * @param target the object on which to invoke the method
+     * @param arg1 argument 1
+     * @return the result of the method call
+     */
+    public int invokeInt(@NonNull Object target, int arg1) {
+        try {
+            return (int) primitiveHandle(BoundExecutables.INT_RESULT + BoundExecutables.INT_ARG).invokeExact(target, arg1);
+        } catch (Throwable ex) {
+            throw BoundExecutables.rethrow(ex);
+        }
+    }
+
+    /**
+     * Invoke the bound method with exactly 1 argument, without boxing the arguments or the int result.
+     *
+     * @param target the object on which to invoke the method
+     * @param arg1 argument 1
+     * @return the result of the method call
+     */
+    public int invokeInt(@NonNull Object target, long arg1) {
+        try {
+            return (int) primitiveHandle(BoundExecutables.INT_RESULT + BoundExecutables.LONG_ARG).invokeExact(target, arg1);
+        } catch (Throwable ex) {
+            throw BoundExecutables.rethrow(ex);
+        }
+    }
+
+    /**
+     * Invoke the bound method with exactly 1 argument, without boxing the arguments or the int result.
+     *
+     * @param target the object on which to invoke the method
+     * @param arg1 argument 1
+     * @return the result of the method call
+     */
+    public int invokeInt(@NonNull Object target, double arg1) {
+        try {
+            return (int) primitiveHandle(BoundExecutables.INT_RESULT + BoundExecutables.DOUBLE_ARG).invokeExact(target, arg1);
+        } catch (Throwable ex) {
+            throw BoundExecutables.rethrow(ex);
+        }
+    }
+
+    /**
+     * Invoke the bound method with exactly 1 argument, without boxing the arguments or the int result.
+     *
+     * @param target the object on which to invoke the method
+     * @param arg1 argument 1
+     * @return the result of the method call
+     */
+    public int invokeInt(@NonNull Object target, @Nullable Object arg1) {
+        try {
+            return (int) primitiveHandle(BoundExecutables.INT_RESULT + BoundExecutables.OBJECT_ARG).invokeExact(target, arg1);
+        } catch (Throwable ex) {
+            throw BoundExecutables.rethrow(ex);
+        }
+    }
+
+    /**
+     * Invoke the bound method with exactly 2 arguments, without boxing the arguments or the int result.
+     *
+     * @param target the object on which to invoke the method
+     * @param arg1 argument 1
+     * @param arg2 argument 2
+     * @return the result of the method call
+     */
+    public int invokeInt(@NonNull Object target, int arg1, int arg2) {
+        try {
+            return (int) primitiveHandle(BoundExecutables.INT_RESULT + BoundExecutables.INT_ARGS).invokeExact(target, arg1, arg2);
+        } catch (Throwable ex) {
+            throw BoundExecutables.rethrow(ex);
+        }
+    }
+
+    /**
+     * Invoke the bound method with exactly 2 arguments, without boxing the arguments or the int result.
+     *
+     * @param target the object on which to invoke the method
+     * @param arg1 argument 1
+     * @param arg2 argument 2
+     * @return the result of the method call
+     */
+    public int invokeInt(@NonNull Object target, long arg1, long arg2) {
+        try {
+            return (int) primitiveHandle(BoundExecutables.INT_RESULT + BoundExecutables.LONG_ARGS).invokeExact(target, arg1, arg2);
+        } catch (Throwable ex) {
+            throw BoundExecutables.rethrow(ex);
+        }
+    }
+
+    /**
+     * Invoke the bound method with exactly 2 arguments, without boxing the arguments or the int result.
+     *
+     * @param target the object on which to invoke the method
+     * @param arg1 argument 1
+     * @param arg2 argument 2
+     * @return the result of the method call
+     */
+    public int invokeInt(@NonNull Object target, double arg1, double arg2) {
+        try {
+            return (int) primitiveHandle(BoundExecutables.INT_RESULT + BoundExecutables.DOUBLE_ARGS).invokeExact(target, arg1, arg2);
+        } catch (Throwable ex) {
+            throw BoundExecutables.rethrow(ex);
+        }
+    }
+
+    /**
+     * Invoke the bound method with exactly 0 arguments, without boxing the arguments or the long result.
+     *
+     * @param target the object on which to invoke the method
+     * @return the result of the method call
+     */
+    public long invokeLong(@NonNull Object target) {
+        try {
+            return (long) primitiveHandle(BoundExecutables.LONG_RESULT + BoundExecutables.NO_ARGS).invokeExact(target);
+        } catch (Throwable ex) {
+            throw BoundExecutables.rethrow(ex);
+        }
+    }
+
+    /**
+     * Invoke the bound method with exactly 1 argument, without boxing the arguments or the long result.
+     *
+     * @param target the object on which to invoke the method
+     * @param arg1 argument 1
+     * @return the result of the method call
+     */
+    public long invokeLong(@NonNull Object target, int arg1) {
+        try {
+            return (long) primitiveHandle(BoundExecutables.LONG_RESULT + BoundExecutables.INT_ARG).invokeExact(target, arg1);
+        } catch (Throwable ex) {
+            throw BoundExecutables.rethrow(ex);
+        }
+    }
+
+    /**
+     * Invoke the bound method with exactly 1 argument, without boxing the arguments or the long result.
+     *
+     * @param target the object on which to invoke the method
+     * @param arg1 argument 1
+     * @return the result of the method call
+     */
+    public long invokeLong(@NonNull Object target, long arg1) {
+        try {
+            return (long) primitiveHandle(BoundExecutables.LONG_RESULT + BoundExecutables.LONG_ARG).invokeExact(target, arg1);
+        } catch (Throwable ex) {
+            throw BoundExecutables.rethrow(ex);
+        }
+    }
+
+    /**
+     * Invoke the bound method with exactly 1 argument, without boxing the arguments or the long result.
+     *
+     * @param target the object on which to invoke the method
+     * @param arg1 argument 1
+     * @return the result of the method call
+     */
+    public long invokeLong(@NonNull Object target, double arg1) {
+        try {
+            return (long) primitiveHandle(BoundExecutables.LONG_RESULT + BoundExecutables.DOUBLE_ARG).invokeExact(target, arg1);
+        } catch (Throwable ex) {
+            throw BoundExecutables.rethrow(ex);
+        }
+    }
+
+    /**
+     * Invoke the bound method with exactly 1 argument, without boxing the arguments or the long result.
+     *
+     * @param target the object on which to invoke the method
+     * @param arg1 argument 1
+     * @return the result of the method call
+     */
+    public long invokeLong(@NonNull Object target, @Nullable Object arg1) {
+        try {
+            return (long) primitiveHandle(BoundExecutables.LONG_RESULT + BoundExecutables.OBJECT_ARG).invokeExact(target, arg1);
+        } catch (Throwable ex) {
+            throw BoundExecutables.rethrow(ex);
+        }
+    }
+
+    /**
+     * Invoke the bound method with exactly 2 arguments, without boxing the arguments or the long result.
+     *
+     * @param target the object on which to invoke the method
+     * @param arg1 argument 1
+     * @param arg2 argument 2
+     * @return the result of the method call
+     */
+    public long invokeLong(@NonNull Object target, int arg1, int arg2) {
+        try {
+            return (long) primitiveHandle(BoundExecutables.LONG_RESULT + BoundExecutables.INT_ARGS).invokeExact(target, arg1, arg2);
+        } catch (Throwable ex) {
+            throw BoundExecutables.rethrow(ex);
+        }
+    }
+
+    /**
+     * Invoke the bound method with exactly 2 arguments, without boxing the arguments or the long result.
+     *
+     * @param target the object on which to invoke the method
+     * @param arg1 argument 1
+     * @param arg2 argument 2
+     * @return the result of the method call
+     */
+    public long invokeLong(@NonNull Object target, long arg1, long arg2) {
+        try {
+            return (long) primitiveHandle(BoundExecutables.LONG_RESULT + BoundExecutables.LONG_ARGS).invokeExact(target, arg1, arg2);
+        } catch (Throwable ex) {
+            throw BoundExecutables.rethrow(ex);
+        }
+    }
+
+    /**
+     * Invoke the bound method with exactly 2 arguments, without boxing the arguments or the long result.
+     *
+     * @param target the object on which to invoke the method
+     * @param arg1 argument 1
+     * @param arg2 argument 2
+     * @return the result of the method call
+     */
+    public long invokeLong(@NonNull Object target, double arg1, double arg2) {
+        try {
+            return (long) primitiveHandle(BoundExecutables.LONG_RESULT + BoundExecutables.DOUBLE_ARGS).invokeExact(target, arg1, arg2);
+        } catch (Throwable ex) {
+            throw BoundExecutables.rethrow(ex);
+        }
+    }
+
+    /**
+     * Invoke the bound method with exactly 0 arguments, without boxing the arguments or the double result.
+     *
+     * @param target the object on which to invoke the method
+     * @return the result of the method call
+     */
+    public double invokeDouble(@NonNull Object target) {
+        try {
+            return (double) primitiveHandle(BoundExecutables.DOUBLE_RESULT + BoundExecutables.NO_ARGS).invokeExact(target);
+        } catch (Throwable ex) {
+            throw BoundExecutables.rethrow(ex);
+        }
+    }
+
+    /**
+     * Invoke the bound method with exactly 1 argument, without boxing the arguments or the double result.
+     *
+     * @param target the object on which to invoke the method
+     * @param arg1 argument 1
+     * @return the result of the method call
+     */
+    public double invokeDouble(@NonNull Object target, int arg1) {
+        try {
+            return (double) primitiveHandle(BoundExecutables.DOUBLE_RESULT + BoundExecutables.INT_ARG).invokeExact(target, arg1);
+        } catch (Throwable ex) {
+            throw BoundExecutables.rethrow(ex);
+        }
+    }
+
+    /**
+     * Invoke the bound method with exactly 1 argument, without boxing the arguments or the double result.
+     *
+     * @param target the object on which to invoke the method
+     * @param arg1 argument 1
+     * @return the result of the method call
+     */
+    public double invokeDouble(@NonNull Object target, long arg1) {
+        try {
+            return (double) primitiveHandle(BoundExecutables.DOUBLE_RESULT + BoundExecutables.LONG_ARG).invokeExact(target, arg1);
+        } catch (Throwable ex) {
+            throw BoundExecutables.rethrow(ex);
+        }
+    }
+
+    /**
+     * Invoke the bound method with exactly 1 argument, without boxing the arguments or the double result.
+     *
+     * @param target the object on which to invoke the method
+     * @param arg1 argument 1
+     * @return the result of the method call
+     */
+    public double invokeDouble(@NonNull Object target, double arg1) {
+        try {
+            return (double) primitiveHandle(BoundExecutables.DOUBLE_RESULT + BoundExecutables.DOUBLE_ARG).invokeExact(target, arg1);
+        } catch (Throwable ex) {
+            throw BoundExecutables.rethrow(ex);
+        }
+    }
+
+    /**
+     * Invoke the bound method with exactly 1 argument, without boxing the arguments or the double result.
+     *
+     * @param target the object on which to invoke the method
+     * @param arg1 argument 1
+     * @return the result of the method call
+     */
+    public double invokeDouble(@NonNull Object target, @Nullable Object arg1) {
+        try {
+            return (double) primitiveHandle(BoundExecutables.DOUBLE_RESULT + BoundExecutables.OBJECT_ARG).invokeExact(target, arg1);
+        } catch (Throwable ex) {
+            throw BoundExecutables.rethrow(ex);
+        }
+    }
+
+    /**
+     * Invoke the bound method with exactly 2 arguments, without boxing the arguments or the double result.
+     *
+     * @param target the object on which to invoke the method
+     * @param arg1 argument 1
+     * @param arg2 argument 2
+     * @return the result of the method call
+     */
+    public double invokeDouble(@NonNull Object target, int arg1, int arg2) {
+        try {
+            return (double) primitiveHandle(BoundExecutables.DOUBLE_RESULT + BoundExecutables.INT_ARGS).invokeExact(target, arg1, arg2);
+        } catch (Throwable ex) {
+            throw BoundExecutables.rethrow(ex);
+        }
+    }
+
+    /**
+     * Invoke the bound method with exactly 2 arguments, without boxing the arguments or the double result.
+     *
+     * @param target the object on which to invoke the method
+     * @param arg1 argument 1
+     * @param arg2 argument 2
+     * @return the result of the method call
+     */
+    public double invokeDouble(@NonNull Object target, long arg1, long arg2) {
+        try {
+            return (double) primitiveHandle(BoundExecutables.DOUBLE_RESULT + BoundExecutables.LONG_ARGS).invokeExact(target, arg1, arg2);
+        } catch (Throwable ex) {
+            throw BoundExecutables.rethrow(ex);
+        }
+    }
+
+    /**
+     * Invoke the bound method with exactly 2 arguments, without boxing the arguments or the double result.
+     *
+     * @param target the object on which to invoke the method
+     * @param arg1 argument 1
+     * @param arg2 argument 2
+     * @return the result of the method call
+     */
+    public double invokeDouble(@NonNull Object target, double arg1, double arg2) {
+        try {
+            return (double) primitiveHandle(BoundExecutables.DOUBLE_RESULT + BoundExecutables.DOUBLE_ARGS).invokeExact(target, arg1, arg2);
+        } catch (Throwable ex) {
+            throw BoundExecutables.rethrow(ex);
+        }
+    }
+
+    /**
+     * Invoke the bound method with exactly 0 arguments, without boxing the arguments or the boolean result.
+     *
+     * @param target the object on which to invoke the method
+     * @return the result of the method call
+     */
+    public boolean invokeBoolean(@NonNull Object target) {
+        try {
+            return (boolean) primitiveHandle(BoundExecutables.BOOLEAN_RESULT + BoundExecutables.NO_ARGS).invokeExact(target);
+        } catch (Throwable ex) {
+            throw BoundExecutables.rethrow(ex);
+        }
+    }
+
+    /**
+     * Invoke the bound method with exactly 1 argument, without boxing the arguments or the boolean result.
+     *
+     * @param target the object on which to invoke the method
+     * @param arg1 argument 1
+     * @return the result of the method call
+     */
+    public boolean invokeBoolean(@NonNull Object target, int arg1) {
+        try {
+            return (boolean) primitiveHandle(BoundExecutables.BOOLEAN_RESULT + BoundExecutables.INT_ARG).invokeExact(target, arg1);
+        } catch (Throwable ex) {
+            throw BoundExecutables.rethrow(ex);
+        }
+    }
+
+    /**
+     * Invoke the bound method with exactly 1 argument, without boxing the arguments or the boolean result.
+     *
+     * @param target the object on which to invoke the method
+     * @param arg1 argument 1
+     * @return the result of the method call
+     */
+    public boolean invokeBoolean(@NonNull Object target, long arg1) {
+        try {
+            return (boolean) primitiveHandle(BoundExecutables.BOOLEAN_RESULT + BoundExecutables.LONG_ARG).invokeExact(target, arg1);
+        } catch (Throwable ex) {
+            throw BoundExecutables.rethrow(ex);
+        }
+    }
+
+    /**
+     * Invoke the bound method with exactly 1 argument, without boxing the arguments or the boolean result.
+     *
+     * @param target the object on which to invoke the method
+     * @param arg1 argument 1
+     * @return the result of the method call
+     */
+    public boolean invokeBoolean(@NonNull Object target, double arg1) {
+        try {
+            return (boolean) primitiveHandle(BoundExecutables.BOOLEAN_RESULT + BoundExecutables.DOUBLE_ARG).invokeExact(target, arg1);
+        } catch (Throwable ex) {
+            throw BoundExecutables.rethrow(ex);
+        }
+    }
+
+    /**
+     * Invoke the bound method with exactly 1 argument, without boxing the arguments or the boolean result.
+     *
+     * @param target the object on which to invoke the method
+     * @param arg1 argument 1
+     * @return the result of the method call
+     */
+    public boolean invokeBoolean(@NonNull Object target, @Nullable Object arg1) {
+        try {
+            return (boolean) primitiveHandle(BoundExecutables.BOOLEAN_RESULT + BoundExecutables.OBJECT_ARG).invokeExact(target, arg1);
+        } catch (Throwable ex) {
+            throw BoundExecutables.rethrow(ex);
+        }
+    }
+
+    /**
+     * Invoke the bound method with exactly 2 arguments, without boxing the arguments or the boolean result.
+     *
+     * @param target the object on which to invoke the method
+     * @param arg1 argument 1
+     * @param arg2 argument 2
+     * @return the result of the method call
+     */
+    public boolean invokeBoolean(@NonNull Object target, int arg1, int arg2) {
+        try {
+            return (boolean) primitiveHandle(BoundExecutables.BOOLEAN_RESULT + BoundExecutables.INT_ARGS).invokeExact(target, arg1, arg2);
+        } catch (Throwable ex) {
+            throw BoundExecutables.rethrow(ex);
+        }
+    }
+
+    /**
+     * Invoke the bound method with exactly 2 arguments, without boxing the arguments or the boolean result.
+     *
+     * @param target the object on which to invoke the method
+     * @param arg1 argument 1
+     * @param arg2 argument 2
+     * @return the result of the method call
+     */
+    public boolean invokeBoolean(@NonNull Object target, long arg1, long arg2) {
+        try {
+            return (boolean) primitiveHandle(BoundExecutables.BOOLEAN_RESULT + BoundExecutables.LONG_ARGS).invokeExact(target, arg1, arg2);
+        } catch (Throwable ex) {
+            throw BoundExecutables.rethrow(ex);
+        }
+    }
+
+    /**
+     * Invoke the bound method with exactly 2 arguments, without boxing the arguments or the boolean result.
+     *
+     * @param target the object on which to invoke the method
+     * @param arg1 argument 1
+     * @param arg2 argument 2
+     * @return the result of the method call
+     */
+    public boolean invokeBoolean(@NonNull Object target, double arg1, double arg2) {
+        try {
+            return (boolean) primitiveHandle(BoundExecutables.BOOLEAN_RESULT + BoundExecutables.DOUBLE_ARGS).invokeExact(target, arg1, arg2);
+        } catch (Throwable ex) {
+            throw BoundExecutables.rethrow(ex);
+        }
+    }
+
+    private MethodHandle primitiveHandle(int shape) {
+        return BoundExecutables.primitiveHandle(exactHandle, primitiveHandles, shape, true);
+    }
+
+    private void checkArity(int arity) {
+        BoundExecutables.checkArity(method, arity);
+    }
+
+}
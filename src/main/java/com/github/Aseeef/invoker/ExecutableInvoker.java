@@ -0,0 +1,20 @@
+package com.github.Aseeef.invoker;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.lang.reflect.InvocationTargetException;
+
+public interface ExecutableInvoker {
+
+    /**
+     * Invoke the underlying method or constructor. This behaves just like {@link java.lang.reflect.Method#invoke(Object, Object...)}
+     * and {@link java.lang.reflect.Constructor#newInstance(Object...)} do, meaning any exception thrown by the
+     * target itself is wrapped in an {@link InvocationTargetException}.
+     *
+     * @param instance   the object on which to invoke the method (ignored for static methods and constructors)
+     * @param parameters the parameters to pass in, with any varargs already collected into an array
+     * @return the result of the invocation, or the new instance in the case of a constructor
+     */
+    public Object invoke(@Nullable Object instance, Object[] parameters) throws InvocationTargetException, IllegalAccessException, InstantiationException;
+
+}
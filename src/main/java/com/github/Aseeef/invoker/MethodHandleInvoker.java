@@ -0,0 +1,107 @@
+package com.github.Aseeef.invoker;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * An {@link ExecutableInvoker} which converts the executable into a {@link MethodHandle} once, and then
+ * routes every later invocation through that handle instead of through {@link Method#invoke(Object, Object...)}.
+ */
+public class MethodHandleInvoker implements ExecutableInvoker {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType GENERIC_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+    private static final MethodHandle WRAP_TARGET_EXCEPTION;
+
+    static {
+        try {
+            WRAP_TARGET_EXCEPTION = LOOKUP.findStatic(MethodHandleInvoker.class, "wrapTargetException", MethodType.methodType(Object.class, Throwable.class));
+        } catch (NoSuchMethodException | IllegalAccessException ex) {
+            throw new ExceptionInInitializerError(ex);
+        }
+    }
+
+    private final MethodHandle handle;
+    private final boolean requiresInstance;
+
+    private MethodHandleInvoker(MethodHandle handle, boolean requiresInstance) {
+        this.handle = handle;
+        this.requiresInstance = requiresInstance;
+    }
+
+    /**
+     * Creates a method handle backed invoker for the specified method or constructor.
+     *
+     * @param executable the method or constructor
+     * @return the invoker
+     * @throws IllegalAccessException if a method handle could not be created for this executable
+     */
+    public static MethodHandleInvoker create(Executable executable) throws IllegalAccessException {
+        executable.setAccessible(true);
+        MethodHandle target;
+        boolean requiresInstance = false;
+        if (executable instanceof Method) {
+            target = LOOKUP.unreflect((Method) executable);
+            if (Modifier.isStatic(executable.getModifiers())) {
+                target = MethodHandles.dropArguments(target, 0, Object.class);
+            } else {
+                requiresInstance = true;
+            }
+        } else {
+            target = LOOKUP.unreflectConstructor((Constructor<?>) executable);
+            target = MethodHandles.dropArguments(target, 0, Object.class);
+        }
+        // varargs are already collected into an array by the caller
+        target = target.asFixedArity();
+
+        // Method#invoke wraps anything thrown by the target in an InvocationTargetException, and so do we.
+        // Doing it on the raw target means errors from the argument conversions below are never mistaken for target errors
+        target = wrapTargetExceptions(target);
+
+        MethodHandle handle = target.asSpreader(Object[].class, executable.getParameterCount()).asType(GENERIC_TYPE);
+        return new MethodHandleInvoker(handle, requiresInstance);
+    }
+
+    /**
+     * @param target the handle to wrap
+     * @return a handle which throws anything thrown by the target wrapped in an {@link InvocationTargetException}
+     */
+    static MethodHandle wrapTargetExceptions(MethodHandle target) {
+        MethodHandle wrapper = WRAP_TARGET_EXCEPTION.asType(MethodType.methodType(target.type().returnType(), Throwable.class));
+        wrapper = MethodHandles.dropArguments(wrapper, 1, target.type().parameterList());
+        return MethodHandles.catchException(target, Throwable.class, wrapper);
+    }
+
+    @Override
+    public Object invoke(@Nullable Object instance, Object[] parameters) throws InvocationTargetException {
+        if (requiresInstance && instance == null) {
+            throw new NullPointerException("Cannot invoke an instance method on a null object!");
+        }
+        try {
+            return handle.invokeExact(instance, parameters);
+        } catch (InvocationTargetException ex) {
+            throw ex;
+        } catch (ClassCastException | NullPointerException ex) {
+            // thrown while converting the arguments (since errors from the target are always wrapped)
+            throw new IllegalArgumentException("argument type mismatch", ex);
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            // should never happen
+            throw new InvocationTargetException(ex);
+        }
+    }
+
+    private static Object wrapTargetException(Throwable throwable) throws InvocationTargetException {
+        throw new InvocationTargetException(throwable);
+    }
+
+}
@@ -0,0 +1,34 @@
+package com.github.Aseeef.invoker;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+public class ReflectiveInvoker implements ExecutableInvoker {
+
+    private final @Nullable Method method;
+    private final @Nullable Constructor<?> constructor;
+
+    public ReflectiveInvoker(Executable executable) {
+        // only done once per invoker instead of on every call
+        executable.setAccessible(true);
+        if (executable instanceof Method) {
+            this.method = (Method) executable;
+            this.constructor = null;
+        } else {
+            this.method = null;
+            this.constructor = (Constructor<?>) executable;
+        }
+    }
+
+    @Override
+    public Object invoke(@Nullable Object instance, Object[] parameters) throws InvocationTargetException, IllegalAccessException, InstantiationException {
+        if (method != null) {
+            return method.invoke(instance, parameters);
+        }
+        return constructor.newInstance(parameters);
+    }
+}
@@ -0,0 +1,47 @@
+package com.github.Aseeef.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
+
+/**
+ * Flight recorder event for a reflective invocation of a method or constructor.
+ */
+@Name("com.github.Aseeef.Invocation")
+@Label("Reflective Invocation")
+@Category({"JavaAseefianReflections", "Invocation"})
+@Description("Invocation of a method or constructor (including the time spent in it) which took at least the configured threshold")
+public final class InvocationEvent extends ThresholdEvent {
+
+    @Label("Class")
+    private Class<?> declaringClass;
+
+    @Label("Member")
+    private String member;
+
+    @Label("Constructor")
+    private boolean constructor;
+
+    public InvocationEvent(long thresholdNanos) {
+        super(thresholdNanos);
+    }
+
+    /**
+     * End the event, and commit it if it took at least the threshold.
+     *
+     * @param executable the invoked method or constructor
+     */
+    public void complete(Executable executable) {
+        if (exceedsThreshold()) {
+            this.declaringClass = executable.getDeclaringClass();
+            this.member = executable.getName();
+            this.constructor = !(executable instanceof Method);
+            commit();
+        }
+    }
+
+}
@@ -0,0 +1,48 @@
+package com.github.Aseeef.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Flight recorder event for the resolution of a method, constructor or field (or the fields of a type).
+ */
+@Name("com.github.Aseeef.Lookup")
+@Label("Reflective Lookup")
+@Category({"JavaAseefianReflections", "Lookup"})
+@Description("Resolution of a method, constructor or field which took at least the configured threshold")
+public final class LookupEvent extends ThresholdEvent {
+
+    @Label("Class")
+    private Class<?> lookupClass;
+
+    @Label("Member")
+    @Description("The name of the method/field, *cnstr* for constructors, or the field type for lookups by type")
+    private @Nullable String member;
+
+    @Label("Cache Hit")
+    private boolean cacheHit;
+
+    public LookupEvent(long thresholdNanos) {
+        super(thresholdNanos);
+    }
+
+    /**
+     * End the event, and commit it if it took at least the threshold.
+     *
+     * @param lookupClass the class the lookup was made on
+     * @param member      the looked up member
+     * @param cacheHit    whether the lookup was answered from the cache
+     */
+    public void complete(Class<?> lookupClass, @Nullable String member, boolean cacheHit) {
+        if (exceedsThreshold()) {
+            this.lookupClass = lookupClass;
+            this.member = member;
+            this.cacheHit = cacheHit;
+            commit();
+        }
+    }
+
+}
@@ -0,0 +1,29 @@
+package com.github.Aseeef.jfr;
+
+import jdk.jfr.Event;
+
+/**
+ * An event which is only committed if it lasted at least a threshold configured in the {@link com.github.Aseeef.JARConfig}
+ * (on top of any threshold configured for the recording itself). The event begins when it is created.
+ */
+abstract class ThresholdEvent extends Event {
+
+    // transient fields are not part of the recorded event
+    private final transient long thresholdNanos;
+    private final transient long startNanos;
+
+    ThresholdEvent(long thresholdNanos) {
+        this.thresholdNanos = thresholdNanos;
+        this.startNanos = System.nanoTime();
+        begin();
+    }
+
+    boolean exceedsThreshold() {
+        if (System.nanoTime() - startNanos < thresholdNanos) {
+            return false;
+        }
+        end();
+        return shouldCommit();
+    }
+
+}
@@ -0,0 +1,171 @@
+package com.github.Aseeef.scan;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Reads the names, types and access flags of a class and its members from a class file. Only the constant pool, the
+ * header and the field/method tables are looked at, everything else (code, annotations, ...) is skipped.
+ */
+class ClassFileParser {
+
+    private static final int MAGIC = 0xCAFEBABE;
+    private static final int ACC_MODULE = 0x8000;
+
+    private ClassFileParser() {
+    }
+
+    /**
+     * @param bytes the contents of the class file
+     * @return the class, or null if the class file describes a module
+     * @throws IllegalArgumentException if the bytes aren't a valid class file
+     */
+    static @Nullable ScannedClass parse(byte[] bytes) {
+        try {
+            return parse(ByteBuffer.wrap(bytes));
+        } catch (BufferUnderflowException | IndexOutOfBoundsException ex) {
+            throw new IllegalArgumentException("Malformed class file", ex);
+        }
+    }
+
+    private static @Nullable ScannedClass parse(ByteBuffer buffer) {
+        if (buffer.getInt() != MAGIC) {
+            throw new IllegalArgumentException("Not a class file");
+        }
+        buffer.getShort(); // minor version
+        buffer.getShort(); // major version
+
+        // only the offsets of the utf8 entries and the name index of the class entries are remembered,
+        // strings are decoded once something actually refers to them
+        int poolSize = buffer.getShort() & 0xFFFF;
+        int[] offsets = new int[poolSize];
+        byte[] tags = new byte[poolSize];
+        for (int i = 1; i < poolSize; i++) {
+            byte tag = buffer.get();
+            tags[i] = tag;
+            switch (tag) {
+                case 1: // Utf8
+                    offsets[i] = buffer.position();
+                    buffer.position(buffer.position() + 2 + (buffer.getShort() & 0xFFFF));
+                    break;
+                case 7: // Class
+                    offsets[i] = buffer.getShort() & 0xFFFF;
+                    break;
+                case 8: case 16: case 19: case 20: // String, MethodType, Module, Package
+                    skip(buffer, 2);
+                    break;
+                case 15: // MethodHandle
+                    skip(buffer, 3);
+                    break;
+                case 3: case 4: case 9: case 10: case 11: case 12: case 17: case 18: // Integer, Float, refs, NameAndType, Dynamic
+                    skip(buffer, 4);
+                    break;
+                case 5: case 6: // Long, Double take up two entries
+                    skip(buffer, 8);
+                    i++;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown constant pool tag " + tag);
+            }
+        }
+        ConstantPool pool = new ConstantPool(buffer.array(), offsets, tags);
+
+        int accessFlags = buffer.getShort() & 0xFFFF;
+        if ((accessFlags & ACC_MODULE) != 0) {
+            return null;
+        }
+        String name = pool.className(buffer.getShort() & 0xFFFF);
+        int superIndex = buffer.getShort() & 0xFFFF;
+        String superClassName = superIndex == 0 ? null : pool.className(superIndex);
+
+        int interfaceCount = buffer.getShort() & 0xFFFF;
+        List<String> interfaceNames = interfaceCount == 0 ? Collections.emptyList() : new ArrayList<>(interfaceCount);
+        for (int i = 0; i < interfaceCount; i++) {
+            interfaceNames.add(pool.className(buffer.getShort() & 0xFFFF));
+        }
+        List<ScannedMember> fields = readMembers(buffer, pool, false);
+        List<ScannedMember> methods = readMembers(buffer, pool, true);
+        return new ScannedClass(name, superClassName, interfaceNames, accessFlags, fields, methods);
+    }
+
+    private static List<ScannedMember> readMembers(ByteBuffer buffer, ConstantPool pool, boolean methods) {
+        int count = buffer.getShort() & 0xFFFF;
+        List<ScannedMember> members = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int accessFlags = buffer.getShort() & 0xFFFF;
+            String name = pool.utf8(buffer.getShort() & 0xFFFF);
+            String descriptor = pool.utf8(buffer.getShort() & 0xFFFF);
+            int attributeCount = buffer.getShort() & 0xFFFF;
+            for (int a = 0; a < attributeCount; a++) {
+                buffer.getShort(); // name
+                skip(buffer, buffer.getInt());
+            }
+            members.add(new ScannedMember(name, descriptor, accessFlags, methods));
+        }
+        return members;
+    }
+
+    private static void skip(ByteBuffer buffer, int length) {
+        if (length < 0 || length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        buffer.position(buffer.position() + length);
+    }
+
+    private static final class ConstantPool {
+
+        private final byte[] bytes;
+        private final int[] offsets;
+        private final byte[] tags;
+
+        private ConstantPool(byte[] bytes, int[] offsets, byte[] tags) {
+            this.bytes = bytes;
+            this.offsets = offsets;
+            this.tags = tags;
+        }
+
+        private String className(int index) {
+            if (tags[index] != 7) {
+                throw new IllegalArgumentException("Constant pool entry " + index + " isn't a class");
+            }
+            return utf8(offsets[index]).replace('/', '.');
+        }
+
+        /**
+         * Decodes a "modified UTF-8" string. Since supplementary characters are stored as two separately encoded
+         * surrogates, decoding every 1-3 byte sequence to a single char is all that is needed.
+         */
+        private String utf8(int index) {
+            if (tags[index] != 1) {
+                throw new IllegalArgumentException("Constant pool entry " + index + " isn't a string");
+            }
+            int offset = offsets[index];
+            int length = ((bytes[offset] & 0xFF) << 8) | (bytes[offset + 1] & 0xFF);
+            int position = offset + 2;
+            int end = position + length;
+            char[] chars = new char[length];
+            int count = 0;
+            while (position < end) {
+                int b = bytes[position] & 0xFF;
+                if (b < 0x80) {
+                    chars[count++] = (char) b;
+                    position++;
+                } else if ((b & 0xE0) == 0xC0) {
+                    chars[count++] = (char) (((b & 0x1F) << 6) | (bytes[position + 1] & 0x3F));
+                    position += 2;
+                } else {
+                    chars[count++] = (char) (((b & 0x0F) << 12) | ((bytes[position + 1] & 0x3F) << 6) | (bytes[position + 2] & 0x3F));
+                    position += 3;
+                }
+            }
+            return new String(chars, 0, count);
+        }
+
+    }
+
+}
@@ -0,0 +1,152 @@
+package com.github.Aseeef.scan;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Reads the class files of jars and directories (in parallel) without loading any of the classes, so they can be
+ * searched for members of some shape. Matches can then be loaded with {@link ScannedClass#load(ClassLoader)} and
+ * passed to the usual lookups.
+ * <pre>{@code
+ * ScanResult result = new ClasspathScanner().addClasspath().acceptPackage("com.example").scan();
+ * for (ScannedClass match : result.getClassesWithMethod(String.class, int.class)) {
+ *     jar.getMethodsByReturnTypeAndParams(match.load(loader), String.class, int.class);
+ * }
+ * }</pre>
+ */
+public class ClasspathScanner {
+
+    private static final String CLASS_FILE_EXTENSION = ".class";
+
+    private final List<Path> roots = new ArrayList<>();
+    private final List<String> packagePrefixes = new ArrayList<>();
+
+    /**
+     * @param root a jar file or a directory of class files
+     * @return this scanner
+     */
+    public ClasspathScanner addPath(Path root) {
+        roots.add(Objects.requireNonNull(root));
+        return this;
+    }
+
+    /**
+     * Adds every entry of the {@code java.class.path} system property.
+     * @return this scanner
+     */
+    public ClasspathScanner addClasspath() {
+        for (String entry : System.getProperty("java.class.path", "").split(File.pathSeparator)) {
+            if (!entry.isEmpty()) {
+                roots.add(Paths.get(entry));
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Only scan classes of the package (or its sub packages). Without any accepted package, every class is scanned.
+     * @param packageName the name of the package, for example {@code com.example}
+     * @return this scanner
+     */
+    public ClasspathScanner acceptPackage(String packageName) {
+        packagePrefixes.add(packageName.isEmpty() ? "" : packageName.replace('.', '/') + "/");
+        return this;
+    }
+
+    /**
+     * Reads all class files of the added paths. Paths which don't exist are skipped, as are class files that can't be
+     * parsed. If the same class is found in several paths, the first added path wins (like on a classpath).
+     * @return the scanned classes
+     * @throws IOException if a jar or directory can't be read
+     */
+    public ScanResult scan() throws IOException {
+        List<FileSystem> jars = new ArrayList<>();
+        try {
+            List<Path> classFiles = new ArrayList<>();
+            for (Path root : roots) {
+                if (Files.isDirectory(root)) {
+                    collectClassFiles(root, classFiles);
+                } else if (Files.isRegularFile(root)) {
+                    FileSystem jar = FileSystems.newFileSystem(root, (ClassLoader) null);
+                    jars.add(jar);
+                    for (Path jarRoot : jar.getRootDirectories()) {
+                        collectClassFiles(jarRoot, classFiles);
+                    }
+                }
+            }
+
+            List<ScannedClass> classes;
+            try {
+                // the encounter order is kept, so the first occurrence of a class is still the first one afterwards
+                classes = classFiles.parallelStream()
+                        .map(ClasspathScanner::read)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toList());
+            } catch (UncheckedIOException ex) {
+                throw ex.getCause();
+            }
+            Map<String, ScannedClass> byName = new LinkedHashMap<>();
+            for (ScannedClass scannedClass : classes) {
+                byName.putIfAbsent(scannedClass.getName(), scannedClass);
+            }
+            return new ScanResult(new ArrayList<>(byName.values()));
+        } finally {
+            for (FileSystem jar : jars) {
+                jar.close();
+            }
+        }
+    }
+
+    private void collectClassFiles(Path root, List<Path> classFiles) throws IOException {
+        try (Stream<Path> files = Files.walk(root)) {
+            files.filter(file -> isAccepted(root.relativize(file).toString().replace(File.separatorChar, '/')))
+                    .filter(Files::isRegularFile)
+                    .forEach(classFiles::add);
+        }
+    }
+
+    private boolean isAccepted(String relativePath) {
+        // META-INF holds versioned (multi-release) copies and module descriptors, neither of which are "the" class
+        if (!relativePath.endsWith(CLASS_FILE_EXTENSION) || relativePath.startsWith("META-INF/")
+                || relativePath.endsWith("package-info" + CLASS_FILE_EXTENSION)) {
+            return false;
+        }
+        if (packagePrefixes.isEmpty()) {
+            return true;
+        }
+        for (String prefix : packagePrefixes) {
+            if (prefix.isEmpty() ? relativePath.indexOf('/') < 0 : relativePath.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static ScannedClass read(Path classFile) {
+        byte[] bytes;
+        try {
+            bytes = Files.readAllBytes(classFile);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        try {
+            return ClassFileParser.parse(bytes);
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+}
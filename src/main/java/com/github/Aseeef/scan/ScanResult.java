@@ -0,0 +1,92 @@
+package com.github.Aseeef.scan;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The classes found by a {@link ClasspathScanner}. Types are compared by name, so none of the scanned classes are
+ * loaded by the queries. Matching is exact: a field of type {@code ArrayList} is not a field of type {@code List}.
+ */
+public class ScanResult {
+
+    private final List<ScannedClass> classes;
+
+    ScanResult(List<ScannedClass> classes) {
+        this.classes = Collections.unmodifiableList(classes);
+    }
+
+    public List<ScannedClass> getClasses() {
+        return classes;
+    }
+
+    /**
+     * @return the classes declaring a (non-synthetic) method with the return type and exact parameter types
+     */
+    public List<ScannedClass> getClassesWithMethod(Class<?> returnType, Class<?>... parameterTypes) {
+        String[] parameterTypeNames = new String[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            parameterTypeNames[i] = parameterTypes[i].getTypeName();
+        }
+        return getClassesWithMethod(returnType.getTypeName(), parameterTypeNames);
+    }
+
+    /**
+     * Same as {@link #getClassesWithMethod(Class, Class[])}, but for types that should not (or can't) be loaded either.
+     * @param returnTypeName the type name, as by {@link Class#getTypeName()}
+     * @param parameterTypeNames the type names, as by {@link Class#getTypeName()}
+     */
+    public List<ScannedClass> getClassesWithMethod(String returnTypeName, String... parameterTypeNames) {
+        List<ScannedClass> matches = new ArrayList<>();
+        for (ScannedClass scannedClass : classes) {
+            for (ScannedMember method : scannedClass.getMethods()) {
+                if (!method.isInitializer() && !method.isSynthetic()
+                        && method.getTypeName().equals(returnTypeName) && method.hasParameterTypes(parameterTypeNames)) {
+                    matches.add(scannedClass);
+                    break;
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * @return the classes declaring a (non-synthetic) field of the type
+     */
+    public List<ScannedClass> getClassesWithField(Class<?> fieldType) {
+        return getClassesWithField(fieldType.getTypeName());
+    }
+
+    /**
+     * @param fieldTypeName the type name, as by {@link Class#getTypeName()}
+     * @return the classes declaring a (non-synthetic) field of the type
+     */
+    public List<ScannedClass> getClassesWithField(String fieldTypeName) {
+        List<ScannedClass> matches = new ArrayList<>();
+        for (ScannedClass scannedClass : classes) {
+            for (ScannedMember field : scannedClass.getFields()) {
+                if (!field.isSynthetic() && field.getTypeName().equals(fieldTypeName)) {
+                    matches.add(scannedClass);
+                    break;
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Loads (without initializing) all the classes, for passing them to the usual lookups.
+     * @param scannedClasses the classes, for example the result of a query
+     * @param classLoader the class loader which to load the classes with
+     * @return the loaded classes, in the same order
+     * @throws ClassNotFoundException if the class loader can't find one of the classes
+     */
+    public static List<Class<?>> load(List<ScannedClass> scannedClasses, ClassLoader classLoader) throws ClassNotFoundException {
+        List<Class<?>> loaded = new ArrayList<>(scannedClasses.size());
+        for (ScannedClass scannedClass : scannedClasses) {
+            loaded.add(scannedClass.load(classLoader));
+        }
+        return loaded;
+    }
+
+}
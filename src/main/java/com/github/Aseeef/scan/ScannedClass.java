@@ -0,0 +1,90 @@
+package com.github.Aseeef.scan;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.lang.reflect.Modifier;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A class read straight from its class file, without loading it.
+ */
+public final class ScannedClass {
+
+    private final String name;
+    private final @Nullable String superClassName;
+    private final List<String> interfaceNames;
+    private final int accessFlags;
+    private final List<ScannedMember> fields;
+    private final List<ScannedMember> methods;
+
+    ScannedClass(String name, @Nullable String superClassName, List<String> interfaceNames, int accessFlags, List<ScannedMember> fields, List<ScannedMember> methods) {
+        this.name = name;
+        this.superClassName = superClassName;
+        this.interfaceNames = Collections.unmodifiableList(interfaceNames);
+        this.accessFlags = accessFlags;
+        this.fields = Collections.unmodifiableList(fields);
+        this.methods = Collections.unmodifiableList(methods);
+    }
+
+    /**
+     * @return the binary name of the class (like {@link Class#getName()})
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the binary name of the super class, or null for {@link Object}, interfaces have {@link Object} as super class
+     */
+    public @Nullable String getSuperClassName() {
+        return superClassName;
+    }
+
+    public List<String> getInterfaceNames() {
+        return interfaceNames;
+    }
+
+    /**
+     * @return the access flags of the class (the {@link Modifier} bits, plus the synthetic, annotation and enum flags)
+     */
+    public int getAccessFlags() {
+        return accessFlags;
+    }
+
+    public boolean isInterface() {
+        return Modifier.isInterface(accessFlags);
+    }
+
+    /**
+     * @return the declared fields of the class, in the order of the class file
+     */
+    public List<ScannedMember> getFields() {
+        return fields;
+    }
+
+    /**
+     * @return the declared methods (including constructors and static initializers) of the class, in the order of the class file
+     */
+    public List<ScannedMember> getMethods() {
+        return methods;
+    }
+
+    /**
+     * Load (without initializing) the class, for example to then pass it to the lookups of
+     * {@link com.github.Aseeef.JavaAseefianReflections}.
+     *
+     * @param classLoader the class loader which to load the class with
+     * @return the class
+     * @throws ClassNotFoundException if the class loader can't find the class
+     */
+    public Class<?> load(@Nullable ClassLoader classLoader) throws ClassNotFoundException {
+        return Class.forName(name, false, classLoader);
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+}
@@ -0,0 +1,147 @@
+package com.github.Aseeef.scan;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A field or method read straight from a class file, without loading its class.
+ * Types are named like {@link Class#getTypeName()} names them, for example {@code int} or {@code java.lang.String[]}.
+ */
+public final class ScannedMember {
+
+    // from the JVM specification, as java.lang.reflect.Modifier doesn't expose them
+    private static final int ACC_BRIDGE = 0x0040;
+    private static final int ACC_SYNTHETIC = 0x1000;
+
+    private final String name;
+    private final String descriptor;
+    private final int accessFlags;
+    private final boolean method;
+
+    ScannedMember(String name, String descriptor, int accessFlags, boolean method) {
+        this.name = name;
+        this.descriptor = descriptor;
+        this.accessFlags = accessFlags;
+        this.method = method;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the JVM descriptor of the member, for example {@code (Ljava/lang/String;I)V}
+     */
+    public String getDescriptor() {
+        return descriptor;
+    }
+
+    /**
+     * @return the access flags of the member (the {@link Modifier} bits, plus the synthetic and bridge flags)
+     */
+    public int getAccessFlags() {
+        return accessFlags;
+    }
+
+    public boolean isMethod() {
+        return method;
+    }
+
+    /**
+     * @return whether this is a constructor or static initializer rather than a regular method
+     */
+    public boolean isInitializer() {
+        return method && (name.equals("<init>") || name.equals("<clinit>"));
+    }
+
+    public boolean isStatic() {
+        return Modifier.isStatic(accessFlags);
+    }
+
+    /**
+     * @return whether the member was generated by the compiler (including bridge methods)
+     */
+    public boolean isSynthetic() {
+        return (accessFlags & (ACC_SYNTHETIC | (method ? ACC_BRIDGE : 0))) != 0;
+    }
+
+    /**
+     * @return the type of the field, or the return type of the method
+     */
+    public String getTypeName() {
+        return typeName(descriptor, method ? descriptor.indexOf(')') + 1 : 0);
+    }
+
+    /**
+     * @return the parameter types of the method (empty for fields)
+     */
+    public List<String> getParameterTypeNames() {
+        List<String> parameterTypes = new ArrayList<>();
+        if (!method) {
+            return parameterTypes;
+        }
+        int i = 1;
+        while (descriptor.charAt(i) != ')') {
+            parameterTypes.add(typeName(descriptor, i));
+            i = endOfType(descriptor, i);
+        }
+        return parameterTypes;
+    }
+
+    /**
+     * @return whether the method takes exactly the specified parameter types
+     */
+    boolean hasParameterTypes(String[] parameterTypeNames) {
+        int i = 1;
+        for (String parameterTypeName : parameterTypeNames) {
+            if (descriptor.charAt(i) == ')' || !typeName(descriptor, i).equals(parameterTypeName)) {
+                return false;
+            }
+            i = endOfType(descriptor, i);
+        }
+        return descriptor.charAt(i) == ')';
+    }
+
+    private static int endOfType(String descriptor, int start) {
+        int i = start;
+        while (descriptor.charAt(i) == '[') i++;
+        return descriptor.charAt(i) == 'L' ? descriptor.indexOf(';', i) + 1 : i + 1;
+    }
+
+    private static String typeName(String descriptor, int start) {
+        int dimensions = 0;
+        int i = start;
+        while (descriptor.charAt(i) == '[') {
+            dimensions++;
+            i++;
+        }
+        String name;
+        switch (descriptor.charAt(i)) {
+            case 'Z': name = "boolean"; break;
+            case 'B': name = "byte"; break;
+            case 'S': name = "short"; break;
+            case 'C': name = "char"; break;
+            case 'I': name = "int"; break;
+            case 'J': name = "long"; break;
+            case 'F': name = "float"; break;
+            case 'D': name = "double"; break;
+            case 'V': name = "void"; break;
+            default: name = descriptor.substring(i + 1, descriptor.indexOf(';', i)).replace('/', '.');
+        }
+        if (dimensions == 0) {
+            return name;
+        }
+        StringBuilder arrayName = new StringBuilder(name);
+        for (int d = 0; d < dimensions; d++) {
+            arrayName.append("[]");
+        }
+        return arrayName.toString();
+    }
+
+    @Override
+    public String toString() {
+        return name + descriptor;
+    }
+
+}
@@ -0,0 +1,13 @@
+public class CopyTestClass extends SuperTestClass {
+    private final int[] numbers;
+    private final Object[] items;
+    private CopyTestClass next;
+    private SampleEnum sample = SampleEnum.SAMPLE1;
+    private TestClass shared = new TestClass();
+    private StringBuilder skipped = new StringBuilder("skipped");
+    public CopyTestClass(int... numbers) {
+        super("Copy");
+        this.numbers = numbers;
+        this.items = new Object[]{"item", numbers, this};
+    }
+}
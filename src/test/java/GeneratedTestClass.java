@@ -0,0 +1,41 @@
+import com.github.Aseeef.generated.GenerateAccessor;
+
+@GenerateAccessor
+public class GeneratedTestClass {
+    static int instances;
+    final String name;
+    protected int count;
+    protected long total;
+    private long secret = 7;
+
+    public GeneratedTestClass(String name) {
+        this.name = name;
+        instances++;
+    }
+
+    String greet(String greeting, Object... others) {
+        return greeting + " " + name + (others.length == 0 ? "" : " and " + others.length + " others");
+    }
+
+    public int add(int i1, int i2) {
+        count += i1 + i2;
+        return count;
+    }
+
+    long twice(long value) {
+        return value * 2;
+    }
+
+    void fail() {
+        throw new IllegalStateException("Failed");
+    }
+
+    private long secret() {
+        return secret;
+    }
+
+    static String describe(GeneratedTestClass[] classes) {
+        return classes.length + " classes";
+    }
+
+}
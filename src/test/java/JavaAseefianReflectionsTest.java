@@ -1,19 +1,56 @@
+import com.github.Aseeef.BulkResult;
+import com.github.Aseeef.CopyStrategy;
 import com.github.Aseeef.JARConfig;
+import com.github.Aseeef.JARStats;
 import com.github.Aseeef.JavaAseefianReflections;
 import com.github.Aseeef.JavaAseefianReflectionsImpl;
 import com.github.Aseeef.ReflectiveAseefianException;
+import com.github.Aseeef.WarmUpOptions;
+import com.github.Aseeef.WarmUpReport;
 import com.github.Aseeef.cache.AseefianCache;
+import com.github.Aseeef.cache.CacheStats;
+import com.github.Aseeef.cache.ConcurrentCache;
+import com.github.Aseeef.dispatch.MemberDispatcher;
+import com.github.Aseeef.field.FieldAccessor;
+import com.github.Aseeef.generated.GeneratedAccessors;
+import com.github.Aseeef.index.MemberIndex;
+import com.github.Aseeef.invoker.BoundConstructor;
+import com.github.Aseeef.invoker.BoundMethod;
+import com.github.Aseeef.invoker.BoundStaticMethod;
+import com.github.Aseeef.scan.ClasspathScanner;
+import com.github.Aseeef.scan.ScanResult;
+import com.github.Aseeef.scan.ScannedClass;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 class JavaAseefianReflectionsTest {
 
@@ -48,6 +85,22 @@ class JavaAseefianReflectionsTest {
             jar.getEnum(StandardCharsets.class, "UTF8");
         });
         assertEquals(exception2.getExceptionType(), ReflectiveAseefianException.ExceptionType.ILLEGAL_ARGUMENT);
+
+        // the non-throwing lookups, by (case-insensitive) name and by ordinal
+        assertEquals(Optional.of(SampleEnum.SAMPLE3), jar.findEnum(SampleEnum.class, "SAMPLE3", false));
+        assertEquals(Optional.empty(), jar.findEnum(SampleEnum.class, "sample3", false));
+        assertEquals(Optional.of(SampleEnum.SAMPLE3), jar.findEnum(SampleEnum.class, "sample3", true));
+        assertEquals(Optional.empty(), jar.findEnum(SampleEnum.class, "NON_EXISTANT_ENUM", true));
+        assertEquals(Optional.of(SampleEnum.SAMPLE1), jar.findEnum(SampleEnum.class, 0));
+        assertEquals(Optional.empty(), jar.findEnum(SampleEnum.class, 30));
+        assertEquals(Optional.empty(), jar.findEnum(SampleEnum.class, -1));
+
+        // bulk lookups
+        assertEquals(Arrays.asList(SampleEnum.SAMPLE2, SampleEnum.SAMPLE30, SampleEnum.SAMPLE2), jar.getEnums(SampleEnum.class, Arrays.asList("SAMPLE2", "SAMPLE30", "SAMPLE2")));
+        ReflectiveAseefianException exception3 = assertThrows(ReflectiveAseefianException.class, () -> {
+            jar.getEnums(SampleEnum.class, Arrays.asList("SAMPLE2", "SAMPLE31"));
+        });
+        assertEquals(ReflectiveAseefianException.ExceptionType.ENUM_NOT_FOUND, exception3.getExceptionType());
     }
 
     @Test
@@ -164,6 +217,45 @@ class JavaAseefianReflectionsTest {
         assertEquals(exception2.getExceptionType(), ReflectiveAseefianException.ExceptionType.METHOD_NOT_FOUND);
     }
 
+    @Test @SuppressWarnings("unchecked")
+    void methodHandleInvokers() {
+        JARConfig config = new JARConfig();
+        config.setAllowAccessingInheritedMethods(true);
+        config.setUseMethodHandleInvokers(true);
+        JavaAseefianReflections mhJar = JavaAseefianReflections.init(config);
+
+        TestClass tc = new TestClass();
+        // Test var params, boxed to primitive conversion and repeated calls through the cached handle
+        for (int i = 0; i < 3; i++) {
+            String expected1 = tc.testMethodForInvoke("a", 2, 2, 2, 2, 10, new Integer(100));
+            String actual1 = mhJar.invokeMethod(tc, "testMethodForInvoke", "a", 2, 2, 2, 2, 10, new Integer(100));
+            assertEquals(expected1, actual1);
+        }
+
+        // Test primitive return types and default interface methods
+        double actual2 = mhJar.invokeMethod(tc, "boxedParameters", 1, 5.5);
+        assertEquals(tc.boxedParameters(1, 5.5), actual2);
+        int actual3 = mhJar.invokeMethod(tc, "stringInterfaceHash", "Turtles", "are", "cool");
+        assertEquals(tc.stringInterfaceHash("Turtles", "are", "cool"), actual3);
+
+        // Test static methods and constructors
+        List<String> actual4 = mhJar.invokeStaticMethod(List.class, "of", "a", "b", "c", "d");
+        assertEquals(List.of("a", "b", "c", "d"), actual4);
+        ArrayList<Integer> arrayList = mhJar.newInstance(ArrayList.class, List.of(1, 2, 3, 4, 5));
+        assertEquals(5, arrayList.size());
+
+        // Exceptions should be identical to the ones thrown with plain reflections
+        ReflectiveAseefianException error1 = assertThrows(ReflectiveAseefianException.class, () -> {
+            mhJar.invokeMethod(tc, "errorThrowingMethod");
+        });
+        assertEquals(ReflectiveAseefianException.ExceptionType.INVOCATION_EXCEPTION, error1.getExceptionType());
+        assertInstanceOf(NullPointerException.class, error1.getCause());
+        ReflectiveAseefianException error2 = assertThrows(ReflectiveAseefianException.class, () -> {
+            mhJar.newInstance(AbstractSet.class);
+        });
+        assertEquals(ReflectiveAseefianException.ExceptionType.INSTANTIATION_EXCEPTION, error2.getExceptionType());
+    }
+
     @Test
     void getMethods() throws NoSuchMethodException {
 
@@ -207,6 +299,25 @@ class JavaAseefianReflectionsTest {
         Field[] expectedField1 = new Field[]{TestClass.class.getDeclaredField("doubleSet"), TestClass.class.getDeclaredField("integerList"),};
         assertArrayEquals(expectedField1, actualField1);
 
+        // exact and assignable lookups of the same type don't share their results
+        assertEquals(0, jar.getFieldsByType(TestClass.class, Collection.class, true).length);
+        assertArrayEquals(expectedField1, jar.getFieldsByType(TestClass.class, Collection.class, false));
+
+        // (getFieldsByType) super classes, Object and covariant arrays are matched too, primitives only match themselves
+        Field[] referenceFields = new Field[]{TestClass.class.getDeclaredField("testArgs"), TestClass.class.getDeclaredField("doubleSet"), TestClass.class.getDeclaredField("integerList")};
+        assertArrayEquals(referenceFields, jar.getFieldsByType(TestClass.class, Object.class, false));
+        assertArrayEquals(new Field[]{TestClass.class.getDeclaredField("testArgs")}, jar.getFieldsByType(TestClass.class, Object[].class, false));
+        assertArrayEquals(new Field[]{TestClass.class.getDeclaredField("testArgs")}, jar.getFieldsByType(TestClass.class, CharSequence[].class, false));
+        assertArrayEquals(new Field[]{TestClass.class.getDeclaredField("counter")}, jar.getFieldsByType(TestClass.class, long.class, false));
+        assertEquals(0, jar.getFieldsByType(TestClass.class, Long.class, false).length);
+
+        // (getFieldsByType) optionally with the inherited fields, after the class' own fields
+        assertEquals(0, jar.getFieldsByType(TestClass.class, CharSequence.class, false).length);
+        assertArrayEquals(new Field[]{SuperTestClass.class.getDeclaredField("initializeMe")}, jar.getFieldsByType(TestClass.class, CharSequence.class, false, true));
+        assertArrayEquals(new Field[]{SuperTestClass.class.getDeclaredField("theAnswerTo9Plus10"), SuperTestClass.class.getDeclaredField("meaningOfLife")}, jar.getFieldsByType(TestClass.class, int.class, true, true));
+        assertEquals(4, jar.getFieldsByType(TestClass.class, Object.class, false, true).length);
+        assertEquals(SuperTestClass.class.getDeclaredField("initializeMe"), jar.getFieldByType(TestClass.class, String.class, true, true));
+
         // (getFieldByType)
         Field actualField2 = jar.getFieldByType(TestClass.class, String[].class, true);
         Field expectedField23 = TestClass.class.getDeclaredField("testArgs");
@@ -259,4 +370,769 @@ class JavaAseefianReflectionsTest {
         assertEquals("sup dude", jar.getFieldValue(tc, SuperTestClass.class, "initializeMe"));
     }
 
-}
\ No newline at end of file
+    @Test
+    void fieldAccessors() {
+        TestClass tc = jar.newInstance(TestClass.class, "Some", "Args");
+
+        // Test primitive access to a super class field
+        FieldAccessor meaningOfLife = jar.getFieldAccessor(TestClass.class, "meaningOfLife");
+        assertEquals(42, meaningOfLife.getInt(tc));
+        meaningOfLife.setInt(tc, 43);
+        assertEquals(43, meaningOfLife.getInt(tc));
+        assertEquals(43, (Integer) meaningOfLife.get(tc));
+        // accessors are cached
+        assertSame(meaningOfLife, jar.getFieldAccessor(SuperTestClass.class, "meaningOfLife"));
+
+        // Test the different access modes
+        FieldAccessor counter = jar.getFieldAccessor(TestClass.class, "counter");
+        for (FieldAccessor.AccessMode mode : FieldAccessor.AccessMode.values()) {
+            counter.setLong(tc, mode.ordinal(), mode);
+            assertEquals(mode.ordinal(), counter.getLong(tc, mode));
+        }
+
+        // Test that final fields can still be written to
+        FieldAccessor testArgs = jar.getFieldAccessor(TestClass.class, "testArgs");
+        assertArrayEquals(new String[]{"Some", "Args"}, testArgs.get(tc));
+        testArgs.set(tc, new String[]{"Other"});
+        assertArrayEquals(new String[]{"Other"}, testArgs.get(tc));
+
+        // Test reading a field with the wrong type
+        ReflectiveAseefianException error1 = assertThrows(ReflectiveAseefianException.class, () -> {
+            meaningOfLife.getBoolean(tc);
+        });
+        assertEquals(ReflectiveAseefianException.ExceptionType.ILLEGAL_ARGUMENT, error1.getExceptionType());
+    }
+
+    @Test
+    void memberDispatcher() {
+        MemberDispatcher dispatcher = jar.getDispatcher(TestClass.class);
+        assertSame(dispatcher, jar.getDispatcher(TestClass.class));
+        TestClass tc = new TestClass();
+
+        // Test instance methods (with varargs passed as an array)
+        int doSomething = dispatcher.getMethodIndex("doSomething", String.class, Object[].class);
+        assertTrue(dispatcher.isCompiledExecutable(doSomething));
+        assertEquals(tc.doSomething("a", 1, 'b'), dispatcher.invoke(tc, doSomething, "a", new Object[]{1, 'b'}));
+
+        // Test primitive parameters, default interface methods and static methods
+        int boxedParameters = dispatcher.getMethodIndex("boxedParameters", Integer.class, Double.class);
+        assertEquals(tc.boxedParameters(1, 5.5), (Double) dispatcher.invoke(tc, boxedParameters, 1, 5.5));
+        int stringInterfaceHash = dispatcher.getMethodIndex("stringInterfaceHash", String[].class);
+        assertEquals(tc.stringInterfaceHash("Turtles", "are", "cool"), (Integer) dispatcher.invoke(tc, stringInterfaceHash, (Object) new String[]{"Turtles", "are", "cool"}));
+        int getRandomNumber = dispatcher.getMethodIndex("getRandomNumber");
+        assertInstanceOf(Integer.class, dispatcher.invoke(null, getRandomNumber));
+
+        // Test constructors
+        int constructor = dispatcher.getConstructorIndex(String[].class);
+        TestClass newTc = dispatcher.newInstance(constructor, (Object) new String[]{"Dispatched"});
+        assertArrayEquals(new String[]{"Dispatched"}, jar.getFieldValue(newTc, "testArgs"));
+
+        // Test fields, including private fields of a super class
+        int meaningOfLife = dispatcher.getFieldIndex("meaningOfLife");
+        assertEquals(42, (Integer) dispatcher.get(tc, meaningOfLife));
+        dispatcher.set(tc, meaningOfLife, 43);
+        assertEquals(43, (Integer) dispatcher.get(tc, meaningOfLife));
+        int counter = dispatcher.getFieldIndex("counter");
+        dispatcher.set(tc, counter, 10L);
+        assertEquals(10L, (Long) dispatcher.get(tc, counter));
+
+        // Exceptions thrown by the target are wrapped like usual
+        int errorThrowingMethod = dispatcher.getMethodIndex("errorThrowingMethod");
+        ReflectiveAseefianException error1 = assertThrows(ReflectiveAseefianException.class, () -> {
+            dispatcher.invoke(tc, errorThrowingMethod);
+        });
+        assertEquals(ReflectiveAseefianException.ExceptionType.INVOCATION_EXCEPTION, error1.getExceptionType());
+        assertInstanceOf(NullPointerException.class, error1.getCause());
+
+        // Parameters of the wrong type
+        ReflectiveAseefianException error2 = assertThrows(ReflectiveAseefianException.class, () -> {
+            dispatcher.invoke(tc, boxedParameters, "1", 5.5);
+        });
+        assertEquals(ReflectiveAseefianException.ExceptionType.ILLEGAL_ARGUMENT, error2.getExceptionType());
+
+        // The wrong number of parameters, and a missing target of an instance field
+        assertTrue(dispatcher.isCompiledExecutable(boxedParameters));
+        ReflectiveAseefianException error3 = assertThrows(ReflectiveAseefianException.class, () -> dispatcher.invoke(tc, boxedParameters, 1));
+        assertEquals(ReflectiveAseefianException.ExceptionType.ILLEGAL_ARGUMENT, error3.getExceptionType());
+        ReflectiveAseefianException error4 = assertThrows(ReflectiveAseefianException.class, () -> dispatcher.invoke(tc, boxedParameters, 1, 5.5, 2));
+        assertEquals(ReflectiveAseefianException.ExceptionType.ILLEGAL_ARGUMENT, error4.getExceptionType());
+        // (private fields may not be compiled before Java 15, unlike the protected ones)
+        MemberDispatcher generatedDispatcher = jar.getDispatcher(GeneratedTestClass.class);
+        int total = generatedDispatcher.getFieldIndex("total");
+        assertTrue(generatedDispatcher.isCompiledField(total));
+        ReflectiveAseefianException error5 = assertThrows(ReflectiveAseefianException.class, () -> generatedDispatcher.get(null, total));
+        assertEquals(ReflectiveAseefianException.ExceptionType.ILLEGAL_ARGUMENT, error5.getExceptionType());
+    }
+
+    @Test
+    void warmInvokeDoesNotAllocate() {
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadBean.isThreadAllocatedMemorySupported());
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+        TestClass tc = new TestClass();
+        Object[] parameters = new Object[]{"Turtles"};
+
+        // warm up the caches (and let reflections inflate its method accessor)
+        for (int i = 0; i < 10_000; i++) {
+            assertSame(parameters[0], jar.invokeMethod(tc, "echo", parameters));
+        }
+
+        long threadId = Thread.currentThread().getId();
+        long before = threadBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < 10_000; i++) {
+            jar.invokeMethod(tc, "echo", parameters);
+        }
+        long allocated = threadBean.getThreadAllocatedBytes(threadId) - before;
+        // allow for a bit of noise from the measurement itself, but not a single allocation per call
+        assertTrue(allocated < 10_000, "Warm invokeMethod calls allocated " + allocated + " bytes");
+    }
+
+    @Test
+    void boundHandles() {
+        TestClass tc = new TestClass();
+        BoundMethod echo = jar.bindMethod(TestClass.class, "echo", Object.class);
+        assertEquals("Turtles", echo.invoke1(tc, "Turtles"));
+        assertEquals("Turtles", echo.invoke(tc, "Turtles"));
+        assertEquals(3.5, (Double) jar.bindMethod(TestClass.class, "boxedParameters", Integer.class, Double.class).invoke2(tc, 1, 2.5));
+        // varargs are passed as an already collected array
+        assertEquals("Hi[1, 2]", jar.bindMethod(TestClass.class, "doSomething", String.class, Object[].class).invoke2(tc, "Hi", new Object[]{1, 2}));
+
+        BoundStaticMethod random = jar.bindStatic(TestClass.class, "getRandomNumber");
+        assertInstanceOf(Integer.class, random.invoke0());
+        assertThrows(ReflectiveAseefianException.class, () -> jar.bindStatic(TestClass.class, "echo", Object.class));
+        assertThrows(ReflectiveAseefianException.class, () -> jar.bindMethod(TestClass.class, "getRandomNumber"));
+
+        BoundConstructor<TestClass> constructor = jar.bindConstructor(TestClass.class, String[].class);
+        TestClass instance = constructor.invoke1(new String[]{"a", "b"});
+        assertArrayEquals(new String[]{"a", "b"}, jar.getFieldValue(instance, "testArgs"));
+
+        // the wrong number of arguments
+        ReflectiveAseefianException error1 = assertThrows(ReflectiveAseefianException.class, () -> echo.invoke2(tc, "a", "b"));
+        assertEquals(ReflectiveAseefianException.ExceptionType.ILLEGAL_ARGUMENT, error1.getExceptionType());
+        // exceptions thrown by the target are wrapped like usual
+        ReflectiveAseefianException error2 = assertThrows(ReflectiveAseefianException.class, () -> jar.bindMethod(TestClass.class, "errorThrowingMethod").invoke0(tc));
+        assertEquals(ReflectiveAseefianException.ExceptionType.INVOCATION_EXCEPTION, error2.getExceptionType());
+        assertInstanceOf(NullPointerException.class, error2.getCause());
+        // parameters of the wrong type
+        ReflectiveAseefianException error3 = assertThrows(ReflectiveAseefianException.class, () -> jar.bindMethod(TestClass.class, "boxedParameters", Integer.class, Double.class).invoke2(tc, "1", 2.5));
+        assertEquals(ReflectiveAseefianException.ExceptionType.ILLEGAL_ARGUMENT, error3.getExceptionType());
+    }
+
+    @Test
+    void bulkFieldAccess() {
+        TestClass tc = new TestClass("a");
+        Set<Double> doubles = new HashSet<>(Arrays.asList(1.0, 2.0));
+        assertSame(tc, jar.setFieldValues(tc, new String[]{"doubleSet", "counter", "meaningOfLife"}, new Object[]{doubles, 5L, 43}));
+        assertArrayEquals(new Object[]{doubles, 5L, 43, "Hi"}, jar.getFieldValues(tc, "doubleSet", "counter", "meaningOfLife", "initializeMe"));
+        // the plan is cached, so the same access again is a single cache hit
+        long hits = jar.stats().getFieldPlanCacheStats().getHitCount();
+        jar.getFieldValues(tc, "doubleSet", "counter", "meaningOfLife", "initializeMe");
+        assertEquals(hits + 1, jar.stats().getFieldPlanCacheStats().getHitCount());
+
+        // final and primitive fields, and those of the super class, are copied too
+        TestClass copy = jar.copyFields(tc, new TestClass("b"));
+        assertArrayEquals(jar.getFieldValues(tc, "testArgs", "doubleSet", "counter", "meaningOfLife", "initializeMe"),
+                jar.getFieldValues(copy, "testArgs", "doubleSet", "counter", "meaningOfLife", "initializeMe"));
+
+        assertThrows(ReflectiveAseefianException.class, () -> jar.getFieldValues(tc, "counter", "noSuchField"));
+        assertThrows(ReflectiveAseefianException.class, () -> jar.setFieldValues(tc, new String[]{"counter"}, new Object[0]));
+        assertThrows(ReflectiveAseefianException.class, () -> jar.copyFields(tc, new SuperTestClass("c")));
+    }
+
+    @Test
+    void mapper() {
+        MappedTestClass obj = jar.fromMap(MappedTestClass.class, Collections.singletonMap("count", 7));
+        Map<String, Object> map = jar.toMap(obj);
+        assertEquals(Arrays.asList("count", "name", "initializeMe", "meaningOfLife"), new ArrayList<>(map.keySet()));
+        assertEquals(7, map.get("count"));
+        // missing entries keep their initial value
+        assertEquals("default", map.get("name"));
+        assertEquals(42, map.get("meaningOfLife"));
+
+        map.put("name", "Turtles");
+        map.put("initializeMe", null);
+        map.put("unknown", "ignored");
+        assertEquals(map.entrySet().stream().filter(e -> !e.getKey().equals("unknown")).collect(Collectors.toList()),
+                new ArrayList<>(jar.toMap(jar.fromMap(MappedTestClass.class, map)).entrySet()));
+
+        // the wrong type for a field
+        assertThrows(ReflectiveAseefianException.class, () -> jar.fromMap(MappedTestClass.class, Collections.singletonMap("count", "7")));
+    }
+
+    @Test
+    void deepCopy() {
+        JavaAseefianReflections copier = JavaAseefianReflections.init(new JARConfig()
+                .setCopyStrategy(TestClass.class, CopyStrategy.SHALLOW)
+                .setCopyStrategy(CharSequence.class, CopyStrategy.SKIP));
+        CopyTestClass original = new CopyTestClass(1, 2, 3);
+        jar.setFieldValue(original, "next", new CopyTestClass(4));
+        jar.setFieldValue(jar.getFieldValue(original, "next"), "next", original);
+
+        CopyTestClass copy = copier.deepCopy(original);
+        assertNotSame(original, copy);
+        int[] numbers = jar.getFieldValue(copy, "numbers");
+        assertNotSame(jar.getFieldValue(original, "numbers"), numbers);
+        assertArrayEquals(new int[]{1, 2, 3}, numbers);
+        assertEquals(42, (Integer) jar.getFieldValue(copy, "meaningOfLife"));
+        assertEquals("Copy", jar.getFieldValue(copy, "initializeMe"));
+        // the cycles and shared references are kept
+        CopyTestClass next = jar.getFieldValue(copy, "next");
+        assertNotSame(jar.getFieldValue(original, "next"), next);
+        assertSame(copy, jar.getFieldValue(next, "next"));
+        Object[] items = jar.getFieldValue(copy, "items");
+        assertSame(numbers, items[1]);
+        assertSame(copy, items[2]);
+        // immutable and shallow types are shared, skipped types are left out
+        assertSame(((Object[]) jar.getFieldValue(original, "items"))[0], items[0]);
+        assertSame(SampleEnum.SAMPLE1, jar.getFieldValue(copy, "sample"));
+        assertSame(jar.getFieldValue(original, "shared"), jar.getFieldValue(copy, "shared"));
+        assertNull(jar.getFieldValue(copy, "skipped"));
+
+        assertNull(copier.deepCopy(null));
+        assertEquals("Turtles", copier.deepCopy("Turtles"));
+    }
+
+    @Test @SuppressWarnings("unchecked")
+    void deepCopyCollections() {
+        // keys which use their identity hash code, so the copied keys have other hash codes than the original ones
+        Object key = new Object();
+        Map<Object, String> map = new HashMap<>();
+        map.put(key, "value");
+        Set<Object> set = new HashSet<>(Collections.singleton(key));
+        TreeMap<String, List<Object>> sorted = new TreeMap<>(Comparator.reverseOrder());
+        sorted.put("a", new ArrayList<>(Collections.singletonList(key)));
+        sorted.put("b", new ArrayList<>());
+        List<Object> unmodifiable = Collections.unmodifiableList(new ArrayList<>());
+
+        Object[] copy = jar.deepCopy(new Object[]{key, map, set, sorted, unmodifiable});
+        Object copiedKey = copy[0];
+        assertNotSame(key, copiedKey);
+        Map<Object, String> copiedMap = (Map<Object, String>) copy[1];
+        assertNotSame(map, copiedMap);
+        assertEquals("value", copiedMap.get(copiedKey));
+        assertNull(copiedMap.get(key));
+        assertTrue(((Set<Object>) copy[2]).contains(copiedKey));
+        TreeMap<String, List<Object>> copiedSorted = (TreeMap<String, List<Object>>) copy[3];
+        assertEquals(Arrays.asList("b", "a"), new ArrayList<>(copiedSorted.keySet()));
+        assertSame(copiedKey, copiedSorted.get("a").get(0));
+        assertNotSame(sorted.get("b"), copiedSorted.get("b"));
+        // collections which can't be rebuilt are shared
+        assertSame(unmodifiable, copy[4]);
+    }
+
+    @Test
+    @SneakyThrows
+    void exportAndImportSignatures() {
+        JavaAseefianReflections exporter = JavaAseefianReflections.init();
+        TestClass tc = new TestClass();
+        Method boxedParameters = exporter.getMethodByNameAndParams(TestClass.class, "boxedParameters", Integer.class, Double.class);
+        exporter.invokeMethod(tc, "echo", "Turtles");
+        exporter.invokeMethod(tc, "doSomething", "a", null, 1);
+        Constructor<TestClass> constructor = exporter.getConstructor(TestClass.class, String[].class);
+        Field counter = exporter.getFieldByName(TestClass.class, "counter");
+        Field meaningOfLife = exporter.getFieldByName(TestClass.class, "meaningOfLife");
+        Field[] listFields = exporter.getFieldsByType(TestClass.class, List.class, true);
+        Path file = Files.createTempFile("jar", ".sig");
+        exporter.exportSignatures(file);
+
+        JavaAseefianReflections importer = JavaAseefianReflections.init();
+        importer.importSignatures(file);
+        assertEquals(boxedParameters, importer.getMethodByNameAndParams(TestClass.class, "boxedParameters", Integer.class, Double.class));
+        assertEquals("Turtles", importer.invokeMethod(tc, "echo", "Turtles"));
+        assertEquals("a[null, 1]", importer.invokeMethod(tc, "doSomething", "a", null, 1));
+        assertEquals(constructor, importer.getConstructor(TestClass.class, String[].class));
+        assertEquals(counter, importer.getFieldByName(TestClass.class, "counter"));
+        assertEquals(meaningOfLife, importer.getFieldByName(TestClass.class, "meaningOfLife"));
+        assertArrayEquals(listFields, importer.getFieldsByType(TestClass.class, List.class, true));
+        // nothing had to be resolved again
+        assertEquals(0L, importer.stats().getExecutableCacheStats().getLoadCount());
+        assertEquals(0L, importer.stats().getFieldCacheStats().getLoadCount());
+        // lookups which weren't exported are still resolved like usual
+        assertEquals(7, (Integer) importer.invokeMethod(tc, "echo", 7));
+        assertNotEquals(0L, importer.stats().getExecutableCacheStats().getLoadCount());
+
+        // a truncated file is refused as a whole
+        byte[] exported = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(exported, exported.length - 10));
+        assertThrows(IOException.class, () -> importer.importSignatures(file));
+        // while a class whose lookups are corrupt has them resolved like usual
+        ByteBuffer corrupt = ByteBuffer.wrap(exported);
+        corrupt.position(12);
+        // skip the name of the (only) class and the length of its lookups, to claim more lookups than there are
+        int lookupCountOffset = corrupt.position() + 2 + (corrupt.getShort() & 0xFFFF) + 4;
+        corrupt.putInt(lookupCountOffset, corrupt.getInt(lookupCountOffset) + 5);
+        Files.write(file, exported);
+        JavaAseefianReflections corruptImporter = JavaAseefianReflections.init();
+        corruptImporter.importSignatures(file);
+        assertEquals(boxedParameters, corruptImporter.getMethodByNameAndParams(TestClass.class, "boxedParameters", Integer.class, Double.class));
+        assertEquals(counter, corruptImporter.getFieldByName(TestClass.class, "counter"));
+        assertNotEquals(0L, corruptImporter.stats().getExecutableCacheStats().getLoadCount());
+        assertNotEquals(0L, corruptImporter.stats().getFieldCacheStats().getLoadCount());
+
+        Files.write(file, new byte[]{1, 2, 3});
+        assertThrows(IOException.class, () -> importer.importSignatures(file));
+        Files.delete(file);
+    }
+
+    @Test
+    @SneakyThrows
+    void generatedAccessors() {
+        GeneratedAccessors generated = GeneratedAccessors.of(GeneratedTestClass.class);
+        assertNotNull(generated, "The annotation processor didn't generate the accessor");
+        assertNotEquals(-1, generated.indexOf(GeneratedTestClass.class.getDeclaredMethod("add", int.class, int.class)));
+        assertNotEquals(-1, generated.indexOf(GeneratedTestClass.class.getDeclaredField("count")));
+        // private members can't be reached by the generated code, so those fall back to reflections
+        assertEquals(-1, generated.indexOf(GeneratedTestClass.class.getDeclaredMethod("secret")));
+        assertEquals(-1, generated.indexOf(GeneratedTestClass.class.getDeclaredField("secret")));
+        assertNull(GeneratedAccessors.of(TestClass.class));
+
+        GeneratedTestClass obj = jar.newInstance(GeneratedTestClass.class, "Bob");
+        assertEquals("Hello Bob and 1 others", jar.invokeMethod(obj, "greet", "Hello", 1));
+        assertEquals("Hello Bob and 2 others", jar.invokeMethod(obj, "greet", "Hello", 1, 2));
+        assertEquals(3, (Integer) jar.invokeMethod(obj, "add", 1, 2));
+        assertEquals(7L, (Long) jar.invokeMethod(obj, "secret"));
+        assertEquals("1 classes", jar.invokeStaticMethod(GeneratedTestClass.class, "describe", (Object) new GeneratedTestClass[]{obj}));
+
+        jar.setFieldValue(obj, "count", 10);
+        assertEquals(10, (Integer) jar.getFieldValue(obj, "count"));
+        assertEquals("Bob", jar.getFieldValue(obj, "name"));
+        jar.setStaticField(GeneratedTestClass.class, "instances", 0);
+        assertEquals(0, (Integer) jar.getStaticFieldValue(GeneratedTestClass.class, "instances"));
+        jar.setFieldValue(obj, "secret", 8L);
+        assertEquals(8L, (Long) jar.getFieldValue(obj, "secret"));
+
+        // arguments and field values are unboxed and widened, like reflections do
+        assertNotEquals(-1, generated.indexOf(GeneratedTestClass.class.getDeclaredMethod("twice", long.class)));
+        assertEquals(10L, (Long) jar.invokeMethod(obj, "twice", 5));
+        jar.setFieldValue(obj, "total", 7);
+        assertEquals(7L, (Long) jar.getFieldValue(obj, "total"));
+        jar.setFieldValue(obj, "total", (short) 3);
+        assertEquals(3L, obj.total);
+        ReflectiveAseefianException narrowing = assertThrows(ReflectiveAseefianException.class, () -> jar.setFieldValue(obj, "count", 10L));
+        assertEquals(ReflectiveAseefianException.ExceptionType.ILLEGAL_ARGUMENT, narrowing.getExceptionType());
+
+        // exceptions are the same as with reflections
+        ReflectiveAseefianException error1 = assertThrows(ReflectiveAseefianException.class, () -> jar.invokeMethod(obj, "fail"));
+        assertEquals(ReflectiveAseefianException.ExceptionType.INVOCATION_EXCEPTION, error1.getExceptionType());
+        assertInstanceOf(IllegalStateException.class, error1.getCause());
+        ReflectiveAseefianException error2 = assertThrows(ReflectiveAseefianException.class, () -> jar.setFieldValue(obj, "count", "ten"));
+        assertEquals(ReflectiveAseefianException.ExceptionType.ILLEGAL_ARGUMENT, error2.getExceptionType());
+    }
+
+    @Test
+    void memberIndex() {
+        MemberIndex index = MemberIndex.of(TestClass.class);
+        assertSame(index, MemberIndex.of(TestClass.class));
+
+        // overloads are bucketed by the number of arguments they may take, varargs methods being in every bucket
+        assertEquals(2, index.getMethods("doSomething3").length);
+        assertEquals(2, index.getMethods("doSomething3", 2).length);
+        assertEquals(0, index.getMethods("doSomething3", 3).length);
+        assertEquals(1, index.getMethods("doSomething", 5).length);
+        assertEquals(2, index.getMethods("doSomething4", 1).length);
+        assertEquals(0, index.getMethods("nonExistentMethod", 0).length);
+        assertEquals(1, index.getConstructors(3).length);
+
+        // fields are indexed by name and by exact type
+        assertEquals("doubleSet", index.getField("doubleSet").getName());
+        assertNull(index.getField("meaningOfLife"));
+        assertEquals(1, index.getFieldsOfType(Set.class).length);
+        assertEquals(0, index.getFieldsOfType(Collection.class).length);
+        assertTrue(MemberIndex.of(InnerInterface.class).hasDefaultMethods());
+
+        // super classes are searched before the interfaces which carry default methods
+        assertArrayEquals(new Class<?>[]{TestClass.class, SuperTestClass.class, Object.class}, index.getSuperClassChain());
+        assertArrayEquals(new Class<?>[]{TestClass.class, SuperTestClass.class, Object.class, InnerInterface.class}, index.getMethodResolutionOrder(true));
+        assertArrayEquals(new Class<?>[]{TestClass.class}, index.getMethodResolutionOrder(false));
+
+        // the indexed members are shared, so the lookups hand out copies to make accessible (and not final)
+        Field resolved = jar.getFieldByName(MappedTestClass.class, "IGNORED");
+        Field indexed = MemberIndex.of(MappedTestClass.class).getField("IGNORED");
+        assertNotSame(indexed, resolved);
+        assertTrue(Modifier.isFinal(indexed.getModifiers()));
+        assertFalse(indexed.canAccess(null));
+        assertTrue(jar.getFieldByType(TestClass.class, Set.class, true).canAccess(new TestClass()));
+        assertFalse(index.getField("doubleSet").canAccess(new TestClass()));
+        // which leaves the static final fields alone for the instances which don't allow modifying them
+        ReflectiveAseefianException error = assertThrows(ReflectiveAseefianException.class, () -> JavaAseefianReflections.init().setStaticField(MappedTestClass.class, "IGNORED", "modified"));
+        assertEquals(ReflectiveAseefianException.ExceptionType.ILLEGAL_ACCESS, error.getExceptionType());
+    }
+
+    @Test @SneakyThrows
+    void concurrentCache() {
+        ConcurrentCache<Integer, String> cache = new ConcurrentCache<>(1000);
+        AtomicInteger mixedUpEntries = new AtomicInteger();
+        Thread[] threads = new Thread[8];
+        for (int t = 0; t < threads.length; t++) {
+            int offset = t * 10_000;
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    cache.put(offset + i, String.valueOf(offset + i));
+                    String value = cache.getIfPresent(offset + i / 2);
+                    // an entry may have been evicted, but must never be mixed up with another one
+                    if (value != null && !value.equals(String.valueOf(offset + i / 2))) {
+                        mixedUpEntries.incrementAndGet();
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(0, mixedUpEntries.get());
+        assertTrue(cache.size() <= 1000);
+
+        // recently read entries survive the eviction
+        ConcurrentCache<Integer, String> small = new ConcurrentCache<>(10);
+        small.put(0, "zero");
+        for (int i = 1; i < 100; i++) {
+            assertEquals("zero", small.getIfPresent(0));
+            small.put(i, String.valueOf(i));
+        }
+        assertEquals(10, small.size());
+
+        // and the cache can back the library
+        JavaAseefianReflections concurrentJar = JavaAseefianReflections.init(new JARConfig().setUseConcurrentCache(true));
+        assertEquals("ab", concurrentJar.invokeMethod(new TestClass(), "doSomething3", "a", 'b'));
+    }
+
+    @Test
+    void failedLookups() {
+        TestClass tc = new TestClass();
+        ReflectiveAseefianException error1 = assertThrows(ReflectiveAseefianException.class, () -> {
+            jar.invokeMethod(tc, "nonExistentMethod", 1);
+        });
+        // the second lookup fails from the cache, but with the same error
+        ReflectiveAseefianException error2 = assertThrows(ReflectiveAseefianException.class, () -> {
+            jar.invokeMethod(tc, "nonExistentMethod", 1);
+        });
+        assertNotSame(error1, error2);
+        assertEquals(ReflectiveAseefianException.ExceptionType.METHOD_NOT_FOUND, error2.getExceptionType());
+        assertEquals(error1.getMessage(), error2.getMessage());
+
+        assertThrows(ReflectiveAseefianException.class, () -> {
+            jar.getFieldByName(TestClass.class, "nonExistentField");
+        });
+        AseefianCache<Object, Object> failedLookupCache = jar.getFieldValue(jar, "failedLookupCache");
+        Object fieldSignature = jar.newInstance(JavaAseefianReflectionsImpl.FieldSignature.class, TestClass.class, "nonExistentField");
+        assertNotNull(failedLookupCache.getIfPresent(fieldSignature));
+        jar.invalidateCaches();
+        assertNull(failedLookupCache.getIfPresent(fieldSignature));
+        // a lookup which fails can still succeed with the right parameters afterwards
+        assertEquals("ab", jar.invokeMethod(tc, "doSomething3", "a", 'b'));
+
+        // failed lookups can expire
+        JavaAseefianReflections expiringJar = JavaAseefianReflections.init(new JARConfig().setFailedLookupTtlMillis(0));
+        assertThrows(ReflectiveAseefianException.class, () -> {
+            expiringJar.getFieldByName(TestClass.class, "nonExistentField");
+        });
+        AseefianCache<Object, Object> expiringCache = jar.getFieldValue(expiringJar, "failedLookupCache");
+        assertTrue((Boolean) jar.invokeMethod(expiringCache.getIfPresent(fieldSignature), "isExpired"));
+    }
+
+    @Test
+    void stats() {
+        JavaAseefianReflections statsJar = JavaAseefianReflections.init(new JARConfig().setExecutableCacheSize(1));
+        TestClass tc = new TestClass();
+        statsJar.invokeMethod(tc, "doSomething3", "a", 'b');
+        CacheStats coldStats = statsJar.stats().getExecutableCacheStats();
+        assertEquals(0, coldStats.getHitCount());
+        assertTrue(coldStats.getMissCount() > 0);
+        assertEquals(coldStats.getMissCount(), coldStats.getLoadCount());
+        assertTrue(coldStats.getTotalLoadTimeNanos() > 0);
+        statsJar.invokeMethod(tc, "doSomething3", "a", 'b');
+        CacheStats warmStats = statsJar.stats().getExecutableCacheStats();
+        assertEquals(1, warmStats.getHitCount());
+        assertEquals(coldStats.getMissCount(), warmStats.getMissCount());
+
+        statsJar.getFieldValue(tc, "doubleSet");
+        statsJar.getFieldValue(tc, "doubleSet");
+        JARStats stats = statsJar.stats();
+        assertEquals(1, stats.getFieldCacheStats().getMissCount());
+        assertEquals(1, stats.getFieldCacheStats().getHitCount());
+        assertEquals(0.5, stats.getFieldCacheStats().getHitRate());
+
+        // the cache only holds one executable, so looking up a second one evicts the first
+        statsJar.invokeMethod(tc, "echo", "a");
+        assertEquals(1, statsJar.stats().getExecutableCacheStats().getEvictionCount());
+    }
+
+    @Test @SneakyThrows
+    void flightRecorderEvents() {
+        JavaAseefianReflections jfrJar = JavaAseefianReflections.init(new JARConfig().setJfrLookupThresholdMillis(0).setJfrInvocationThresholdMillis(0));
+        Path recordingFile = Files.createTempFile("jar", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("com.github.Aseeef.Lookup");
+            recording.enable("com.github.Aseeef.Invocation");
+            recording.start();
+            TestClass tc = new TestClass();
+            jfrJar.invokeMethod(tc, "doSomething3", "a", 'b');
+            jfrJar.invokeMethod(tc, "doSomething3", "a", 'b');
+            jfrJar.newInstance(TestClass.class, "a", "b");
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile);
+        Files.delete(recordingFile);
+        List<RecordedEvent> lookups = new ArrayList<>();
+        List<RecordedEvent> invocations = new ArrayList<>();
+        for (RecordedEvent event : events) {
+            if (event.getEventType().getName().equals("com.github.Aseeef.Lookup")) lookups.add(event);
+            if (event.getEventType().getName().equals("com.github.Aseeef.Invocation")) invocations.add(event);
+        }
+        // the second lookup of the method is answered from the cache
+        assertTrue(lookups.stream().anyMatch(e -> "doSomething3".equals(e.getString("member")) && !e.getBoolean("cacheHit")));
+        assertTrue(lookups.stream().anyMatch(e -> "doSomething3".equals(e.getString("member")) && e.getBoolean("cacheHit")));
+        assertEquals("TestClass", lookups.get(0).getClass("lookupClass").getName());
+        assertEquals(3, invocations.size());
+        assertTrue(invocations.get(2).getBoolean("constructor"));
+
+        // by default no events are created at all
+        Recording disabledRecording = new Recording();
+        disabledRecording.enable("com.github.Aseeef.Lookup");
+        disabledRecording.start();
+        jar.invokeMethod(new TestClass(), "doSomething3", "a", 'b');
+        disabledRecording.stop();
+        disabledRecording.dump(recordingFile);
+        disabledRecording.close();
+        assertTrue(RecordingFile.readAllEvents(recordingFile).stream().noneMatch(e -> e.getEventType().getName().startsWith("com.github.Aseeef")));
+        Files.delete(recordingFile);
+    }
+
+    @Test
+    @SneakyThrows
+    void classpathScanner() {
+        Path testClasses = Paths.get(JavaAseefianReflectionsTest.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        ScanResult result = new ClasspathScanner().addPath(testClasses).acceptPackage("").scan();
+        assertTrue(result.getClasses().stream().anyMatch(c -> c.getName().equals("SuperTestClass")));
+        assertTrue(result.getClasses().stream().noneMatch(c -> c.getName().contains(".")));
+
+        // matches are found by the shape of their members, without the classes being initialized (or even loaded)
+        List<ScannedClass> methodMatches = result.getClassesWithMethod(String[].class, int.class, Map.class);
+        assertEquals(1, methodMatches.size());
+        assertEquals("ScanTestClass", methodMatches.get(0).getName());
+        assertEquals(Collections.singletonList("ScanTestClass"), result.getClassesWithField("char[][]").stream().map(ScannedClass::getName).collect(Collectors.toList()));
+        assertTrue(result.getClassesWithMethod(String[].class, int.class).isEmpty());
+        assertNull(System.getProperty("ScanTestClass.initialized"));
+
+        // the matches can be handed to the usual lookups
+        List<ScannedClass> boxedMatches = result.getClassesWithMethod(double.class, Integer.class, Double.class);
+        assertEquals(Collections.singletonList(TestClass.class), ScanResult.load(boxedMatches, getClass().getClassLoader()));
+        assertEquals(1, jar.getMethodsByReturnTypeAndParams(boxedMatches.get(0).load(getClass().getClassLoader()), double.class, Integer.class, Double.class).length);
+        assertTrue(result.getClassesWithField(long.class).stream().anyMatch(c -> c.getName().equals("TestClass")));
+
+        // jars are read the same way
+        Path jarFile = Files.createTempFile("scan", ".jar");
+        try {
+            try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jarFile))) {
+                out.putNextEntry(new JarEntry("ScanTestClass.class"));
+                out.write(Files.readAllBytes(testClasses.resolve("ScanTestClass.class")));
+                out.closeEntry();
+            }
+            ScanResult jarResult = new ClasspathScanner().addPath(jarFile).scan();
+            assertEquals(1, jarResult.getClasses().size());
+            assertEquals(methodMatches.get(0).getMethods().size(), jarResult.getClasses().get(0).getMethods().size());
+            assertTrue(new ClasspathScanner().addPath(jarFile).acceptPackage("com.example").scan().getClasses().isEmpty());
+        } finally {
+            Files.delete(jarFile);
+        }
+        assertNull(System.getProperty("ScanTestClass.initialized"));
+    }
+
+    @Test
+    void warmUp() {
+        JARConfig config = new JARConfig().setAllowAccessingInheritedMethods(true).setAllowAccessingInheritedFields(true);
+        JavaAseefianReflections warmJar = JavaAseefianReflections.init(config);
+        WarmUpReport report = warmJar.warmUp(Arrays.asList(TestClass.class, SuperTestClass.class, TestClass.class), new WarmUpOptions());
+        assertEquals(2, report.getClassCount());
+        assertNotEquals(0L, report.getExecutableEntries());
+        assertNotEquals(0L, report.getInvokerEntries());
+        // TestClass declares 4 fields and inherits 3, SuperTestClass declares 3
+        assertEquals(10L, report.getFieldEntries());
+        // while the inherited fields are looked up on both classes, they only get a single accessor
+        assertEquals(7L, report.getFieldAccessorEntries());
+        assertTrue(report.getElapsedNanos() > 0);
+
+        // the lookups made afterwards are all hits (the inherited default method included)
+        long loads = warmJar.stats().getExecutableCacheStats().getLoadCount() + warmJar.stats().getFieldCacheStats().getLoadCount();
+        TestClass tc = new TestClass("a");
+        assertEquals(3.0, (double) warmJar.invokeMethod(tc, "boxedParameters", 1, 2.0));
+        assertEquals(42, (int) warmJar.getFieldValue(tc, "meaningOfLife"));
+        assertEquals(loads, warmJar.stats().getExecutableCacheStats().getLoadCount() + warmJar.stats().getFieldCacheStats().getLoadCount());
+
+        // warming up again creates nothing new, and the warm-up can run on the caller's thread
+        WarmUpReport again = warmJar.warmUp(Collections.singletonList(TestClass.class), new WarmUpOptions().setExecutor(Runnable::run));
+        assertEquals(0L, again.getTotalEntries());
+        assertEquals(report.getFailures().keySet().stream().filter(m -> m.getDeclaringClass() == TestClass.class).count(), again.getFailures().size());
+
+        // without inherited members only the declared ones are resolved
+        JavaAseefianReflections declaredJar = JavaAseefianReflections.init(config);
+        WarmUpReport declared = declaredJar.warmUp(Collections.singletonList(TestClass.class), new WarmUpOptions().setIncludeInheritedMembers(false).setCreateInvokers(false));
+        assertEquals(4L, declared.getFieldEntries());
+        assertEquals(0L, declared.getInvokerEntries() + declared.getFieldAccessorEntries());
+    }
+
+    @Test
+    void overloadResolution() {
+        OverloadTestClass o = new OverloadTestClass();
+        // the most specific overload is picked, like the compiler would
+        assertEquals("String", jar.invokeMethod(o, "pick", "a"));
+        assertEquals("CharSequence", jar.invokeMethod(o, "pick", new StringBuilder()));
+        assertEquals("Object", jar.invokeMethod(o, "pick", 1));
+        assertEquals("String", jar.invokeMethod(o, "pick", (Object) null));
+        // no boxing is needed for number(Integer), while number(long) needs unboxing
+        assertEquals("Integer", jar.invokeMethod(o, "number", 1));
+        assertEquals("Object", jar.invokeMethod(o, "number", 1L));
+        assertEquals(long.class, jar.getMethodByNameAndParams(OverloadTestClass.class, "number", long.class).getParameterTypes()[0]);
+        // widening primitive conversions
+        assertEquals(long.class, jar.getMethodByNameAndParams(OverloadTestClass.class, "widen", int.class).getParameterTypes()[0]);
+
+        // fixed arity overloads win over varargs ones, and varargs may be called with no varargs at all
+        assertEquals("fixed", jar.invokeMethod(o, "join", "a", "b"));
+        assertEquals("varargs1", jar.invokeMethod(o, "join", "a"));
+        assertEquals("varargs3", jar.invokeMethod(o, "join", "a", "b", "c"));
+        assertEquals("varargs0", jar.invokeMethod(o, "join"));
+        assertEquals(List.of("a", "b"), jar.invokeStaticMethod(List.class, "of", "a", "b"));
+
+        // the bridge method compareTo(Object) loses against the method it bridges to
+        assertEquals(0, (int) jar.invokeMethod(o, "compareTo", new OverloadTestClass()));
+
+        // all the applicable overloads can still be listed, the most specific first
+        Method[] methods = jar.getMethodsByReturnTypeAndParams(OverloadTestClass.class, String.class, String.class);
+        assertEquals("pick", methods[0].getName());
+        assertEquals(String.class, methods[0].getParameterTypes()[0]);
+        // and listing nothing is not a failure, even once the empty result is cached
+        assertEquals(0, jar.getMethodsByReturnTypeAndParams(StringBuilder.class, UUID.class).length);
+        assertEquals(0, jar.getMethodsByReturnTypeAndParams(StringBuilder.class, UUID.class).length);
+        ReflectiveAseefianException notFound = assertThrows(ReflectiveAseefianException.class, () -> jar.getMethodByReturnTypeAndParams(StringBuilder.class, UUID.class));
+        assertEquals(ReflectiveAseefianException.ExceptionType.METHOD_NOT_FOUND, notFound.getExceptionType());
+        // nor does the failed lookup turn the listing into a failure
+        assertThrows(ReflectiveAseefianException.class, () -> jar.getMethodByReturnTypeAndParams(StringBuilder.class, UUID.class, UUID.class));
+        assertEquals(0, jar.getMethodsByReturnTypeAndParams(StringBuilder.class, UUID.class, UUID.class).length);
+    }
+
+    @Test
+    void primitiveInvocations() {
+        TestClass tc = new TestClass();
+        BoundMethod square = jar.bindMethod(TestClass.class, "square", int.class);
+        assertEquals(49, square.invokeInt(tc, 7));
+        // the result may be widened, and so may the arguments
+        assertEquals(49L, square.invokeLong(tc, 7));
+        assertEquals(49.0, square.invokeDouble(tc, (short) 7));
+        assertEquals(49, square.invokeInt(tc, (Object) 7));
+        // but nothing is ever narrowed
+        ReflectiveAseefianException error1 = assertThrows(ReflectiveAseefianException.class, () -> square.invokeInt(tc, 7L));
+        assertEquals(ReflectiveAseefianException.ExceptionType.ILLEGAL_ARGUMENT, error1.getExceptionType());
+        ReflectiveAseefianException error2 = assertThrows(ReflectiveAseefianException.class, () -> square.invokeBoolean(tc, 7));
+        assertEquals(ReflectiveAseefianException.ExceptionType.ILLEGAL_ARGUMENT, error2.getExceptionType());
+        ReflectiveAseefianException error3 = assertThrows(ReflectiveAseefianException.class, () -> square.invokeInt(tc, 7, 7));
+        assertEquals(ReflectiveAseefianException.ExceptionType.ILLEGAL_ARGUMENT, error3.getExceptionType());
+        ReflectiveAseefianException error4 = assertThrows(ReflectiveAseefianException.class, () -> square.invokeInt("not a TestClass", 7));
+        assertEquals(ReflectiveAseefianException.ExceptionType.ILLEGAL_ARGUMENT, error4.getExceptionType());
+
+        BoundStaticMethod isEven = jar.bindStatic(TestClass.class, "isEven", long.class);
+        assertTrue(isEven.invokeBoolean(4));
+        assertFalse(isEven.invokeBoolean(5L));
+        assertEquals(TestClass.getLuckyNumber(), jar.bindStatic(TestClass.class, "getLuckyNumber").invokeInt());
+
+        // methods returning nothing have no primitive result
+        BoundMethod errorThrowingMethod = jar.bindMethod(TestClass.class, "errorThrowingMethod");
+        ReflectiveAseefianException error5 = assertThrows(ReflectiveAseefianException.class, () -> errorThrowingMethod.invokeInt(tc));
+        assertEquals(ReflectiveAseefianException.ExceptionType.ILLEGAL_ARGUMENT, error5.getExceptionType());
+    }
+
+    @Test @SneakyThrows
+    void classLoaderPartitions() {
+        JavaAseefianReflections partitionedJar = JavaAseefianReflections.init(new JARConfig().setPartitionCachesByClassLoader(true));
+        JavaAseefianReflections sharedJar = JavaAseefianReflections.init(new JARConfig());
+        URL testClasses = TestClass.class.getProtectionDomain().getCodeSource().getLocation();
+        // another copy of the test classes, which doesn't delegate to the application class loader (like a plugin)
+        URLClassLoader pluginLoader = new URLClassLoader(new URL[]{testClasses}, null);
+        Object pluginInstance = pluginLoader.loadClass("TestClass").getConstructor(String[].class).newInstance((Object) new String[0]);
+        assertNotSame(TestClass.class, pluginInstance.getClass());
+        TestClass tc = new TestClass();
+
+        for (JavaAseefianReflections testedJar : Arrays.asList(partitionedJar, sharedJar)) {
+            testedJar.getFieldValue(tc, "doubleSet");
+            testedJar.getFieldValue(pluginInstance, "doubleSet");
+            assertEquals(2, testedJar.stats().getFieldCacheStats().getLoadCount());
+
+            // invalidating the plugin's class loader leaves the lookups of other class loaders alone
+            testedJar.invalidate(pluginLoader);
+            testedJar.getFieldValue(tc, "doubleSet");
+            assertEquals(2, testedJar.stats().getFieldCacheStats().getLoadCount());
+            testedJar.getFieldValue(pluginInstance, "doubleSet");
+            assertEquals(3, testedJar.stats().getFieldCacheStats().getLoadCount());
+
+            // and so does invalidating a single class
+            testedJar.invalidate(TestClass.class);
+            testedJar.getFieldValue(pluginInstance, "doubleSet");
+            assertEquals(3, testedJar.stats().getFieldCacheStats().getLoadCount());
+            testedJar.getFieldValue(tc, "doubleSet");
+            assertEquals(4, testedJar.stats().getFieldCacheStats().getLoadCount());
+        }
+
+        // once nothing else refers to the plugin, its class loader can be unloaded even though its lookups are still cached
+        sharedJar.invalidate(pluginLoader);
+        WeakReference<ClassLoader> pluginLoaderReference = new WeakReference<>(pluginLoader);
+        pluginLoader.close();
+        pluginLoader = null;
+        pluginInstance = null;
+        for (int i = 0; i < 50 && pluginLoaderReference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull(pluginLoaderReference.get());
+        partitionedJar.getFieldValue(tc, "doubleSet");
+        assertEquals(4, partitionedJar.stats().getFieldCacheStats().getLoadCount());
+    }
+
+    @Test
+    void bulkOperations() {
+        JavaAseefianReflections bulkJar = JavaAseefianReflections.init(new JARConfig().setBulkParallelismThreshold(16));
+        List<Object> targets = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            targets.add(new TestClass(String.valueOf(i)));
+        }
+        targets.add(null);
+        targets.add("not a TestClass");
+        targets.add("neither a TestClass");
+
+        BulkResult<Integer> squares = bulkJar.invokeOnAll(targets, "square", 3);
+        assertEquals(103, squares.size());
+        for (int i = 0; i < 100; i++) {
+            assertTrue(squares.isSuccess(i));
+            assertEquals(9, squares.getResult(i));
+        }
+        // failures are collected per target, without affecting the others
+        assertEquals(3, squares.getFailureCount());
+        assertEquals(new HashSet<>(Arrays.asList(100, 101, 102)), squares.getFailures().keySet());
+        assertEquals(ReflectiveAseefianException.ExceptionType.ILLEGAL_ARGUMENT, ((ReflectiveAseefianException) squares.getFailure(100)).getExceptionType());
+        assertThrows(ReflectiveAseefianException.class, () -> squares.getResult(101));
+        assertNull(squares.getResults().get(101));
+        // the targets of the same class share the failed resolution, but not the exception
+        assertNotSame(squares.getFailure(101), squares.getFailure(102));
+        assertSame(squares.getFailure(101).getCause(), squares.getFailure(102).getCause());
+        assertEquals(ReflectiveAseefianException.ExceptionType.METHOD_NOT_FOUND, ((ReflectiveAseefianException) squares.getFailure(102)).getExceptionType());
+        // the method was resolved once for all of the TestClass targets
+        assertEquals(1, bulkJar.stats().getInvokerCacheStats().getLoadCount());
+
+        BulkResult<String> varArgs = bulkJar.invokeOnAll(targets.subList(0, 50), "doSomething", "a", 1, 2);
+        assertFalse(varArgs.hasFailures());
+        assertEquals(Collections.nCopies(50, "a[1, 2]"), varArgs.getResults());
+
+        BulkResult<Object> errors = bulkJar.invokeOnAll(targets.subList(0, 20), "errorThrowingMethod");
+        assertEquals(20, errors.getFailureCount());
+        assertInstanceOf(NullPointerException.class, errors.getFailure(0).getCause());
+
+        BulkResult<String[]> testArgs = bulkJar.getFieldValueOfAll(targets, "testArgs");
+        for (int i = 0; i < 100; i++) {
+            assertArrayEquals(new String[]{String.valueOf(i)}, testArgs.getResult(i));
+        }
+        assertEquals(3, testArgs.getFailureCount());
+        assertEquals(1, bulkJar.stats().getFieldAccessorCacheStats().getLoadCount());
+    }
+
+}
@@ -0,0 +1,10 @@
+public class MappedTestClass extends SuperTestClass {
+    private static final String IGNORED = "static";
+    private int count;
+    private String name = "default";
+    // hides the field of the super class
+    private String initializeMe;
+    public MappedTestClass() {
+        super("Mapped");
+    }
+}
@@ -0,0 +1,44 @@
+public class OverloadTestClass implements Comparable<OverloadTestClass> {
+
+    public String pick(Object o) {
+        return "Object";
+    }
+
+    public String pick(CharSequence s) {
+        return "CharSequence";
+    }
+
+    public String pick(String s) {
+        return "String";
+    }
+
+    public String number(long l) {
+        return "long";
+    }
+
+    public String number(Integer i) {
+        return "Integer";
+    }
+
+    public String number(Object o) {
+        return "Object";
+    }
+
+    public String join(String... strings) {
+        return "varargs" + strings.length;
+    }
+
+    public String join(String a, String b) {
+        return "fixed";
+    }
+
+    public static String widen(long l) {
+        return "long";
+    }
+
+    @Override
+    public int compareTo(OverloadTestClass o) {
+        return 0;
+    }
+
+}
@@ -0,0 +1,18 @@
+import java.util.Map;
+
+/**
+ * Only ever looked at by the classpath scanner, so it must never be initialized by the tests.
+ */
+public class ScanTestClass {
+
+    static {
+        System.setProperty("ScanTestClass.initialized", "true");
+    }
+
+    private char[][] grid;
+
+    public String[] scanMe(int i, Map<String, Object> map) {
+        return new String[0];
+    }
+
+}
@@ -8,6 +8,7 @@ public class TestClass extends SuperTestClass {
     private final String[] testArgs;
     private Set<Double> doubleSet;
     private List<Integer> integerList;
+    private volatile long counter;
 
     public TestClass(String... testArgs) {
         super("Hi");
@@ -50,8 +51,24 @@ public class TestClass extends SuperTestClass {
         throw new NullPointerException();
     }
 
+    public Object echo(Object o) {
+        return o;
+    }
+
+    public int square(int i) {
+        return i * i;
+    }
+
+    public static boolean isEven(long l) {
+        return l % 2 == 0;
+    }
+
     public static int getRandomNumber() {
         return new Random().nextInt();
     }
 
+    public static int getLuckyNumber() {
+        return 7;
+    }
+
 }